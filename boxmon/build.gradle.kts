@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.2"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.tjoeun"
@@ -29,6 +30,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-webmvc")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation ("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator") // 캐시 적중률 등 메트릭 노출
 
     //test
     testImplementation("org.springframework.boot:spring-boot-starter-data-jpa-test")
@@ -64,6 +66,9 @@ dependencies {
     implementation("com.google.code.gson:gson:2.13.2")
     implementation("org.springframework.boot:spring-boot-starter-restclient")
 
+    //로컬 캐시 (Naver Directions 경로 캐시)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     //Naver Cloud Platform Object Storage를 위한 의존성
     implementation("software.amazon.awssdk:s3:2.32.24")
 
@@ -78,8 +83,18 @@ dependencies {
 
     //Web Soket
     implementation("org.springframework.boot:spring-boot-starter-websocket")
+    implementation("io.projectreactor.netty:reactor-netty") // 외부 STOMP 브로커 릴레이(chat.broker.mode=relay)용 TCP 클라이언트
+    testImplementation("org.apache.activemq:artemis-server") // 멀티 노드 릴레이 테스트용 내장 STOMP 브로커
+    testImplementation("org.apache.activemq:artemis-stomp-protocol")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 마이크로 벤치마크 (./gradlew jmh, 소스: src/jmh/java)
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+}
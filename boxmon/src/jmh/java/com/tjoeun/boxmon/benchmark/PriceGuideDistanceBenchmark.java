@@ -0,0 +1,116 @@
+package com.tjoeun.boxmon.benchmark;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpServer;
+import com.tjoeun.boxmon.feature.shipment.service.ShipmentDistanceEstimator;
+import com.tjoeun.boxmon.global.naver.api.NaverDirectionsApiClient;
+import com.tjoeun.boxmon.global.naver.api.NaverDirectionsRouteCache;
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 운임 가이드 거리 계산 경로별 지연 시간 비교.
+ * - offlineEstimator: haversine × 도로 우회 계수 로컬 추정
+ * - directionsApi: 로컬 스텁 서버를 상대로 한 길찾기 클라이언트 호출 (HTTP + JSON 파싱, 캐시 미적중)
+ * 스텁 서버 지연(apiLatencyMillis)으로 실제 외부 API 왕복 시간을 흉내냅니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PriceGuideDistanceBenchmark {
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+    private static final String DIRECTIONS_RESPONSE = """
+            {"code":0,"message":"길찾기를 성공하였습니다.","route":{"trafast":[{"summary":{"distance":35200,"duration":5400000,"tollFare":2500}}]}}
+            """;
+
+    @Param({"0", "50"})
+    public int apiLatencyMillis;
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private NaverDirectionsApiClient directionsApiClient;
+    private ShipmentDistanceEstimator distanceEstimator;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Point start = GEOMETRY_FACTORY.createPoint(new Coordinate(127.1, 37.5));
+    private final Point goal = GEOMETRY_FACTORY.createPoint(new Coordinate(128.1, 37.6));
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stubExecutor = Executors.newFixedThreadPool(4);
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/driving", exchange -> {
+            try {
+                if (apiLatencyMillis > 0) {
+                    Thread.sleep(apiLatencyMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = DIRECTIONS_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+
+        String apiUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort() + "/driving";
+        NaverDirectionsRouteCache routeCache =
+                new NaverDirectionsRouteCache(Duration.ofMinutes(10), 0, 0.0005, new SimpleMeterRegistry());
+        directionsApiClient = new NaverDirectionsApiClient(
+                "benchmark-id", "benchmark-secret", apiUrl,
+                Duration.ofSeconds(1), Duration.ofSeconds(2),
+                RestClient.builder(), new Gson(), routeCache);
+        // 보정 배치는 실행하지 않으므로 저장소 없이 기본 우회 계수로 생성
+        distanceEstimator = new ShipmentDistanceEstimator(null, 1.3, 30, 5000, 60, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public RouteSummary offlineEstimator() {
+        return distanceEstimator.estimate(start, goal, List.of());
+    }
+
+    @Benchmark
+    public RouteSummary directionsApi() {
+        // 경로 캐시 적중을 피하도록 호출마다 출발지를 격자 간격 이상 이동
+        double offset = (sequence.incrementAndGet() % 10_000) * 0.001;
+        String startParam = (127.1 + offset) + ",37.5";
+        return RouteSummary.from(directionsApiClient.fetchDirections(startParam, "128.1,37.6", List.of()))
+                .orElseThrow();
+    }
+}
@@ -91,6 +91,12 @@ public class ExceptionController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
     }
 
+    // 저장된 위치 데이터를 읽을 수 없을 때 빈 경로 대신 500(Internal Server Error)으로 알림
+    @ExceptionHandler(LocationDataCorruptedException.class)
+    public ResponseEntity<String> locationDataCorruptedException(LocationDataCorruptedException e){
+        return ResponseEntity.internalServerError().body(e.getMessage());
+    }
+
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleException(Exception e){
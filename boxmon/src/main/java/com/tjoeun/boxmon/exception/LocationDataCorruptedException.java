@@ -0,0 +1,7 @@
+package com.tjoeun.boxmon.exception;
+
+public class LocationDataCorruptedException extends RuntimeException {
+    public LocationDataCorruptedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
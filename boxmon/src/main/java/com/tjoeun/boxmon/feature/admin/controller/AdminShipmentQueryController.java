@@ -6,6 +6,7 @@ import com.tjoeun.boxmon.feature.admin.dto.AdminForceCancelRequest;
 import com.tjoeun.boxmon.feature.admin.dto.AdminUnassignedShipmentBasicResponse;
 import com.tjoeun.boxmon.feature.admin.dto.AdminUnassignedShipmentDetailResponse;
 import com.tjoeun.boxmon.feature.admin.service.AdminShipmentService;
+import com.tjoeun.boxmon.global.dto.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,12 +22,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.HttpStatus;
 
-import java.util.List;
-
 /**
  * 관리자용 화물 조회 API를 처리하는 컨트롤러 클래스입니다.
  * 미배차/배차 화물의 basic 목록 조회와 detail 단건 조회를 담당합니다.
@@ -43,7 +43,9 @@ public class AdminShipmentQueryController {
      * 미배차(REQUESTED) 화물 basic 목록을 조회합니다.
      *
      * @param authentication 현재 인증된 관리자 정보 (관리자 ID 추출)
-     * @return 미배차 화물 basic 목록과 HTTP 200 OK 응답
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 미배차 화물 basic 커서 페이지와 HTTP 200 OK 응답
      */
     @Operation(summary = "관리자 미배차 화물 basic 조회", description = "관리자 화면에서 미배차 화물의 기본 목록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "미배차 화물 basic 조회 성공",
@@ -51,11 +53,13 @@ public class AdminShipmentQueryController {
     @ApiResponse(responseCode = "401", description = "인증 실패")
     @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
     @GetMapping("/unassigned/basic")
-    public ResponseEntity<List<AdminUnassignedShipmentBasicResponse>> getUnassignedBasic(
-            Authentication authentication
+    public ResponseEntity<CursorPageResponse<AdminUnassignedShipmentBasicResponse>> getUnassignedBasic(
+            Authentication authentication,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(name = "size", required = false) Integer size
     ) {
         Long adminId = Long.valueOf(authentication.getPrincipal().toString());
-        return ResponseEntity.ok(adminShipmentService.getUnassignedBasic(adminId));
+        return ResponseEntity.ok(adminShipmentService.getUnassignedBasic(adminId, cursor, size));
     }
 
     /**
@@ -84,7 +88,9 @@ public class AdminShipmentQueryController {
      * 미배차(REQUESTED) 화물을 제외한 화물 basic 목록을 조회합니다.
      *
      * @param authentication 현재 인증된 관리자 정보 (관리자 ID 추출)
-     * @return 배차 화물 basic 목록과 HTTP 200 OK 응답
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 배차 화물 basic 커서 페이지와 HTTP 200 OK 응답
      */
     @Operation(summary = "관리자 미배차 화물 제외 basic 조회", description = "관리자 화면에서 미배차 화물을 제외한 화물의 기본 목록을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "배차(요청 제외) 화물 basic 조회 성공",
@@ -92,11 +98,13 @@ public class AdminShipmentQueryController {
     @ApiResponse(responseCode = "401", description = "인증 실패")
     @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
     @GetMapping("/assigned/basic")
-    public ResponseEntity<List<AdminAssignedShipmentBasicResponse>> getAssignedBasic(
-            Authentication authentication
+    public ResponseEntity<CursorPageResponse<AdminAssignedShipmentBasicResponse>> getAssignedBasic(
+            Authentication authentication,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(name = "size", required = false) Integer size
     ) {
         Long adminId = Long.valueOf(authentication.getPrincipal().toString());
-        return ResponseEntity.ok(adminShipmentService.getAssignedBasic(adminId));
+        return ResponseEntity.ok(adminShipmentService.getAssignedBasic(adminId, cursor, size));
     }
 
     /**
@@ -49,4 +49,5 @@ public class AdminAssignedShipmentDetailResponse {
     private Point waypoint2Point;
     private LocalDateTime createdAt;
     private Point currentLocationPoint;
+    private LocalDateTime currentLocationAt;
 }
@@ -5,15 +5,14 @@ import com.tjoeun.boxmon.feature.admin.dto.AdminAssignedShipmentDetailResponse;
 import com.tjoeun.boxmon.feature.admin.dto.AdminForceCancelRequest;
 import com.tjoeun.boxmon.feature.admin.dto.AdminUnassignedShipmentBasicResponse;
 import com.tjoeun.boxmon.feature.admin.dto.AdminUnassignedShipmentDetailResponse;
-
-import java.util.List;
+import com.tjoeun.boxmon.global.dto.CursorPageResponse;
 
 public interface AdminShipmentService {
-    List<AdminUnassignedShipmentBasicResponse> getUnassignedBasic(Long adminId);
+    CursorPageResponse<AdminUnassignedShipmentBasicResponse> getUnassignedBasic(Long adminId, String cursor, Integer size);
 
     AdminUnassignedShipmentDetailResponse getUnassignedDetail(Long adminId, Long shipmentId);
 
-    List<AdminAssignedShipmentBasicResponse> getAssignedBasic(Long adminId);
+    CursorPageResponse<AdminAssignedShipmentBasicResponse> getAssignedBasic(Long adminId, String cursor, Integer size);
 
     AdminAssignedShipmentDetailResponse getAssignedDetail(Long adminId, Long shipmentId);
 
@@ -8,19 +8,25 @@ import com.tjoeun.boxmon.feature.admin.dto.AdminForceCancelRequest;
 import com.tjoeun.boxmon.feature.admin.dto.AdminUnassignedShipmentBasicResponse;
 import com.tjoeun.boxmon.feature.admin.dto.AdminUnassignedShipmentDetailResponse;
 import com.tjoeun.boxmon.feature.admin.repository.AdminRepository;
+import com.tjoeun.boxmon.feature.location.service.LiveLocationRegistry;
+import com.tjoeun.boxmon.feature.location.service.LivePosition;
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
+import com.tjoeun.boxmon.feature.shipment.dto.ShipmentListCursor;
 import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.AdminShipmentListRow;
 import com.tjoeun.boxmon.feature.shipment.service.ShipmentCancelService;
+import com.tjoeun.boxmon.feature.shipment.service.ShipmentDomainSupport;
+import com.tjoeun.boxmon.global.dto.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
 import org.locationtech.jts.geom.Point;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,16 +36,20 @@ public class AdminShipmentServiceImpl implements AdminShipmentService {
     private final AdminRepository adminRepository;
     private final ShipmentRepository shipmentRepository;
     private final ShipmentCancelService shipmentCancelService;
+    private final ShipmentDomainSupport shipmentDomainSupport;
+    private final LiveLocationRegistry liveLocationRegistry;
 
     @Override
-    public List<AdminUnassignedShipmentBasicResponse> getUnassignedBasic(Long adminId) {
-        // 관리자 권한 검증 후, 미배차(REQUESTED) 화물 목록을 basic 응답으로 변환한다.
+    public CursorPageResponse<AdminUnassignedShipmentBasicResponse> getUnassignedBasic(Long adminId, String cursor, Integer size) {
+        // 관리자 권한 검증 후, 미배차(REQUESTED) 화물 목록을 최신순 커서 페이지로 조회해 basic 응답으로 변환한다.
         validateAdminAccess(adminId);
+        int pageSize = shipmentDomainSupport.resolvePageSize(size);
+        ShipmentListCursor listCursor = ShipmentListCursor.from(cursor);
 
-        List<Shipment> shipments = shipmentRepository.findByShipmentStatusOrderByCreatedAtDesc(ShipmentStatus.REQUESTED);
-        return shipments.stream()
-                .map(this::toBasicResponse)
-                .collect(Collectors.toList());
+        List<AdminShipmentListRow> rows = shipmentRepository.findAdminListPageByShipmentStatus(
+                ShipmentStatus.REQUESTED, listCursor.createdAt(), listCursor.shipmentId(), PageRequest.ofSize(pageSize + 1));
+        return CursorPageResponse.of(rows, pageSize, row -> ShipmentListCursor.encode(row.createdAt(), row.shipmentId()))
+                .map(this::toBasicResponse);
     }
 
     @Override
@@ -54,14 +64,16 @@ public class AdminShipmentServiceImpl implements AdminShipmentService {
     }
 
     @Override
-    public List<AdminAssignedShipmentBasicResponse> getAssignedBasic(Long adminId) {
-        // 관리자 권한 검증 후, 미배차(REQUESTED) 제외 화물 목록을 basic 응답으로 변환한다.
+    public CursorPageResponse<AdminAssignedShipmentBasicResponse> getAssignedBasic(Long adminId, String cursor, Integer size) {
+        // 관리자 권한 검증 후, 미배차(REQUESTED) 제외 화물 목록을 최신순 커서 페이지로 조회해 basic 응답으로 변환한다.
         validateAdminAccess(adminId);
+        int pageSize = shipmentDomainSupport.resolvePageSize(size);
+        ShipmentListCursor listCursor = ShipmentListCursor.from(cursor);
 
-        List<Shipment> shipments = shipmentRepository.findByShipmentStatusNotOrderByCreatedAtDesc(ShipmentStatus.REQUESTED);
-        return shipments.stream()
-                .map(this::toAssignedBasicResponse)
-                .collect(Collectors.toList());
+        List<AdminShipmentListRow> rows = shipmentRepository.findAdminListPageByShipmentStatusNot(
+                ShipmentStatus.REQUESTED, listCursor.createdAt(), listCursor.shipmentId(), PageRequest.ofSize(pageSize + 1));
+        return CursorPageResponse.of(rows, pageSize, row -> ShipmentListCursor.encode(row.createdAt(), row.shipmentId()))
+                .map(this::toAssignedBasicResponse);
     }
 
     @Override
@@ -89,13 +101,13 @@ public class AdminShipmentServiceImpl implements AdminShipmentService {
         }
     }
 
-    private AdminUnassignedShipmentBasicResponse toBasicResponse(Shipment shipment) {
-        // 미배차 목록 화면에 필요한 핵심 필드만 매핑한다.
+    private AdminUnassignedShipmentBasicResponse toBasicResponse(AdminShipmentListRow row) {
+        // 미배차 목록 화면에 필요한 핵심 필드만 매핑한다. (화주 이름은 조회 시 조인으로 가져온다)
         return AdminUnassignedShipmentBasicResponse.builder()
-                .shipmentId(shipment.getShipmentId())
-                .shipperName(shipment.getShipper().getUser().getName())
-                .pickupAddress(shipment.getPickupAddress())
-                .dropoffAddress(shipment.getDropoffAddress())
+                .shipmentId(row.shipmentId())
+                .shipperName(row.shipperName())
+                .pickupAddress(row.pickupAddress())
+                .dropoffAddress(row.dropoffAddress())
                 .build();
     }
 
@@ -132,19 +144,21 @@ public class AdminShipmentServiceImpl implements AdminShipmentService {
         return value.setScale(0, RoundingMode.HALF_UP);
     }
 
-    private AdminAssignedShipmentBasicResponse toAssignedBasicResponse(Shipment shipment) {
-        // 배차 목록 화면에 필요한 필드와 현재 상태를 매핑한다.
+    private AdminAssignedShipmentBasicResponse toAssignedBasicResponse(AdminShipmentListRow row) {
+        // 배차 목록 화면에 필요한 필드와 현재 상태를 매핑한다. (기사 미배정 건은 LEFT JOIN으로 null)
         return AdminAssignedShipmentBasicResponse.builder()
-                .shipmentId(shipment.getShipmentId())
-                .driverName(shipment.getDriver() != null ? shipment.getDriver().getUser().getName() : null)
-                .pickupAddress(shipment.getPickupAddress())
-                .dropoffAddress(shipment.getDropoffAddress())
-                .shipmentStatus(shipment.getShipmentStatus())
+                .shipmentId(row.shipmentId())
+                .driverName(row.driverName())
+                .pickupAddress(row.pickupAddress())
+                .dropoffAddress(row.dropoffAddress())
+                .shipmentStatus(row.shipmentStatus())
                 .build();
     }
 
     private AdminAssignedShipmentDetailResponse toAssignedDetailResponse(Shipment shipment) {
         // 배차 상세는 Shipment 테이블 컬럼 전체를 그대로 노출하는 방향으로 매핑한다.
+        // 현재 위치만 예외로, 주기 반영 전의 최신 값이 있으면 실시간 위치 저장소 값을 쓴다.
+        LivePosition livePosition = liveLocationRegistry.find(shipment.getShipmentId()).orElse(null);
         return AdminAssignedShipmentDetailResponse.builder()
                 .shipmentId(shipment.getShipmentId())
                 .shipperId(shipment.getShipper() != null ? shipment.getShipper().getShipperId() : null)
@@ -181,7 +195,10 @@ public class AdminShipmentServiceImpl implements AdminShipmentService {
                 .waypoint1Point(convertToSpringPoint(shipment.getWaypoint1Point()))
                 .waypoint2Point(convertToSpringPoint(shipment.getWaypoint2Point()))
                 .createdAt(shipment.getCreatedAt())
-                .currentLocationPoint(convertToSpringPoint(shipment.getCurrentLocationPoint()))
+                .currentLocationPoint(livePosition != null
+                        ? livePosition.toSpringPoint()
+                        : convertToSpringPoint(shipment.getCurrentLocationPoint()))
+                .currentLocationAt(livePosition != null ? livePosition.recordedAt() : null)
                 .build();
     }
 
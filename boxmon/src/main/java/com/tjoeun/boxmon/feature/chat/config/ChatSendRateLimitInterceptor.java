@@ -0,0 +1,103 @@
+package com.tjoeun.boxmon.feature.chat.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 STOMP SEND 빈도를 제한합니다. (토큰 버킷: 초당 per-second개 충전, 최대 burst개 보관)
+ * 한도를 넘은 SEND는 채널 executor에 들어가기 전에 버려지므로 한 세션의 폭주가 다른 세션의 처리를 밀어내지 않습니다.
+ * 전송 버퍼/시간 한도를 넘어 서버가 끊은 느린 세션 수도 함께 집계합니다.
+ */
+@Slf4j
+@Component
+public class ChatSendRateLimitInterceptor implements ChannelInterceptor {
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Counter rateLimitedCounter;
+    private final Counter slowSessionCounter;
+
+    public ChatSendRateLimitInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${chat.stomp.send-rate.per-second:5}") double permitsPerSecond,
+            @Value("${chat.stomp.send-rate.burst:20}") double burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.rateLimitedCounter = meterRegistry.counter("stomp.inbound.rate-limited");
+        this.slowSessionCounter = meterRegistry.counter("stomp.session.slow-closed");
+        meterRegistry.gaugeMapSize("stomp.session.rate-limit.size", List.of(), buckets);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getSessionId() == null) {
+            return message;
+        }
+
+        if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            buckets.remove(accessor.getSessionId());
+            return message;
+        }
+        if (!StompCommand.SEND.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        TokenBucket bucket = buckets.computeIfAbsent(accessor.getSessionId(), key -> new TokenBucket(burst, System.nanoTime()));
+        if (!bucket.tryAcquire(System.nanoTime(), permitsPerSecond, burst)) {
+            rateLimitedCounter.increment();
+            log.debug("STOMP 전송 한도 초과로 메시지를 버립니다. sessionId={}, destination={}",
+                    accessor.getSessionId(), accessor.getDestination());
+            return null;
+        }
+        return message;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        buckets.remove(event.getSessionId());
+        // 전송 버퍼/시간 한도 초과로 서버가 끊은 세션
+        if (CloseStatus.SESSION_NOT_RELIABLE.equals(event.getCloseStatus())) {
+            slowSessionCounter.increment();
+            log.info("느린 STOMP 세션을 종료했습니다. sessionId={}", event.getSessionId());
+        }
+    }
+
+    static final class TokenBucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(double tokens, long nowNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        synchronized boolean tryAcquire(long nowNanos, double permitsPerSecond, double capacity) {
+            double elapsedSeconds = (nowNanos - lastRefillNanos) / 1_000_000_000.0;
+            tokens = Math.min(capacity, tokens + elapsedSeconds * permitsPerSecond);
+            lastRefillNanos = nowNanos;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.tjoeun.boxmon.feature.chat.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * 목적지 접두사를 다른 접두사로 바꿔 전달합니다.
+ * relay 모드에서 클라이언트/애플리케이션이 쓰는 /sub/... 목적지를 외부 브로커가 발행/구독으로 처리하는
+ * 접두사(예: /topic/...)로 바꾸고, 브로커가 보낸 MESSAGE는 다시 /sub/...로 되돌리는 데 사용합니다.
+ * 구독 권한 검사 인터셉터가 원래 목적지를 보도록 inbound 채널에서는 인터셉터 목록의 뒤쪽에 등록해야 합니다.
+ */
+class RelayDestinationPrefixInterceptor implements ChannelInterceptor {
+
+    private final String sourcePrefix;
+    private final String targetPrefix;
+
+    RelayDestinationPrefixInterceptor(String sourcePrefix, String targetPrefix) {
+        // "/sub"가 "/subscription..." 같은 목적지까지 바꾸지 않도록 구분자까지 포함해 비교
+        this.sourcePrefix = withTrailingSlash(sourcePrefix);
+        this.targetPrefix = withTrailingSlash(targetPrefix);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null || !destination.startsWith(sourcePrefix)) {
+            return message;
+        }
+        // STOMP 프레임이면 native destination 헤더도 함께 바뀌도록 원래 accessor 타입을 유지
+        SimpMessageHeaderAccessor simpAccessor =
+                MessageHeaderAccessor.getMutableAccessor(message) instanceof SimpMessageHeaderAccessor mutable
+                        ? mutable
+                        : SimpMessageHeaderAccessor.wrap(message);
+        simpAccessor.setDestination(targetPrefix + destination.substring(sourcePrefix.length()));
+        return MessageBuilder.createMessage(message.getPayload(), simpAccessor.getMessageHeaders());
+    }
+
+    private static String withTrailingSlash(String prefix) {
+        return prefix.endsWith("/") ? prefix : prefix + "/";
+    }
+}
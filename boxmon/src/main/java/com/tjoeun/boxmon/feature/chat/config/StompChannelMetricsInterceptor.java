@@ -0,0 +1,72 @@
+package com.tjoeun.boxmon.feature.chat.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP 채널의 대기/처리 중 메시지 수를 측정합니다.
+ * 채널은 구독 핸들러마다 작업을 하나씩 executor에 넘기므로 (메시지 × 핸들러) 작업 단위로 셉니다.
+ * 넘겨진 뒤 처리 시작 전까지를 대기(queued)로 보므로 플랫폼 스레드 풀/가상 스레드 어느 쪽을 쓰든 같은 지표로 적체를 확인할 수 있습니다.
+ * 다른 인터셉터가 거부한 메시지를 세지 않도록 채널 인터셉터 목록의 마지막에 등록해야 합니다.
+ * executor 거부 시에는 일부 작업만 넘어갔을 수 있어 근사값이 되며, 음수로 내려가지 않도록 0에서 멈춥니다.
+ */
+class StompChannelMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejected;
+
+    StompChannelMetricsInterceptor(MeterRegistry meterRegistry, String channelName) {
+        Gauge.builder("stomp.channel.queued", queued, AtomicInteger::get)
+                .tag("channel", channelName)
+                .register(meterRegistry);
+        Gauge.builder("stomp.channel.active", active, AtomicInteger::get)
+                .tag("channel", channelName)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("stomp.channel.rejected")
+                .tag("channel", channelName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        queued.addAndGet(taskCount(channel));
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // executor가 거부한 경우 처리 단계로 넘어가지 않으므로 대기 수만 되돌림
+        if (!sent || ex != null) {
+            rejected.increment();
+            int tasks = taskCount(channel);
+            queued.updateAndGet(value -> Math.max(0, value - tasks));
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        queued.updateAndGet(value -> Math.max(0, value - 1));
+        active.incrementAndGet();
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        active.updateAndGet(value -> Math.max(0, value - 1));
+    }
+
+    private int taskCount(MessageChannel channel) {
+        return channel instanceof AbstractSubscribableChannel subscribable
+                ? subscribable.getSubscribers().size()
+                : 1;
+    }
+}
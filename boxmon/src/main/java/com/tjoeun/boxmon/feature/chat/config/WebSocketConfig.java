@@ -1,23 +1,137 @@
 package com.tjoeun.boxmon.feature.chat.config;
 
-import lombok.RequiredArgsConstructor;
+import com.tjoeun.boxmon.feature.location.config.LocationSubscriptionInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.time.Duration;
+
+/**
+ * STOMP 설정.
+ * chat.broker.mode=simple(기본)은 JVM 내장 브로커를 사용해 같은 인스턴스에 연결된 구독자에게만 전달되고,
+ * chat.broker.mode=relay는 외부 STOMP 브로커로 /sub 목적지를 중계해
+ * 어느 인스턴스에 연결된 구독자든 메시지를 받을 수 있습니다. (여러 인스턴스 운영 시 relay 필요)
+ * <p>
+ * 브로커마다 발행/구독으로 처리하는 목적지 형식이 달라, relay 모드에서는 클라이언트/애플리케이션이 쓰는 /sub/...를
+ * chat.broker.relay.destination-prefix(기본 /topic)로 바꿔 중계하고 브로커가 보낸 MESSAGE는 다시 /sub/...로 되돌립니다.
+ * <ul>
+ *     <li>RabbitMQ STOMP 플러그인: 기본값(/topic) 그대로 사용합니다. /sub/... 같은 임의 목적지는 거부됩니다.</li>
+ *     <li>ActiveMQ Artemis: STOMP acceptor에 multicastPrefix=/topic/을 설정합니다.
+ *     (접두사를 /sub로 두면 변환 없이 중계되며 이 경우 multicastPrefix=/sub/)</li>
+ * </ul>
+ *
+ * 클라이언트 inbound/outbound 채널은 크기가 제한된 스레드 풀(또는 동시 실행 수가 제한된 가상 스레드)을 사용하고,
+ * 풀과 대기열이 모두 차면 메시지를 거부해 적체가 무한히 쌓이지 않도록 합니다.
+ * 느린 구독자는 전송 버퍼/시간 한도를 넘으면 세션이 종료됩니다.
+ */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
-@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    static final String BROKER_PREFIX = "/sub";
+    private static final String SIMPLE_MODE = "simple";
+    private static final String RELAY_MODE = "relay";
 
     private final ChatPrincipalChannelInterceptor chatPrincipalChannelInterceptor;
+    private final LocationSubscriptionInterceptor locationSubscriptionInterceptor;
+    private final ChatSendRateLimitInterceptor chatSendRateLimitInterceptor;
+    private final MeterRegistry meterRegistry;
+    private final String brokerMode;
+    private final String relayHost;
+    private final int relayPort;
+    private final String relayLogin;
+    private final String relayPasscode;
+    private final String relayVirtualHost;
+    private final String relayDestinationPrefix;
+    private final ChannelPool inboundPool;
+    private final ChannelPool outboundPool;
+    private final boolean virtualThreads;
+    private final int virtualConcurrencyLimit;
+    private final DataSize messageSizeLimit;
+    private final DataSize sendBufferSizeLimit;
+    private final Duration sendTimeLimit;
+
+    public WebSocketConfig(
+            ChatPrincipalChannelInterceptor chatPrincipalChannelInterceptor,
+            LocationSubscriptionInterceptor locationSubscriptionInterceptor,
+            ChatSendRateLimitInterceptor chatSendRateLimitInterceptor,
+            MeterRegistry meterRegistry,
+            @Value("${chat.broker.mode:simple}") String brokerMode,
+            @Value("${chat.broker.relay.host:localhost}") String relayHost,
+            @Value("${chat.broker.relay.port:61613}") int relayPort,
+            @Value("${chat.broker.relay.login:guest}") String relayLogin,
+            @Value("${chat.broker.relay.passcode:guest}") String relayPasscode,
+            @Value("${chat.broker.relay.virtual-host:}") String relayVirtualHost,
+            @Value("${chat.broker.relay.destination-prefix:/topic}") String relayDestinationPrefix,
+            @Value("${chat.stomp.inbound.core-pool-size:8}") int inboundCorePoolSize,
+            @Value("${chat.stomp.inbound.max-pool-size:32}") int inboundMaxPoolSize,
+            @Value("${chat.stomp.inbound.queue-capacity:1000}") int inboundQueueCapacity,
+            @Value("${chat.stomp.outbound.core-pool-size:8}") int outboundCorePoolSize,
+            @Value("${chat.stomp.outbound.max-pool-size:32}") int outboundMaxPoolSize,
+            @Value("${chat.stomp.outbound.queue-capacity:2000}") int outboundQueueCapacity,
+            @Value("${chat.stomp.virtual-threads:false}") boolean virtualThreads,
+            @Value("${chat.stomp.virtual-concurrency-limit:256}") int virtualConcurrencyLimit,
+            @Value("${chat.stomp.message-size-limit:64KB}") DataSize messageSizeLimit,
+            @Value("${chat.stomp.send-buffer-size-limit:256KB}") DataSize sendBufferSizeLimit,
+            @Value("${chat.stomp.send-time-limit:PT5S}") Duration sendTimeLimit) {
+        this.chatPrincipalChannelInterceptor = chatPrincipalChannelInterceptor;
+        this.locationSubscriptionInterceptor = locationSubscriptionInterceptor;
+        this.chatSendRateLimitInterceptor = chatSendRateLimitInterceptor;
+        this.meterRegistry = meterRegistry;
+        this.brokerMode = brokerMode.trim().toLowerCase();
+        this.relayHost = relayHost;
+        this.relayPort = relayPort;
+        this.relayLogin = relayLogin;
+        this.relayPasscode = relayPasscode;
+        this.relayVirtualHost = relayVirtualHost;
+        this.relayDestinationPrefix = trimTrailingSlash(relayDestinationPrefix.trim());
+        this.inboundPool = new ChannelPool(inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
+        this.outboundPool = new ChannelPool(outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+        this.virtualThreads = virtualThreads;
+        this.virtualConcurrencyLimit = virtualConcurrencyLimit;
+        this.messageSizeLimit = messageSizeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.sendTimeLimit = sendTimeLimit;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/sub");
+        switch (brokerMode) {
+            case SIMPLE_MODE -> config.enableSimpleBroker(BROKER_PREFIX);
+            case RELAY_MODE -> {
+                StompBrokerRelayRegistration relay = config.enableStompBrokerRelay(relayDestinationPrefix)
+                        .setRelayHost(relayHost)
+                        .setRelayPort(relayPort)
+                        // 클라이언트 세션별 연결과 서버 발행용 시스템 연결에 같은 계정을 사용
+                        .setClientLogin(relayLogin)
+                        .setClientPasscode(relayPasscode)
+                        .setSystemLogin(relayLogin)
+                        .setSystemPasscode(relayPasscode);
+                if (!relayVirtualHost.isBlank()) {
+                    relay.setVirtualHost(relayVirtualHost);
+                }
+                if (mapsRelayDestination()) {
+                    // 애플리케이션이 발행하는 /sub/... 메시지도 릴레이가 처리하기 전에 브로커 목적지로 변환
+                    config.configureBrokerChannel().interceptors(
+                            new RelayDestinationPrefixInterceptor(BROKER_PREFIX, relayDestinationPrefix));
+                }
+                log.info("STOMP 브로커 릴레이 모드 사용: {}:{} ({} → {})",
+                        relayHost, relayPort, BROKER_PREFIX, relayDestinationPrefix);
+            }
+            default -> throw new IllegalStateException(
+                    "chat.broker.mode 값은 simple 또는 relay 이어야 합니다. (현재: " + brokerMode + ")");
+        }
         config.setApplicationDestinationPrefixes("/pub");
     }
 
@@ -28,8 +142,60 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS();
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit((int) messageSizeLimit.toBytes())
+                .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+                .setSendTimeLimit((int) sendTimeLimit.toMillis());
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(chatPrincipalChannelInterceptor);
+        configureExecutor(registration, "stomp-inbound-", inboundPool);
+        // CONNECT에서 세션 사용자 정보를 채운 뒤 전송 한도/SUBSCRIBE 권한을 검사하도록 순서 유지 (지표는 통과한 메시지만 집계)
+        registration.interceptors(
+                chatPrincipalChannelInterceptor,
+                chatSendRateLimitInterceptor,
+                locationSubscriptionInterceptor);
+        // 권한 검사가 끝난 뒤 브로커 목적지로 변환
+        if (mapsRelayDestination()) {
+            registration.interceptors(new RelayDestinationPrefixInterceptor(BROKER_PREFIX, relayDestinationPrefix));
+        }
+        registration.interceptors(new StompChannelMetricsInterceptor(meterRegistry, "inbound"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, "stomp-outbound-", outboundPool);
+        if (mapsRelayDestination()) {
+            registration.interceptors(new RelayDestinationPrefixInterceptor(relayDestinationPrefix, BROKER_PREFIX));
+        }
+        registration.interceptors(new StompChannelMetricsInterceptor(meterRegistry, "outbound"));
+    }
+
+    private boolean mapsRelayDestination() {
+        return RELAY_MODE.equals(brokerMode) && !BROKER_PREFIX.equals(relayDestinationPrefix);
+    }
+
+    private static String trimTrailingSlash(String prefix) {
+        return prefix.length() > 1 && prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+    }
+
+    private void configureExecutor(ChannelRegistration registration, String threadNamePrefix, ChannelPool pool) {
+        if (virtualThreads) {
+            // 가상 스레드는 대기열 없이 바로 실행되므로 동시 실행 수 제한으로 호출 측을 대기시켜 적체를 막음
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            registration.executor(executor);
+            return;
+        }
+        registration.taskExecutor()
+                .corePoolSize(pool.corePoolSize())
+                .maxPoolSize(pool.maxPoolSize())
+                .queueCapacity(pool.queueCapacity());
+    }
+
+    private record ChannelPool(int corePoolSize, int maxPoolSize, int queueCapacity) {
     }
 }
@@ -3,7 +3,6 @@ package com.tjoeun.boxmon.feature.chat.controller;
 import com.tjoeun.boxmon.feature.chat.domain.ChatSenderRole;
 import com.tjoeun.boxmon.feature.chat.dto.ChatHistoryResponse;
 import com.tjoeun.boxmon.feature.chat.dto.ChatImageUploadResponse;
-import com.tjoeun.boxmon.feature.chat.dto.ChatMessageResponse;
 import com.tjoeun.boxmon.feature.chat.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -14,11 +13,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/chat")
 @RequiredArgsConstructor
@@ -33,16 +31,19 @@ public class ChatRestController {
     /**
      * 특정 운송건 채팅 이력을 조회합니다.
      * 헤더의 사용자 정보(X-USER-ID, X-USER-ROLE)로 참여자 권한을 검증합니다.
+     * before(과거 페이지) 또는 after(재연결 시 증분 동기화) chatId 커서와 limit으로 범위를 지정합니다.
      */
     @GetMapping("/{shipmentId}/messages")
     public ResponseEntity<ChatHistoryResponse> getMessages(
             @PathVariable Long shipmentId,
             @RequestHeader("X-USER-ID") Long userId,
-            @RequestHeader("X-USER-ROLE") String userRole
+            @RequestHeader("X-USER-ROLE") String userRole,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit
     ) {
         ChatSenderRole role = ChatSenderRole.from(userRole);
-        List<ChatMessageResponse> messages = chatService.getMessages(shipmentId, userId, role);
-        return ResponseEntity.ok(new ChatHistoryResponse(messages));
+        return ResponseEntity.ok(chatService.getMessages(shipmentId, userId, role, before, after, limit));
     }
 
     /**
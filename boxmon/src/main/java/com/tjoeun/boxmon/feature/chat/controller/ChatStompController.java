@@ -4,6 +4,7 @@ import com.tjoeun.boxmon.exception.ChatValidationException;
 import com.tjoeun.boxmon.feature.chat.domain.ChatSenderRole;
 import com.tjoeun.boxmon.feature.chat.dto.ChatMessageResponse;
 import com.tjoeun.boxmon.feature.chat.dto.ChatSendRequest;
+import com.tjoeun.boxmon.feature.chat.service.ChatRoomPresenceRegistry;
 import com.tjoeun.boxmon.feature.chat.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -41,6 +42,6 @@ public class ChatStompController {
         }
 
         ChatMessageResponse response = chatService.sendMessage(shipmentId, userId, senderRole, request);
-        messagingTemplate.convertAndSend("/sub/chat.room." + shipmentId, response);
+        messagingTemplate.convertAndSend(ChatRoomPresenceRegistry.ROOM_TOPIC_PREFIX + shipmentId, response);
     }
 }
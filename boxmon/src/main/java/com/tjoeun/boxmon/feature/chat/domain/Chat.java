@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -21,7 +22,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "CHAT")
+@Table(name = "CHAT", indexes = {
+        // 운송건별 채팅 커서(before/after chatId) 조회용
+        @Index(name = "idx_chat_shipment_chat", columnList = "shipment_id, chat_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,6 +41,10 @@ public class Chat {
     @JoinColumn(name = "shipment_id", nullable = false)
     private Shipment shipment;
 
+    // 연관 프록시를 초기화하지 않고 운송건 ID를 읽기 위한 FK 컬럼 읽기 전용 매핑
+    @Column(name = "shipment_id", insertable = false, updatable = false)
+    private Long shipmentId;
+
     @Column(name = "sender_id", nullable = false)
     private Long senderId;
 
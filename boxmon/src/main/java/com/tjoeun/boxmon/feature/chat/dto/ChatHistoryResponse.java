@@ -5,8 +5,13 @@ import lombok.Getter;
 
 import java.util.List;
 
+/**
+ * 채팅 이력 응답. messages는 항상 chatId 오름차순입니다.
+ * hasMore는 최초/before 조회면 더 과거 메시지가, after 조회면 더 최신 메시지가 남아 있는지 나타냅니다.
+ */
 @Getter
 @AllArgsConstructor
 public class ChatHistoryResponse {
     private List<ChatMessageResponse> messages;
+    private boolean hasMore;
 }
@@ -1,6 +1,7 @@
 package com.tjoeun.boxmon.feature.chat.repository;
 
 import com.tjoeun.boxmon.feature.chat.domain.Chat;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +9,12 @@ import java.util.List;
 
 @Repository
 public interface ChatRepository extends JpaRepository<Chat, Long> {
-    List<Chat> findByShipment_ShipmentIdOrderByCreatedAtAscChatIdAsc(Long shipmentId);
+    // 최신 메시지부터 (첫 진입)
+    List<Chat> findByShipment_ShipmentIdOrderByChatIdDesc(Long shipmentId, Pageable pageable);
+
+    // before 커서보다 과거 메시지 (위로 스크롤)
+    List<Chat> findByShipment_ShipmentIdAndChatIdLessThanOrderByChatIdDesc(Long shipmentId, Long beforeChatId, Pageable pageable);
+
+    // after 커서 이후 메시지 (재연결 시 증분 동기화)
+    List<Chat> findByShipment_ShipmentIdAndChatIdGreaterThanOrderByChatIdAsc(Long shipmentId, Long afterChatId, Pageable pageable);
 }
@@ -0,0 +1,182 @@
+package com.tjoeun.boxmon.feature.chat.service;
+
+import com.tjoeun.boxmon.feature.notification.service.NotificationUseCase;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.ShipmentParticipants;
+import com.tjoeun.boxmon.feature.shipment.service.ShipmentParticipantsCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 알림을 전송 경로 밖에서 발송합니다.
+ * 메시지 저장 트랜잭션이 커밋된 뒤 (채팅방, 수신자)별로 모아 두었다가,
+ * 마지막 메시지 이후 coalesce-window 동안 조용하거나 첫 메시지 이후 max-wait가 지나면 "새 채팅 N개" 알림 한 건으로 발송합니다.
+ * 수신자가 채팅방을 구독 중이면 메시지를 이미 보고 있으므로 알림을 만들지 않습니다.
+ * 대기열이 가득 차면 알림만 버리고 채팅 전송은 그대로 성공시킵니다.
+ */
+@Slf4j
+@Component
+public class ChatNotificationDispatcher {
+
+    private final NotificationUseCase notificationUseCase;
+    private final ShipmentParticipantsCache participantsCache;
+    private final ChatRoomPresenceRegistry presenceRegistry;
+    private final long coalesceWindowMillis;
+    private final long maxWaitMillis;
+    private final ThreadPoolExecutor executor;
+    private final Map<PendingKey, PendingPush> pending = new ConcurrentHashMap<>();
+    private final Counter suppressedCounter;
+
+    public ChatNotificationDispatcher(
+            NotificationUseCase notificationUseCase,
+            ShipmentParticipantsCache participantsCache,
+            ChatRoomPresenceRegistry presenceRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${chat.notification.coalesce-window:PT5S}") Duration coalesceWindow,
+            @Value("${chat.notification.max-wait:PT30S}") Duration maxWait,
+            @Value("${chat.notification.threads:2}") int threads,
+            @Value("${chat.notification.queue-capacity:1000}") int queueCapacity) {
+        this.notificationUseCase = notificationUseCase;
+        this.participantsCache = participantsCache;
+        this.presenceRegistry = presenceRegistry;
+        this.coalesceWindowMillis = coalesceWindow.toMillis();
+        this.maxWaitMillis = maxWait.toMillis();
+        this.suppressedCounter = meterRegistry.counter("chat.notification.suppressed");
+        meterRegistry.gaugeMapSize("chat.notification.pending", List.of(), pending);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "chat-notification-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에, 아니면 즉시 알림 대상으로 등록합니다. 롤백된 메시지는 알리지 않습니다.
+     */
+    public void dispatchAfterCommit(Long shipmentId, Long senderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(shipmentId, senderId, System.currentTimeMillis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(shipmentId, senderId, System.currentTimeMillis());
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${chat.notification.flush-interval:PT1S}")
+    public void flush() {
+        flush(System.currentTimeMillis());
+    }
+
+    void record(Long shipmentId, Long senderId, long nowMillis) {
+        Long recipientId = participantsCache.find(shipmentId)
+                .map(participants -> resolveRecipientId(participants, senderId))
+                .orElse(null);
+        if (recipientId == null) {
+            return;
+        }
+        if (presenceRegistry.isPresent(shipmentId, recipientId)) {
+            suppressedCounter.increment();
+            return;
+        }
+        pending.compute(new PendingKey(shipmentId, recipientId),
+                (key, push) -> push == null ? new PendingPush(1, nowMillis, nowMillis) : push.add(nowMillis));
+    }
+
+    void flush(long nowMillis) {
+        List<Map.Entry<PendingKey, PendingPush>> due = new ArrayList<>();
+        for (Map.Entry<PendingKey, PendingPush> entry : pending.entrySet()) {
+            if (entry.getValue().isDue(nowMillis, coalesceWindowMillis, maxWaitMillis)
+                    && pending.remove(entry.getKey(), entry.getValue())) {
+                due.add(entry);
+            }
+        }
+        for (Map.Entry<PendingKey, PendingPush> entry : due) {
+            PendingKey key = entry.getKey();
+            // 모으는 동안 채팅방에 들어왔다면 이미 읽었으므로 생략
+            if (presenceRegistry.isPresent(key.shipmentId(), key.recipientId())) {
+                suppressedCounter.increment();
+                continue;
+            }
+            submit(key, entry.getValue().count());
+        }
+    }
+
+    private void submit(PendingKey key, int count) {
+        try {
+            executor.execute(() -> {
+                try {
+                    notificationUseCase.notifyChatMessages(key.shipmentId(), key.recipientId(), count);
+                } catch (Exception e) {
+                    log.warn("채팅 전송은 성공했지만 알림 전송은 건너뜁니다. shipmentId={}", key.shipmentId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("채팅 알림 대기열이 가득 차 알림을 건너뜁니다. shipmentId={}", key.shipmentId());
+        }
+    }
+
+    // 화주가 보냈으면 차주(미배차면 null), 그 외에는 화주
+    private Long resolveRecipientId(ShipmentParticipants participants, Long senderId) {
+        if (participants.shipperId() != null && participants.shipperId().equals(senderId)) {
+            return participants.driverId();
+        }
+        return participants.shipperId();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 종료 시점에 모아 둔 알림은 대기 시간과 관계없이 발송 시도
+        flush(Long.MAX_VALUE);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PendingKey(Long shipmentId, Long recipientId) {
+    }
+
+    private record PendingPush(int count, long firstAtMillis, long lastAtMillis) {
+        PendingPush add(long nowMillis) {
+            return new PendingPush(count + 1, firstAtMillis, nowMillis);
+        }
+
+        boolean isDue(long nowMillis, long windowMillis, long maxWaitMillis) {
+            return nowMillis - lastAtMillis >= windowMillis || nowMillis - firstAtMillis >= maxWaitMillis;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.tjoeun.boxmon.feature.chat.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방(/sub/chat.room.{shipmentId})을 지금 구독 중인 사용자 목록.
+ * STOMP 세션의 SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 이벤트로 갱신하며, 채팅 푸시 생략 여부 판단에 사용합니다.
+ * 이 인스턴스에 연결된 세션만 알 수 있으므로, 다른 인스턴스에서 보고 있는 사용자는 부재로 판단되어 푸시가 발송됩니다.
+ */
+@Component
+public class ChatRoomPresenceRegistry {
+    public static final String ROOM_TOPIC_PREFIX = "/sub/chat.room.";
+
+    // sessionId → (subscriptionId → 구독 중인 채팅방)
+    private final Map<String, Map<String, RoomMember>> sessions = new ConcurrentHashMap<>();
+    // 같은 사용자가 여러 기기/탭에서 구독할 수 있으므로 구독 수로 관리
+    private final Map<RoomMember, Integer> subscriptionCounts = new ConcurrentHashMap<>();
+
+    public ChatRoomPresenceRegistry(MeterRegistry meterRegistry) {
+        meterRegistry.gaugeMapSize("chat.presence.size", List.of(), subscriptionCounts);
+    }
+
+    public boolean isPresent(Long shipmentId, Long userId) {
+        return subscriptionCounts.containsKey(new RoomMember(shipmentId, userId));
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long shipmentId = parseShipmentId(accessor.getDestination());
+        Long userId = resolveUserId(event.getMessage());
+        if (shipmentId == null || userId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), new RoomMember(shipmentId, userId));
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, RoomMember> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.values().forEach(this::decrement);
+    }
+
+    void subscribe(String sessionId, String subscriptionId, RoomMember member) {
+        RoomMember previous = sessions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, member);
+        if (previous != null) {
+            decrement(previous);
+        }
+        subscriptionCounts.merge(member, 1, Integer::sum);
+    }
+
+    void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, RoomMember> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        RoomMember member = subscriptions.remove(subscriptionId);
+        if (member != null) {
+            decrement(member);
+        }
+    }
+
+    private void decrement(RoomMember member) {
+        subscriptionCounts.computeIfPresent(member, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private Long parseShipmentId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(ROOM_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Long resolveUserId(Message<?> message) {
+        Map<String, Object> attributes = StompHeaderAccessor.getSessionAttributes(message.getHeaders());
+        if (attributes != null && attributes.get("userId") instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+
+    record RoomMember(Long shipmentId, Long userId) {
+    }
+}
@@ -6,23 +6,27 @@ import com.tjoeun.boxmon.exception.ShipmentNotFoundException;
 import com.tjoeun.boxmon.feature.chat.domain.Chat;
 import com.tjoeun.boxmon.feature.chat.domain.ChatContentType;
 import com.tjoeun.boxmon.feature.chat.domain.ChatSenderRole;
+import com.tjoeun.boxmon.feature.chat.dto.ChatHistoryResponse;
 import com.tjoeun.boxmon.feature.chat.dto.ChatImageUploadResponse;
 import com.tjoeun.boxmon.feature.chat.dto.ChatMessageResponse;
 import com.tjoeun.boxmon.feature.chat.dto.ChatSendRequest;
 import com.tjoeun.boxmon.feature.chat.repository.ChatRepository;
-import com.tjoeun.boxmon.feature.notification.service.NotificationUseCase;
-import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
 import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.ShipmentParticipants;
+import com.tjoeun.boxmon.feature.shipment.service.ShipmentParticipantsCache;
 import com.tjoeun.boxmon.global.storage.ObjectStorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Slf4j
@@ -30,31 +34,66 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ChatService {
+    private static final int DEFAULT_HISTORY_LIMIT = 50;
+    private static final int MAX_HISTORY_LIMIT = 100;
 
     private final ChatRepository chatRepository;
     private final ShipmentRepository shipmentRepository;
     private final ObjectStorageService objectStorageService;
-    private final NotificationUseCase notificationUseCase;
-
-    public List<ChatMessageResponse> getMessages(Long shipmentId, Long userId, ChatSenderRole role) {
-        Shipment shipment = getShipment(shipmentId);
-        validateParticipant(shipment, userId, role);
+    private final ShipmentParticipantsCache participantsCache;
+    private final ChatNotificationDispatcher notificationDispatcher;
+
+    /**
+     * 채팅 이력을 chatId 커서로 나눠 조회합니다.
+     * - 커서 없음: 최신 limit건
+     * - before: 해당 chatId보다 과거 limit건
+     * - after: 해당 chatId 이후 limit건 (재연결 시 놓친 메시지만 동기화)
+     * 참여자 검증은 식별자 프로젝션으로 처리하고, 응답의 shipmentId는 FK 컬럼에서 읽습니다.
+     */
+    public ChatHistoryResponse getMessages(Long shipmentId, Long userId, ChatSenderRole role,
+                                           Long beforeChatId, Long afterChatId, Integer limit) {
+        if (beforeChatId != null && afterChatId != null) {
+            throw new ChatValidationException("before와 after는 함께 사용할 수 없습니다.");
+        }
+        int pageSize = resolveHistoryLimit(limit);
+        validateParticipant(shipmentId, userId, role);
+
+        PageRequest page = PageRequest.ofSize(pageSize + 1);
+        List<Chat> rows;
+        if (afterChatId != null) {
+            rows = chatRepository.findByShipment_ShipmentIdAndChatIdGreaterThanOrderByChatIdAsc(shipmentId, afterChatId, page);
+        } else if (beforeChatId != null) {
+            rows = chatRepository.findByShipment_ShipmentIdAndChatIdLessThanOrderByChatIdDesc(shipmentId, beforeChatId, page);
+        } else {
+            rows = chatRepository.findByShipment_ShipmentIdOrderByChatIdDesc(shipmentId, page);
+        }
 
-        return chatRepository.findByShipment_ShipmentIdOrderByCreatedAtAscChatIdAsc(shipmentId).stream()
-                .map(this::toResponse)
-                .toList();
+        boolean hasMore = rows.size() > pageSize;
+        List<Chat> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        List<ChatMessageResponse> messages = new ArrayList<>(pageRows.size());
+        for (Chat chat : pageRows) {
+            messages.add(toResponse(chat));
+        }
+        // 과거 방향 조회는 chatId 내림차순으로 가져오므로 화면 표시 순서(오름차순)로 뒤집음
+        if (afterChatId == null) {
+            Collections.reverse(messages);
+        }
+        return new ChatHistoryResponse(messages, hasMore);
     }
 
+    /**
+     * 채팅 메시지를 저장합니다.
+     * 참여자/상태 검증은 캐시된 배송 참여자 정보로 처리하고 배송은 프록시 참조만 연결하므로,
+     * 정상 경로에서 실행되는 SQL은 CHAT INSERT 한 건입니다. 상대방 알림은 커밋 이후 별도 스레드에서 발송합니다.
+     */
     @Transactional
     public ChatMessageResponse sendMessage(Long shipmentId, Long senderId, ChatSenderRole senderRole, ChatSendRequest request) {
-        Shipment shipment = getShipment(shipmentId);
-        validateShipmentStatus(shipment.getShipmentStatus());
-        validateParticipant(shipment, senderId, senderRole);
+        validateAccess(shipmentId, senderId, senderRole, true);
         validateRequest(request);
 
         Chat saved = chatRepository.save(
                 Chat.builder()
-                        .shipment(shipment)
+                        .shipment(shipmentRepository.getReferenceById(shipmentId))
                         .senderId(senderId)
                         .senderRole(senderRole)
                         .content(request.getContent().trim())
@@ -62,29 +101,51 @@ public class ChatService {
                         .build()
         );
 
-        try {
-            // 채팅 저장/전송 흐름은 유지하고 알림 실패는 경고 로그로만 처리
-            notificationUseCase.notifyChatMessage(shipmentId, senderId);
-        } catch (Exception e) {
-            log.warn("채팅 전송은 성공했지만 알림 전송은 건너뜁니다. shipmentId={}", shipmentId, e);
-        }
+        notificationDispatcher.dispatchAfterCommit(shipmentId, senderId);
 
         return toResponse(saved);
     }
 
     @Transactional
     public ChatImageUploadResponse uploadImage(Long shipmentId, Long userId, ChatSenderRole role, MultipartFile image) {
-        Shipment shipment = getShipment(shipmentId);
-        validateShipmentStatus(shipment.getShipmentStatus());
-        validateParticipant(shipment, userId, role);
+        validateAccess(shipmentId, userId, role, true);
 
         String objectKey = objectStorageService.uploadChatImage(image);
         String imageUrl = objectStorageService.buildPublicUrl(objectKey);
         return new ChatImageUploadResponse(imageUrl, ChatContentType.IMG_URL);
     }
 
-    private Shipment getShipment(Long shipmentId) {
-        return shipmentRepository.findById(shipmentId)
+    /**
+     * 실시간 위치 구독처럼 엔티티가 필요 없는 경로에서 채팅과 같은 참여자 규칙으로 접근을 검증합니다.
+     */
+    public void validateParticipant(Long shipmentId, Long userId, ChatSenderRole role) {
+        validateAccess(shipmentId, userId, role, false);
+    }
+
+    /**
+     * 캐시된 참여자 정보로 검증하되, 거부해야 하는 경우에는 DB에서 다시 읽어 한 번 더 검증합니다.
+     * 배차 수락/상태 전이가 다른 인스턴스에서 처리되면 이 인스턴스의 캐시는 무효화되지 않으므로,
+     * 방금 배차된 차주나 막 배차된 배송의 채팅이 이전 값 때문에 거부되지 않도록 합니다.
+     */
+    private void validateAccess(Long shipmentId, Long userId, ChatSenderRole role, boolean chatRequired) {
+        try {
+            validateAccess(getParticipants(shipmentId), userId, role, chatRequired);
+        } catch (ChatValidationException | InvalidChatAccessException e) {
+            ShipmentParticipants reloaded = participantsCache.reload(shipmentId)
+                    .orElseThrow(() -> new ShipmentNotFoundException("운송건을 찾을 수 없습니다."));
+            validateAccess(reloaded, userId, role, chatRequired);
+        }
+    }
+
+    private void validateAccess(ShipmentParticipants participants, Long userId, ChatSenderRole role, boolean chatRequired) {
+        if (chatRequired) {
+            validateShipmentStatus(participants.shipmentStatus());
+        }
+        validateParticipant(participants.shipperId(), participants.driverId(), userId, role);
+    }
+
+    private ShipmentParticipants getParticipants(Long shipmentId) {
+        return participantsCache.find(shipmentId)
                 .orElseThrow(() -> new ShipmentNotFoundException("운송건을 찾을 수 없습니다."));
     }
 
@@ -94,14 +155,11 @@ public class ChatService {
         }
     }
 
-    private void validateParticipant(Shipment shipment, Long userId, ChatSenderRole role) {
+    private void validateParticipant(Long shipperId, Long driverId, Long userId, ChatSenderRole role) {
         if (userId == null || role == null) {
             throw new InvalidChatAccessException("채팅 사용자 정보가 올바르지 않습니다.");
         }
 
-        Long shipperId = shipment.getShipper() != null ? shipment.getShipper().getShipperId() : null;
-        Long driverId = shipment.getDriver() != null ? shipment.getDriver().getDriverId() : null;
-
         switch (role) {
             case SHIPPER -> {
                 if (shipperId == null || !shipperId.equals(userId)) {
@@ -145,10 +203,23 @@ public class ChatService {
         }
     }
 
+    private int resolveHistoryLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_HISTORY_LIMIT;
+        }
+        if (limit < 1) {
+            throw new ChatValidationException("limit은 1 이상이어야 합니다.");
+        }
+        // 상한을 넘는 요청은 거부하지 않고 최대 건수로 조회 (hasMore로 나머지를 이어 받음)
+        return Math.min(limit, MAX_HISTORY_LIMIT);
+    }
+
     private ChatMessageResponse toResponse(Chat chat) {
+        // 방금 저장한 엔티티는 읽기 전용 FK 필드가 채워지지 않았으므로 연관 객체의 ID를 사용
+        Long shipmentId = chat.getShipmentId() != null ? chat.getShipmentId() : chat.getShipment().getShipmentId();
         return ChatMessageResponse.builder()
                 .chatId(chat.getChatId())
-                .shipmentId(chat.getShipment().getShipmentId())
+                .shipmentId(shipmentId)
                 .senderId(chat.getSenderId())
                 .senderRole(chat.getSenderRole())
                 .contentType(chat.getContentType())
@@ -0,0 +1,43 @@
+package com.tjoeun.boxmon.feature.location.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위치 청크 바이너리 저장에 맞춰 LOCATION_LOG.location_data를 NULL 허용으로 변경합니다.
+ * Hibernate ddl-auto(update)는 기존 컬럼의 NOT NULL 제약을 풀지 않으므로 기동 시점에 한 번 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationLogSchemaInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void relaxLegacyLocationDataColumn() {
+        try {
+            // 대소문자를 구분하는 MySQL(lower_case_table_names=0)에서도 맞도록 실제 테이블 이름을 그대로 사용
+            List<Map<String, Object>> columns = jdbcTemplate.queryForList(
+                    "SELECT table_name AS table_name, is_nullable AS is_nullable FROM information_schema.columns " +
+                            "WHERE table_schema = DATABASE() AND LOWER(table_name) = 'location_log' AND column_name = 'location_data'"
+            );
+            if (columns.isEmpty() || "YES".equalsIgnoreCase(String.valueOf(columns.get(0).get("is_nullable")))) {
+                return;
+            }
+
+            String tableName = String.valueOf(columns.get(0).get("table_name"));
+            jdbcTemplate.execute("ALTER TABLE `" + tableName + "` MODIFY location_data TEXT NULL");
+            log.info("{}.location_data 컬럼을 NULL 허용으로 변경했습니다.", tableName);
+        } catch (Exception e) {
+            log.error("LOCATION_LOG.location_data 컬럼 변경 실패. 바이너리 청크 저장이 실패할 수 있습니다. 원인: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.tjoeun.boxmon.feature.location.config;
+
+import com.tjoeun.boxmon.exception.ChatValidationException;
+import com.tjoeun.boxmon.feature.chat.domain.ChatSenderRole;
+import com.tjoeun.boxmon.feature.chat.service.ChatService;
+import com.tjoeun.boxmon.feature.location.service.LiveLocationPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /sub/location.{shipmentId} 구독 시 해당 운송건의 화주/차주인지 검증합니다.
+ * CONNECT 단계에서 ChatPrincipalChannelInterceptor가 세션에 넣은 사용자 정보를 사용하며,
+ * 참여자 규칙은 채팅과 동일합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocationSubscriptionInterceptor implements ChannelInterceptor {
+
+    private final ChatService chatService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(LiveLocationPublisher.TOPIC_PREFIX)) {
+            return message;
+        }
+
+        Long shipmentId = parseShipmentId(destination);
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null
+                || !(attributes.get("userId") instanceof Long userId)
+                || !(attributes.get("userRole") instanceof ChatSenderRole role)) {
+            throw new ChatValidationException("세션 사용자 정보가 없습니다.");
+        }
+
+        chatService.validateParticipant(shipmentId, userId, role);
+        return message;
+    }
+
+    private Long parseShipmentId(String destination) {
+        try {
+            return Long.valueOf(destination.substring(LiveLocationPublisher.TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new ChatValidationException("구독 경로의 운송건 ID가 올바르지 않습니다.");
+        }
+    }
+}
@@ -6,10 +6,12 @@ import com.tjoeun.boxmon.feature.location.service.LocationLogService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 
@@ -21,7 +23,7 @@ public class LocationLogController {
     private final LocationLogService locationLogService;
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
+    @ResponseStatus(HttpStatus.ACCEPTED)
     public void saveLocationLog(
             Authentication authentication,
             @RequestBody @Valid LocationLogRequest request
@@ -36,10 +38,33 @@ public class LocationLogController {
             @PathVariable Long shipmentId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
-            @RequestParam(required = false) Integer maxPoints
+            @RequestParam(required = false) Integer maxPoints,
+            @RequestParam(required = false) Double tolerance // 단순화 허용 오차(m)
     ) {
         Long requesterId = Long.valueOf(authentication.getPrincipal().toString());
-        LocationRouteResponse response = locationLogService.getRoute(requesterId, shipmentId, from, to, maxPoints);
+        LocationRouteResponse response = locationLogService.getRoute(requesterId, shipmentId, from, to, maxPoints, tolerance);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 경로 좌표를 NDJSON(application/x-ndjson)으로 스트리밍합니다.
+     * 긴 운행도 서버 메모리에 모으지 않고 청크 단위로 전송하므로 클라이언트가 받는 대로 그릴 수 있습니다.
+     */
+    @GetMapping(value = "/{shipmentId}/route/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamRoute(
+            Authentication authentication,
+            @PathVariable Long shipmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer maxPoints
+    ) {
+        Long requesterId = Long.valueOf(authentication.getPrincipal().toString());
+        locationLogService.checkRouteAccess(requesterId, shipmentId, from, to);
+
+        StreamingResponseBody body = outputStream ->
+                locationLogService.streamRoute(requesterId, shipmentId, from, to, maxPoints, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
 }
@@ -8,7 +8,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "LOCATION_LOG")
+@Table(name = "LOCATION_LOG", indexes = {
+        // 운송건별 경로 조회용 (shipment_id 조건 + created_at, location_id 정렬/구간 조건을 인덱스 순서로 처리)
+        @Index(name = "idx_location_log_shipment_created", columnList = "shipment_id, created_at, location_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -37,13 +40,20 @@ public class LocationLog {
     private Driver driver;
 
     /**
-     * 10분 단위 위치 데이터 청크
+     * 10분 단위 위치 데이터 청크 (레거시 JSON 형식)
      * 프론트엔드에서 "[{\"lat\":37.5, \"lng\":127.0, \"at\":\"...\"}, ...]" 형태의
      * JSON 문자열을 보내주면 그대로 저장합니다.
+     * 바이너리로 변환할 수 없는 청크(시각 형식 불명 등)만 이 컬럼에 남고, 그 외에는 null입니다.
      */
-    @Column(name = "location_data", nullable = false, columnDefinition = "TEXT")
+    @Column(name = "location_data", columnDefinition = "TEXT")
     private String locationData;
 
+    /**
+     * 10분 단위 위치 데이터 청크 (바이너리 컬럼형 형식, LocationChunkCodec 참고)
+     */
+    @Column(name = "location_binary", columnDefinition = "MEDIUMBLOB")
+    private byte[] locationBinary;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt; // 청크가 서버에 저장된 시점
 
@@ -0,0 +1,26 @@
+package com.tjoeun.boxmon.feature.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * /sub/location.{shipmentId} 구독자에게 전송하는 실시간 위치 메시지.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LiveLocationMessage {
+    private Long shipmentId;
+    private Double lat;
+    private Double lng;
+    private LocalDateTime recordedAt;
+    private Double heading; // 진행 방위각(북쪽 0, 시계 방향), 알 수 없으면 null
+    private Double speedKmh; // 최근 평균 속도(km/h), 알 수 없으면 null
+}
@@ -16,6 +16,8 @@ import java.util.List;
 public class LocationRouteResponse {
     private Long shipmentId;
     private int pointCount;
-    private boolean truncated;
+    private int originalPointCount; // 단순화 전 점 개수
+    private boolean simplified; // 경로 단순화로 점을 줄였는지 여부
+    private boolean truncated; // 하위 호환용 (경로를 자르지 않으므로 항상 false)
     private List<LocationRoutePointResponse> points;
 }
@@ -1,19 +1,86 @@
 package com.tjoeun.boxmon.feature.location.repository;
 
 import com.tjoeun.boxmon.feature.location.domain.LocationLog;
+import com.tjoeun.boxmon.feature.location.repository.projection.LocationChunkRow;
+import com.tjoeun.boxmon.feature.location.repository.projection.LocationCompactionCandidate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface LocationLogRepository extends JpaRepository<LocationLog, Long> {
-    List<LocationLog> findByShipment_ShipmentIdOrderByCreatedAtAscLocationIdAsc(Long shipmentId);
+    // MySQL Connector/J에서 행 단위 스트리밍을 켜는 fetch size (Integer.MIN_VALUE)
+    String STREAMING_FETCH_SIZE = "-2147483648";
 
-    List<LocationLog> findByShipment_ShipmentIdAndCreatedAtBetweenOrderByCreatedAtAscLocationIdAsc(
-            Long shipmentId,
-            LocalDateTime from,
-            LocalDateTime to
+    /**
+     * 운송건의 위치 청크를 순서대로 스트리밍합니다.
+     * MySQL 드라이버가 결과를 한 번에 적재하지 않도록 fetch size를 Integer.MIN_VALUE로 지정합니다.
+     * 반환된 Stream은 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("SELECT new com.tjoeun.boxmon.feature.location.repository.projection.LocationChunkRow(" +
+            "l.locationId, l.locationData, l.locationBinary) " +
+            "FROM LocationLog l " +
+            "WHERE l.shipment.shipmentId = :shipmentId " +
+            "ORDER BY l.createdAt ASC, l.locationId ASC")
+    Stream<LocationChunkRow> streamChunksByShipmentId(@Param("shipmentId") Long shipmentId);
+
+    /**
+     * 운송건의 위치 청크 중 저장 시각이 구간 안에 있는 것만 순서대로 스트리밍합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("SELECT new com.tjoeun.boxmon.feature.location.repository.projection.LocationChunkRow(" +
+            "l.locationId, l.locationData, l.locationBinary) " +
+            "FROM LocationLog l " +
+            "WHERE l.shipment.shipmentId = :shipmentId " +
+            "AND l.createdAt BETWEEN :from AND :to " +
+            "ORDER BY l.createdAt ASC, l.locationId ASC")
+    Stream<LocationChunkRow> streamChunksByShipmentIdAndCreatedAtBetween(
+            @Param("shipmentId") Long shipmentId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 보관 압축 대상 운송건을 조회합니다.
+     * 운송 완료/취소 상태이고 마지막 청크가 기준 시각보다 오래됐으며 청크가 2개 이상 남은 건이 대상입니다.
+     * shipment_id 키셋으로 나눠 읽으므로, 압축하지 못하고 건너뛴 건이 쌓여도 뒤의 대상까지 진행합니다.
+     */
+    @Query(value = "SELECT l.shipment_id AS shipmentId, " +
+            "MIN(l.shipper_id) AS shipperId, " +
+            "MIN(l.driver_id) AS driverId, " +
+            "MIN(l.created_at) AS firstCreatedAt, " +
+            "MAX(l.location_id) AS lastLocationId " +
+            "FROM location_log l " +
+            "JOIN shipment s ON s.shipment_id = l.shipment_id " +
+            "WHERE s.shipment_status IN ('DONE', 'CANCELED') AND l.shipment_id > :afterShipmentId " +
+            "GROUP BY l.shipment_id " +
+            "HAVING COUNT(*) > 1 AND MAX(l.created_at) < :threshold " +
+            "ORDER BY l.shipment_id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<LocationCompactionCandidate> findCompactionCandidates(
+            @Param("afterShipmentId") Long afterShipmentId,
+            @Param("threshold") LocalDateTime threshold,
+            @Param("limit") int limit
     );
+
+    // 압축으로 대체된 청크 삭제 (조회 이후 추가된 청크는 남김)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM LocationLog l " +
+            "WHERE l.shipment.shipmentId = :shipmentId AND l.locationId <= :lastLocationId")
+    int deleteChunksUpTo(@Param("shipmentId") Long shipmentId, @Param("lastLocationId") Long lastLocationId);
+
+    // 레거시 JSON 청크를 바이너리로 옮기는 배치용 (locationId 오름차순 키셋)
+    List<LocationLog> findByLocationBinaryIsNullAndLocationIdGreaterThanOrderByLocationIdAsc(Long afterLocationId, Pageable pageable);
 }
@@ -0,0 +1,12 @@
+package com.tjoeun.boxmon.feature.location.repository.projection;
+
+/**
+ * 경로 스트리밍용 위치 청크 읽기 모델.
+ * 엔티티 대신 생성자 프로젝션으로 읽어 영속성 컨텍스트에 청크가 쌓이지 않게 합니다.
+ */
+public record LocationChunkRow(
+        Long locationId,
+        String locationData,
+        byte[] locationBinary
+) {
+}
@@ -0,0 +1,19 @@
+package com.tjoeun.boxmon.feature.location.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 위치 청크 보관 압축 대상 프로젝션.
+ * 압축 행 생성에 필요한 식별자와, 압축 범위를 고정하기 위한 마지막 locationId를 함께 조회합니다.
+ */
+public interface LocationCompactionCandidate {
+    Long getShipmentId();
+
+    Long getShipperId();
+
+    Long getDriverId();
+
+    LocalDateTime getFirstCreatedAt();
+
+    Long getLastLocationId();
+}
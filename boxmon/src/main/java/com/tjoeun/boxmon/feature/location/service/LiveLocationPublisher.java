@@ -0,0 +1,38 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import com.tjoeun.boxmon.feature.location.dto.LiveLocationMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수락된 위치 갱신을 STOMP 브로커의 배송별 위치 토픽으로 전파합니다.
+ * 구독 권한은 LocationSubscriptionInterceptor에서 검증합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveLocationPublisher {
+    public static final String TOPIC_PREFIX = "/sub/location.";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public void publish(Long shipmentId, LivePosition position) {
+        LiveLocationMessage message = LiveLocationMessage.builder()
+                .shipmentId(shipmentId)
+                .lat(position.lat())
+                .lng(position.lng())
+                .recordedAt(position.recordedAt())
+                .heading(position.headingDegrees())
+                .speedKmh(position.speedKmh())
+                .build();
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + shipmentId, message);
+        } catch (MessagingException e) {
+            // 위치 저장은 이미 끝났으므로 전파 실패는 다음 갱신에서 회복됨
+            log.warn("실시간 위치 전파 실패. shipmentId={}, 원인: {}", shipmentId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import com.tjoeun.boxmon.feature.location.util.LocationChunk;
+import com.tjoeun.boxmon.global.util.CacheEvictions;
+import com.tjoeun.boxmon.global.util.GeoDistance;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 실시간 차량 위치 저장소 (shipmentId → 최신 위치).
+ * 위치 수신 경로에서 갱신하고 상세 조회는 DB 대신 여기서 읽습니다.
+ * SHIPMENT.current_location_point 반영은 변경된 배송만 모아 주기적으로 일괄 UPDATE합니다.
+ */
+@Slf4j
+@Component
+public class LiveLocationRegistry {
+    private static final String UPDATE_CURRENT_LOCATION_SQL =
+            "UPDATE shipment SET current_location_point = ST_GeomFromText(?, 4326, 'axis-order=long-lat'), " +
+                    "current_location_at = ? " +
+                    "WHERE shipment_id = ? AND (current_location_at IS NULL OR current_location_at < ?)";
+    // 측정 시각 해석 기준 (LocationChunkJsonParser의 오프셋 없는 시각 기준과 동일)
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    // GPS 오차로 인한 방위각 흔들림을 막기 위한 최소 이동 거리
+    private static final double MIN_HEADING_DISTANCE_KM = 0.005;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration idleTtl;
+    private final Map<Long, LivePosition> positions = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyShipmentIds = ConcurrentHashMap.newKeySet();
+    // 정리됐지만 아직 SHIPMENT에 반영되지 않은 마지막 위치
+    private final Map<Long, LivePosition> pendingFinalPositions = new ConcurrentHashMap<>();
+
+    public LiveLocationRegistry(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${location.live.idle-ttl:PT30M}") Duration idleTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idleTtl = idleTtl;
+        meterRegistry.gaugeMapSize("location.live.size", List.of(), positions);
+    }
+
+    public Optional<LivePosition> find(Long shipmentId) {
+        return Optional.ofNullable(positions.get(shipmentId));
+    }
+
+    /**
+     * 청크의 마지막 좌표로 위치를 갱신합니다.
+     * 방위각/속도는 청크의 직전 좌표(한 점뿐이면 저장된 이전 위치)와 비교해 계산합니다.
+     *
+     * @return 갱신된 위치 (빈 청크이거나 이미 더 최신 위치가 있으면 empty)
+     */
+    public Optional<LivePosition> update(Long shipmentId, LocationChunk chunk) {
+        if (chunk.isEmpty()) {
+            return Optional.empty();
+        }
+        int last = chunk.size() - 1;
+        LocalDateTime recordedAt = toLocalDateTime(chunk.epochMillisAt(last));
+        LivePosition previous = last > 0
+                ? new LivePosition(chunk.latAt(last - 1), chunk.lngAt(last - 1),
+                toLocalDateTime(chunk.epochMillisAt(last - 1)), null, null)
+                : null;
+        return apply(shipmentId, chunk.latAt(last), chunk.lngAt(last), recordedAt, previous);
+    }
+
+    /**
+     * 측정 시각이 없는 좌표로 위치를 갱신합니다. (레거시 청크)
+     */
+    public Optional<LivePosition> update(Long shipmentId, double lat, double lng, LocalDateTime recordedAt) {
+        return apply(shipmentId, lat, lng, recordedAt, null);
+    }
+
+    /**
+     * 배송이 종료(완료/취소)되어 더 이상 위치를 받지 않을 때 항목을 정리합니다.
+     */
+    public void remove(Long shipmentId) {
+        LivePosition last = positions.remove(shipmentId);
+        if (dirtyShipmentIds.remove(shipmentId) && last != null) {
+            pendingFinalPositions.merge(shipmentId, last, LiveLocationRegistry::newer);
+        }
+    }
+
+    /**
+     * 즉시 정리하고, 트랜잭션 안이라면 커밋/롤백 이후에도 한 번 더 정리합니다.
+     * 상태 전이 커밋 전에 도착한 위치가 항목을 다시 만들어도 트랜잭션 종료 시점에 제거됩니다.
+     */
+    public void removeAfterCommit(Long shipmentId) {
+        CacheEvictions.evictNowAndAfterCompletion(() -> remove(shipmentId));
+    }
+
+    /**
+     * 마지막 반영 이후 바뀐 위치만 SHIPMENT에 일괄 반영하고, 오래 갱신되지 않은 항목은 정리합니다.
+     * 여러 인스턴스가 같은 배송을 반영할 수 있으므로 DB에 더 최신 위치가 있으면 덮어쓰지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${location.live.persist-interval:PT10S}")
+    public void persist() {
+        List<Long> shipmentIds = new ArrayList<>(dirtyShipmentIds);
+        dirtyShipmentIds.removeAll(shipmentIds);
+
+        Map<Long, LivePosition> finalPositions = new HashMap<>(pendingFinalPositions);
+        finalPositions.forEach(pendingFinalPositions::remove);
+
+        List<Map.Entry<Long, LivePosition>> batch = new ArrayList<>(shipmentIds.size() + finalPositions.size());
+        for (Long shipmentId : shipmentIds) {
+            LivePosition position = positions.get(shipmentId);
+            if (position != null) {
+                batch.add(Map.entry(shipmentId, position));
+            }
+        }
+        batch.addAll(finalPositions.entrySet());
+
+        if (!batch.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_CURRENT_LOCATION_SQL, batch, batch.size(), (ps, entry) -> {
+                    ps.setString(1, String.format(Locale.ROOT, "POINT(%.7f %.7f)",
+                            entry.getValue().lng(), entry.getValue().lat()));
+                    Timestamp recordedAt = Timestamp.valueOf(entry.getValue().recordedAt());
+                    ps.setTimestamp(2, recordedAt);
+                    ps.setLong(3, entry.getKey());
+                    ps.setTimestamp(4, recordedAt);
+                });
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 반영
+                dirtyShipmentIds.addAll(shipmentIds);
+                finalPositions.forEach((id, position) -> pendingFinalPositions.merge(id, position, LiveLocationRegistry::newer));
+                log.warn("배송 현재 위치 일괄 반영 실패 ({}건). 원인: {}", batch.size(), e.getMessage());
+            }
+        }
+
+        evictIdle();
+    }
+
+    private Optional<LivePosition> apply(Long shipmentId, double lat, double lng, LocalDateTime recordedAt,
+                                         LivePosition previousInChunk) {
+        LivePosition[] updated = {null};
+        positions.compute(shipmentId, (id, current) -> {
+            // 늦게 도착한 과거 청크가 최신 위치를 덮어쓰지 않도록 함
+            if (current != null && current.recordedAt().isAfter(recordedAt)) {
+                return current;
+            }
+            LivePosition previous = previousInChunk != null ? previousInChunk : current;
+            updated[0] = withMotion(lat, lng, recordedAt, previous);
+            return updated[0];
+        });
+        if (updated[0] == null) {
+            return Optional.empty();
+        }
+        dirtyShipmentIds.add(shipmentId);
+        return Optional.of(updated[0]);
+    }
+
+    static LivePosition withMotion(double lat, double lng, LocalDateTime recordedAt, LivePosition previous) {
+        if (previous == null) {
+            return new LivePosition(lat, lng, recordedAt, null, null);
+        }
+
+        double distanceKm = GeoDistance.haversineKm(previous.lat(), previous.lng(), lat, lng);
+        long elapsedMillis = Duration.between(previous.recordedAt(), recordedAt).toMillis();
+
+        Double speedKmh = elapsedMillis > 0 ? distanceKm / (elapsedMillis / 3_600_000.0) : null;
+        // 사실상 정지 상태면 직전 방위각을 유지
+        Double headingDegrees = distanceKm >= MIN_HEADING_DISTANCE_KM
+                ? GeoDistance.initialBearingDegrees(previous.lat(), previous.lng(), lat, lng)
+                : previous.headingDegrees();
+        return new LivePosition(lat, lng, recordedAt, headingDegrees, speedKmh);
+    }
+
+    private static LivePosition newer(LivePosition a, LivePosition b) {
+        return a.recordedAt().isAfter(b.recordedAt()) ? a : b;
+    }
+
+    private void evictIdle() {
+        LocalDateTime threshold = LocalDateTime.now(KST).minus(idleTtl);
+        positions.entrySet().removeIf(entry ->
+                entry.getValue().recordedAt().isBefore(threshold) && !dirtyShipmentIds.contains(entry.getKey()));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), KST);
+    }
+}
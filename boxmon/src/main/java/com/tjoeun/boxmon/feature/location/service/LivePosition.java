@@ -0,0 +1,24 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 운송 중인 차량의 최신 위치 스냅샷.
+ *
+ * @param lat 위도
+ * @param lng 경도
+ * @param recordedAt 단말 측정 시각 (측정 시각이 없는 레거시 청크는 서버 수신 시각)
+ * @param headingDegrees 진행 방위각(북쪽 0, 시계 방향). 직전 좌표가 없거나 이동이 없으면 null
+ * @param speedKmh 직전 좌표 대비 평균 속도(km/h). 계산할 수 없으면 null
+ */
+public record LivePosition(
+        double lat,
+        double lng,
+        LocalDateTime recordedAt,
+        Double headingDegrees,
+        Double speedKmh
+) {
+    public org.springframework.data.geo.Point toSpringPoint() {
+        return new org.springframework.data.geo.Point(lng, lat);
+    }
+}
@@ -0,0 +1,88 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tjoeun.boxmon.feature.location.domain.LocationLog;
+import com.tjoeun.boxmon.feature.location.repository.LocationLogRepository;
+import com.tjoeun.boxmon.feature.location.util.LocationChunkJsonParser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 레거시 JSON 위치 청크를 바이너리 형식으로 옮기는 백그라운드 배치.
+ * locationId 오름차순으로 일정 건수씩 변환하며, 바이너리에서 원문을 그대로 복원할 수 없는 청크는 JSON 그대로 둡니다.
+ * 대상이 더 이상 없으면 해당 인스턴스에서는 다음 기동 전까지 실행하지 않습니다.
+ */
+@Slf4j
+@Component
+public class LocationChunkMigrationJob {
+
+    private final LocationLogRepository locationLogRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean enabled;
+    private final int batchSize;
+
+    private volatile long lastLocationId = 0L;
+    private volatile boolean completed = false;
+
+    public LocationChunkMigrationJob(
+            LocationLogRepository locationLogRepository,
+            @Value("${location.chunk-migration.enabled:true}") boolean enabled,
+            @Value("${location.chunk-migration.batch-size:500}") int batchSize) {
+        this.locationLogRepository = locationLogRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${location.chunk-migration.fixed-delay:PT1M}",
+            initialDelayString = "${location.chunk-migration.initial-delay:PT2M}")
+    @Transactional
+    public void migrateBatch() {
+        if (!enabled || completed) {
+            return;
+        }
+
+        List<LocationLog> logs = locationLogRepository.findByLocationBinaryIsNullAndLocationIdGreaterThanOrderByLocationIdAsc(
+                lastLocationId, PageRequest.of(0, batchSize));
+        if (logs.isEmpty()) {
+            completed = true;
+            log.info("레거시 위치 청크 바이너리 변환 완료 (마지막 locationId={})", lastLocationId);
+            return;
+        }
+
+        int converted = 0;
+        for (LocationLog locationLog : logs) {
+            if (convert(locationLog)) {
+                converted++;
+            }
+        }
+        lastLocationId = logs.get(logs.size() - 1).getLocationId();
+        log.info("레거시 위치 청크 변환: {}/{}건 (locationId ~{})", converted, logs.size(), lastLocationId);
+    }
+
+    private boolean convert(LocationLog locationLog) {
+        if (locationLog.getLocationData() == null) {
+            return false;
+        }
+        try {
+            Optional<byte[]> binary = LocationChunkJsonParser.parse(objectMapper, locationLog.getLocationData())
+                    .flatMap(chunk -> LocationChunkJsonParser.encodeLossless(chunk, locationLog.getLocationData()));
+            if (binary.isEmpty()) {
+                return false;
+            }
+            locationLog.setLocationBinary(binary.get());
+            locationLog.setLocationData(null);
+            return true;
+        } catch (Exception e) {
+            log.warn("레거시 위치 청크 변환 실패로 JSON을 유지합니다. locationId={}, 원인: {}",
+                    locationLog.getLocationId(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 위치 청크 write-behind 적재 큐.
+ * 요청 스레드는 검증된 청크를 큐에 넣고 즉시 응답하며,
+ * 주기적인 flush에서 LOCATION_LOG INSERT를 JDBC 배치로 실행합니다.
+ * 배치는 한 트랜잭션으로 적재해 실패 시 일부 행만 커밋된 채 재시도되어 중복 행이 생기지 않도록 하고,
+ * 적재할 수 없는 행(삭제된 배송의 FK 위반, 길이 초과 등)이 섞이면 행 단위로 다시 적재해 해당 행만 걸러냅니다.
+ * 배송 현재 위치는 LiveLocationRegistry가 별도 주기로 반영합니다.
+ * (MySQL에서 실제 다중 행 배치가 되려면 JDBC URL에 rewriteBatchedStatements=true가 필요합니다.)
+ */
+@Slf4j
+@Component
+public class LocationIngestQueue {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String INSERT_LOCATION_LOG_SQL =
+            "INSERT INTO location_log (shipment_id, shipper_id, driver_id, location_data, location_binary, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingLocationChunk> queue;
+    private final int batchSize;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+
+    public LocationIngestQueue(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${location.ingest.queue-capacity:20000}") int queueCapacity,
+            @Value("${location.ingest.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        meterRegistry.gaugeCollectionSize("location.ingest.queue.size", List.of(), queue);
+        this.droppedCounter = meterRegistry.counter("location.ingest.dropped");
+        this.rejectedCounter = meterRegistry.counter("location.ingest.rejected");
+    }
+
+    /**
+     * 청크를 적재 큐에 넣습니다.
+     * 큐가 가득 차면 유실을 막기 위해 호출 스레드에서 즉시 flush한 뒤 다시 시도합니다.
+     */
+    public void enqueue(PendingLocationChunk chunk) {
+        if (queue.offer(chunk)) {
+            return;
+        }
+        log.warn("위치 적재 큐가 가득 차 요청 스레드에서 flush합니다. size={}", queue.size());
+        flush();
+        if (!queue.offer(chunk)) {
+            requeue(writeBatch(List.of(chunk)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${location.ingest.flush-interval:PT1S}")
+    public void flush() {
+        if (queue.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            List<PendingLocationChunk> batch = new ArrayList<>(batchSize);
+            List<PendingLocationChunk> failed = new ArrayList<>();
+            while (queue.drainTo(batch, batchSize) > 0) {
+                failed.addAll(writeBatch(batch));
+                batch.clear();
+            }
+            // 실패분은 이번 flush에서 바로 재시도하지 않고 다음 주기로 넘김
+            requeue(failed);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            List<PendingLocationChunk> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                log.info("종료 전 남은 위치 청크 {}건을 적재합니다.", remaining.size());
+                List<PendingLocationChunk> failed = writeBatch(remaining);
+                if (!failed.isEmpty()) {
+                    droppedCounter.increment(failed.size());
+                    log.error("종료 중 위치 청크 {}건 적재에 실패했습니다.", failed.size());
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 적재합니다. 실패하면 전체가 롤백되므로 행 단위로 다시 적재해
+     * 적재할 수 없는 행만 버리고, 연결 실패처럼 일시적인 오류가 나면 남은 행을 재시도 대상으로 돌려줍니다.
+     *
+     * @return 재시도가 필요한 청크 (모두 적재되었거나 버려졌으면 빈 목록)
+     */
+    private List<PendingLocationChunk> writeBatch(List<PendingLocationChunk> batch) {
+        if (batch.size() > 1) {
+            try {
+                insert(batch);
+                return List.of();
+            } catch (RuntimeException e) {
+                log.warn("위치 청크 배치 적재 실패 ({}건). 행 단위로 다시 적재합니다. 원인: {}", batch.size(), e.getMessage());
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingLocationChunk chunk = batch.get(i);
+            try {
+                insert(List.of(chunk));
+            } catch (DataIntegrityViolationException e) {
+                // 재시도해도 결과가 같은 행은 다른 청크의 적재를 막지 않도록 즉시 버림
+                rejectedCounter.increment();
+                log.error("적재할 수 없는 위치 청크를 버립니다. shipmentId={}, receivedAt={}, 원인: {}",
+                        chunk.shipmentId(), chunk.receivedAt(), e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("위치 청크 적재 실패로 남은 {}건을 다음 주기에 재시도합니다. 원인: {}", batch.size() - i, e.getMessage());
+                return new ArrayList<>(batch.subList(i, batch.size()));
+            }
+        }
+        return List.of();
+    }
+
+    private void insert(List<PendingLocationChunk> chunks) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_LOCATION_LOG_SQL, chunks, chunks.size(), (ps, chunk) -> {
+                    ps.setLong(1, chunk.shipmentId());
+                    ps.setLong(2, chunk.shipperId());
+                    ps.setLong(3, chunk.driverId());
+                    if (chunk.locationData() != null) {
+                        ps.setString(4, chunk.locationData());
+                    } else {
+                        ps.setNull(4, Types.LONGVARCHAR);
+                    }
+                    if (chunk.locationBinary() != null) {
+                        ps.setBytes(5, chunk.locationBinary());
+                    } else {
+                        ps.setNull(5, Types.LONGVARBINARY);
+                    }
+                    ps.setTimestamp(6, Timestamp.valueOf(chunk.receivedAt()));
+                }));
+    }
+
+    private void requeue(List<PendingLocationChunk> batch) {
+        for (PendingLocationChunk chunk : batch) {
+            PendingLocationChunk retried = chunk.retried();
+            if (retried.attempts() >= MAX_ATTEMPTS || !queue.offer(retried)) {
+                droppedCounter.increment();
+                log.error("위치 청크 적재를 포기합니다. shipmentId={}, receivedAt={}", chunk.shipmentId(), chunk.receivedAt());
+            }
+        }
+    }
+}
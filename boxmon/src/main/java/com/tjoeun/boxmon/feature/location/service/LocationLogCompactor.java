@@ -0,0 +1,76 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import com.tjoeun.boxmon.feature.location.repository.LocationLogRepository;
+import com.tjoeun.boxmon.feature.location.repository.projection.LocationChunkRow;
+import com.tjoeun.boxmon.feature.location.repository.projection.LocationCompactionCandidate;
+import com.tjoeun.boxmon.feature.location.util.LocationChunkCodec;
+import com.tjoeun.boxmon.feature.location.util.RoutePointBuffer;
+import com.tjoeun.boxmon.feature.location.util.RouteSimplifier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 운송건 하나의 위치 청크를 단순화된 보관 행 1개로 합칩니다.
+ * 보관 행은 첫 청크의 저장 시각을 created_at으로 사용하므로 전체 경로 조회 결과는 그대로 유지됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationLogCompactor {
+    private static final String INSERT_ARCHIVE_SQL =
+            "INSERT INTO location_log (shipment_id, shipper_id, driver_id, location_data, location_binary, created_at) " +
+                    "VALUES (?, ?, ?, NULL, ?, ?)";
+
+    private final LocationLogRepository locationLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 압축 전/후 점 개수 ({원본, 보관}). 바이너리로 변환하지 못한 청크가 있으면 null (원본 유지)
+     */
+    @Transactional
+    public int[] compact(LocationCompactionCandidate candidate, double toleranceMeters) {
+        Long shipmentId = candidate.getShipmentId();
+        RoutePointBuffer buffer = new RoutePointBuffer(1024);
+
+        try (Stream<LocationChunkRow> rows = locationLogRepository.streamChunksByShipmentId(shipmentId)) {
+            Iterator<LocationChunkRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                LocationChunkRow row = iterator.next();
+                if (row.locationId() > candidate.getLastLocationId()) {
+                    continue;
+                }
+                if (row.locationBinary() == null) {
+                    log.info("바이너리로 변환되지 않은 청크가 있어 보관 압축을 건너뜁니다. shipmentId={}, locationId={}",
+                            shipmentId, row.locationId());
+                    return null;
+                }
+                buffer.addChunk(LocationChunkCodec.decode(row.locationBinary()));
+            }
+        }
+
+        if (buffer.hasMixedAtFormat()) {
+            log.info("시각 표기 형식이 다른 청크가 섞여 있어 보관 압축을 건너뜁니다. shipmentId={}", shipmentId);
+            return null;
+        }
+
+        int[] kept = RouteSimplifier.douglasPeucker(
+                buffer.lats(), buffer.lngs(), RouteSimplifier.identity(buffer.size()), toleranceMeters);
+        byte[] archive = LocationChunkCodec.encode(buffer.toChunk(kept));
+
+        locationLogRepository.deleteChunksUpTo(shipmentId, candidate.getLastLocationId());
+        jdbcTemplate.update(INSERT_ARCHIVE_SQL,
+                shipmentId,
+                candidate.getShipperId(),
+                candidate.getDriverId(),
+                archive,
+                Timestamp.valueOf(candidate.getFirstCreatedAt()));
+        return new int[]{buffer.size(), kept.length};
+    }
+}
@@ -0,0 +1,95 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import com.tjoeun.boxmon.feature.location.repository.LocationLogRepository;
+import com.tjoeun.boxmon.feature.location.repository.projection.LocationCompactionCandidate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 위치 로그 보관(retention) 배치.
+ * 운송 완료/취소 후 일정 기간(archive-after)이 지난 건의 청크를 Douglas–Peucker로 단순화한 보관 행 1개로 합쳐
+ * LOCATION_LOG에 진행 중 운송의 청크만 주로 남도록 합니다.
+ * 운송건 단위로 별도 트랜잭션에서 처리하므로 한 건의 실패가 나머지를 막지 않으며,
+ * 대상은 shipment_id 키셋으로 끝까지 넘겨 가며 읽으므로 건너뛴 건이 다음 대상을 가리지 않습니다.
+ * 한낮에 실행되지 않도록 KST 기준으로 예약하고, 03:30 우회 계수 재보정과 겹치지 않게 04:30에 실행합니다.
+ */
+@Slf4j
+@Component
+public class LocationLogRetentionJob {
+
+    private final LocationLogRepository locationLogRepository;
+    private final LocationLogCompactor locationLogCompactor;
+    private final SimplifiedRouteCache simplifiedRouteCache;
+    private final boolean enabled;
+    private final Duration archiveAfter;
+    private final double toleranceMeters;
+    private final int batchSize;
+
+    public LocationLogRetentionJob(
+            LocationLogRepository locationLogRepository,
+            LocationLogCompactor locationLogCompactor,
+            SimplifiedRouteCache simplifiedRouteCache,
+            @Value("${location.retention.enabled:true}") boolean enabled,
+            @Value("${location.retention.archive-after:P30D}") Duration archiveAfter,
+            @Value("${location.retention.tolerance-meters:10}") double toleranceMeters,
+            @Value("${location.retention.batch-size:200}") int batchSize) {
+        this.locationLogRepository = locationLogRepository;
+        this.locationLogCompactor = locationLogCompactor;
+        this.simplifiedRouteCache = simplifiedRouteCache;
+        this.enabled = enabled;
+        this.archiveAfter = archiveAfter;
+        this.toleranceMeters = toleranceMeters;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${location.retention.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void compactExpired() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime threshold = LocalDateTime.now().minus(archiveAfter);
+        long afterShipmentId = 0L;
+        int compacted = 0;
+        int scanned = 0;
+        List<LocationCompactionCandidate> candidates;
+        do {
+            candidates = locationLogRepository.findCompactionCandidates(afterShipmentId, threshold, batchSize);
+            for (LocationCompactionCandidate candidate : candidates) {
+                if (compact(candidate)) {
+                    compacted++;
+                }
+            }
+            if (!candidates.isEmpty()) {
+                afterShipmentId = candidates.get(candidates.size() - 1).getShipmentId();
+                scanned += candidates.size();
+            }
+        } while (candidates.size() == batchSize);
+
+        if (scanned > 0) {
+            log.info("위치 청크 보관 압축 완료: {}/{}건 (기준 시각 {})", compacted, scanned, threshold);
+        }
+    }
+
+    private boolean compact(LocationCompactionCandidate candidate) {
+        try {
+            int[] result = locationLogCompactor.compact(candidate, toleranceMeters);
+            if (result == null) {
+                return false;
+            }
+            simplifiedRouteCache.evict(candidate.getShipmentId());
+            log.debug("위치 청크 보관 압축. shipmentId={}, 점 {} → {}",
+                    candidate.getShipmentId(), result[0], result[1]);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("위치 청크 보관 압축 실패. shipmentId={}, 원인: {}", candidate.getShipmentId(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -3,10 +3,18 @@ package com.tjoeun.boxmon.feature.location.service;
 import com.tjoeun.boxmon.feature.location.dto.LocationLogRequest;
 import com.tjoeun.boxmon.feature.location.dto.LocationRouteResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 
 public interface LocationLogService {
     void saveLocationLog(Long driverId, LocationLogRequest request);
 
-    LocationRouteResponse getRoute(Long requesterId, Long shipmentId, LocalDateTime from, LocalDateTime to, Integer maxPoints);
+    LocationRouteResponse getRoute(Long requesterId, Long shipmentId, LocalDateTime from, LocalDateTime to, Integer maxPoints, Double toleranceMeters);
+
+    // 스트리밍 응답을 열기 전에 조회 조건/권한을 검증 (응답 커밋 전 예외를 4xx로 돌려주기 위함)
+    void checkRouteAccess(Long requesterId, Long shipmentId, LocalDateTime from, LocalDateTime to);
+
+    // 경로 좌표를 NDJSON(한 줄에 한 점)으로 출력 스트림에 바로 기록
+    void streamRoute(Long requesterId, Long shipmentId, LocalDateTime from, LocalDateTime to, Integer maxPoints, OutputStream outputStream) throws IOException;
 }
@@ -1,35 +1,42 @@
 package com.tjoeun.boxmon.feature.location.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule; // 추가 필요
+import com.tjoeun.boxmon.exception.LocationDataCorruptedException;
 import com.tjoeun.boxmon.exception.RoleAccessDeniedException;
 import com.tjoeun.boxmon.exception.ShipmentNotFoundException;
-import com.tjoeun.boxmon.exception.UserNotFoundException;
 import com.tjoeun.boxmon.feature.admin.repository.AdminRepository;
-import com.tjoeun.boxmon.feature.location.domain.LocationLog;
 import com.tjoeun.boxmon.feature.location.dto.LocationLogRequest;
 import com.tjoeun.boxmon.feature.location.dto.LocationRoutePointResponse;
 import com.tjoeun.boxmon.feature.location.dto.LocationRouteResponse;
 import com.tjoeun.boxmon.feature.location.repository.LocationLogRepository;
+import com.tjoeun.boxmon.feature.location.repository.projection.LocationChunkRow;
+import com.tjoeun.boxmon.feature.location.util.LocationChunk;
+import com.tjoeun.boxmon.feature.location.util.LocationChunkCodec;
+import com.tjoeun.boxmon.feature.location.util.LocationChunkJsonParser;
+import com.tjoeun.boxmon.feature.location.util.RoutePointBuffer;
+import com.tjoeun.boxmon.feature.location.util.RouteSimplifier;
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
+import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
 import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
-import com.tjoeun.boxmon.feature.user.domain.Driver;
-import com.tjoeun.boxmon.feature.user.domain.Shipper;
-import com.tjoeun.boxmon.feature.user.repository.DriverRepository;
-import com.tjoeun.boxmon.feature.user.repository.ShipperRepository;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.ShipmentParticipants;
+import com.tjoeun.boxmon.feature.shipment.service.RemainingEtaService;
 import lombok.extern.slf4j.Slf4j;
-import org.locationtech.jts.geom.Coordinate;
-import org.locationtech.jts.geom.GeometryFactory;
-import org.locationtech.jts.geom.Point;
-import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -38,11 +45,13 @@ public class LocationLogServiceImpl implements LocationLogService {
 
     private final LocationLogRepository locationLogRepository;
     private final ShipmentRepository shipmentRepository;
-    private final ShipperRepository shipperRepository;
-    private final DriverRepository driverRepository;
     private final AdminRepository adminRepository;
+    private final SimplifiedRouteCache simplifiedRouteCache;
+    private final LocationIngestQueue locationIngestQueue;
+    private final LiveLocationRegistry liveLocationRegistry;
+    private final LiveLocationPublisher liveLocationPublisher;
+    private final RemainingEtaService remainingEtaService;
     private final ObjectMapper objectMapper;
-    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
     private static final int DEFAULT_MAX_POINTS = 5000;
     private static final int MAX_ALLOWED_POINTS = 10000;
 
@@ -50,84 +59,272 @@ public class LocationLogServiceImpl implements LocationLogService {
     public LocationLogServiceImpl(
             LocationLogRepository locationLogRepository,
             ShipmentRepository shipmentRepository,
-            ShipperRepository shipperRepository,
-            DriverRepository driverRepository,
-            AdminRepository adminRepository
+            AdminRepository adminRepository,
+            SimplifiedRouteCache simplifiedRouteCache,
+            LocationIngestQueue locationIngestQueue,
+            LiveLocationRegistry liveLocationRegistry,
+            LiveLocationPublisher liveLocationPublisher,
+            RemainingEtaService remainingEtaService
     ) {
         this.locationLogRepository = locationLogRepository;
         this.shipmentRepository = shipmentRepository;
-        this.shipperRepository = shipperRepository;
-        this.driverRepository = driverRepository;
         this.adminRepository = adminRepository;
+        this.simplifiedRouteCache = simplifiedRouteCache;
+        this.locationIngestQueue = locationIngestQueue;
+        this.liveLocationRegistry = liveLocationRegistry;
+        this.liveLocationPublisher = liveLocationPublisher;
+        this.remainingEtaService = remainingEtaService;
 
         // 2. ObjectMapper를 직접 생성하여 할당합니다. 빈 등록 에러를 피할 수 있습니다.
         this.objectMapper = new ObjectMapper()
                 .registerModule(new JavaTimeModule()); // 날짜 데이터 처리를 위한 모듈
     }
 
+    /**
+     * 위치 청크를 검증 후 적재 큐에 넣고 즉시 반환합니다.
+     * 배송 참여자 확인은 식별자 프로젝션 1회 조회로 끝내며,
+     * 실시간 위치는 LiveLocationRegistry에 바로 반영해 구독자에게 전파하고,
+     * LOCATION_LOG INSERT는 LocationIngestQueue가 배치로 처리합니다.
+     */
     @Override
+    @Transactional(readOnly = true)
     public void saveLocationLog(Long driverId, LocationLogRequest request) {
-        Shipment shipment = shipmentRepository.findById(request.getShipmentId())
-                .orElseThrow(() -> new UserNotFoundException("운송건을 찾을 수 없습니다."));
-
-        Driver driver = driverRepository.findById(driverId)
-                .orElseThrow(() -> new UserNotFoundException("차주를 찾을 수 없습니다."));
-
-        Shipper shipper = shipperRepository.findById(shipment.getShipper().getShipperId())
-                .orElseThrow(() -> new UserNotFoundException("운송건에 연결된 화주를 찾을 수 없습니다."));
-
-        updateShipmentCurrentLocation(shipment, request.getLocationChunk());
+        ShipmentParticipants participants = shipmentRepository.findParticipantsById(request.getShipmentId())
+                .orElseThrow(() -> new ShipmentNotFoundException("운송건을 찾을 수 없습니다."));
 
-        LocationLog locationLog = LocationLog.builder()
-                .shipment(shipment)
-                .shipper(shipper)
-                .driver(driver)
-                .locationData(request.getLocationChunk())
-                .build();
+        if (participants.driverId() == null || !participants.driverId().equals(driverId)) {
+            throw new RoleAccessDeniedException("해당 운송건에 배차된 차주만 위치를 전송할 수 있습니다.");
+        }
 
-        locationLogRepository.save(locationLog);
+        // 원문을 그대로 복원할 수 있는 청크만 바이너리로 저장하고, 나머지는 원본 JSON으로 보관합니다.
+        LocationChunk chunk = parseChunk(request.getLocationChunk(), request.getShipmentId());
+        LocalDateTime receivedAt = LocalDateTime.now();
+        Optional<LivePosition> livePosition = Optional.empty();
+        if (chunk != null) {
+            livePosition = liveLocationRegistry.update(participants.shipmentId(), chunk);
+        } else {
+            double[] lastPoint = lastPointOf(request.getLocationChunk());
+            if (lastPoint != null) {
+                livePosition = liveLocationRegistry.update(participants.shipmentId(), lastPoint[0], lastPoint[1], receivedAt);
+            }
+        }
+        livePosition.ifPresent(position -> {
+            liveLocationPublisher.publish(participants.shipmentId(), position);
+            // 남은 경로 ETA는 운송 중일 때만, 갱신 조건을 만족하는 경우 백그라운드에서 다시 계산
+            if (participants.shipmentStatus() == ShipmentStatus.IN_TRANSIT) {
+                remainingEtaService.onLocationUpdate(participants.shipmentId(), position.lat(), position.lng());
+            }
+        });
+
+        byte[] binary = encodeChunk(chunk, request.getLocationChunk(), request.getShipmentId());
+        locationIngestQueue.enqueue(new PendingLocationChunk(
+                participants.shipmentId(),
+                participants.shipperId(),
+                driverId,
+                binary == null ? request.getLocationChunk() : null,
+                binary,
+                receivedAt,
+                0
+        ));
     }
 
+    /**
+     * 경로를 조회합니다.
+     * 점 개수가 maxPoints를 넘으면 뒤를 자르지 않고 Visvalingam–Whyatt로 형태를 유지하며 줄이고,
+     * toleranceMeters가 주어지면 먼저 Douglas–Peucker로 허용 오차 안의 점을 제거합니다.
+     * 운송 완료 건의 전체 구간 조회 결과는 캐시합니다.
+     * 점의 at은 업로드된 원문 표기 그대로입니다. (바이너리 청크는 원문과 같게 복원되는 경우에만 만들어짐)
+     */
     @Override
     @Transactional(readOnly = true)
-    public LocationRouteResponse getRoute(Long requesterId, Long shipmentId, LocalDateTime from, LocalDateTime to, Integer maxPoints) {
+    public LocationRouteResponse getRoute(Long requesterId, Long shipmentId, LocalDateTime from, LocalDateTime to,
+                                          Integer maxPoints, Double toleranceMeters) {
         validateRange(from, to);
         int resolvedMaxPoints = resolveMaxPoints(maxPoints);
+        validateTolerance(toleranceMeters);
 
         Shipment shipment = shipmentRepository.findById(shipmentId)
                 .orElseThrow(() -> new ShipmentNotFoundException("운송건을 찾을 수 없습니다."));
 
         validateRouteAccess(requesterId, shipment);
 
-        List<LocationLog> logs = loadLocationLogs(shipmentId, from, to);
-        List<LocationRoutePointResponse> points = new ArrayList<>();
-        boolean truncated = false;
-
-        for (LocationLog logEntry : logs) {
-            if (points.size() >= resolvedMaxPoints) {
-                truncated = true;
-                break;
+        // 완료된 운송은 더 이상 위치가 쌓이지 않으므로 단순화 결과를 재사용
+        boolean cacheable = shipment.getShipmentStatus() == ShipmentStatus.DONE && from == null && to == null;
+        if (cacheable) {
+            Optional<LocationRouteResponse> cached = simplifiedRouteCache.get(shipmentId, toleranceMeters, resolvedMaxPoints);
+            if (cached.isPresent()) {
+                return cached.get();
             }
+        }
 
-            List<LocationRoutePointResponse> parsedPoints = parseChunkPoints(logEntry.getLocationData(), shipmentId, logEntry.getLocationId());
-            for (LocationRoutePointResponse point : parsedPoints) {
-                if (points.size() >= resolvedMaxPoints) {
-                    truncated = true;
-                    break;
-                }
-                points.add(point);
-            }
+        RoutePointBuffer buffer = loadRoutePoints(shipmentId, from, to);
+        int[] kept = RouteSimplifier.identity(buffer.size());
+        if (toleranceMeters != null) {
+            kept = RouteSimplifier.douglasPeucker(buffer.lats(), buffer.lngs(), kept, toleranceMeters);
+        }
+        if (kept.length > resolvedMaxPoints) {
+            kept = RouteSimplifier.visvalingam(buffer.lats(), buffer.lngs(), kept, resolvedMaxPoints);
+        }
+
+        List<LocationRoutePointResponse> points = new ArrayList<>(kept.length);
+        for (int index : kept) {
+            points.add(LocationRoutePointResponse.builder()
+                    .lat(buffer.latAt(index))
+                    .lng(buffer.lngAt(index))
+                    .at(buffer.atAt(index))
+                    .build());
         }
 
-        return LocationRouteResponse.builder()
+        LocationRouteResponse response = LocationRouteResponse.builder()
                 .shipmentId(shipmentId)
                 .pointCount(points.size())
-                .truncated(truncated)
+                .originalPointCount(buffer.size())
+                .simplified(points.size() < buffer.size())
+                .truncated(false)
                 .points(points)
                 .build();
+
+        if (cacheable) {
+            simplifiedRouteCache.put(shipmentId, toleranceMeters, resolvedMaxPoints, response);
+        }
+        return response;
     }
 
-    private void updateShipmentCurrentLocation(Shipment shipment, String locationChunk) {
+    @Override
+    @Transactional(readOnly = true)
+    public void checkRouteAccess(Long requesterId, Long shipmentId, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+
+        Shipment shipment = shipmentRepository.findById(shipmentId)
+                .orElseThrow(() -> new ShipmentNotFoundException("운송건을 찾을 수 없습니다."));
+
+        validateRouteAccess(requesterId, shipment);
+    }
+
+    /**
+     * 경로를 NDJSON으로 스트리밍합니다.
+     * 청크를 DB 커서로 한 건씩 읽어 디코딩 즉시 기록하므로 운행 길이와 무관하게 메모리 사용량이 일정합니다.
+     * 각 줄은 {"type":"point","lat","lng","at"}이며 마지막 줄은 {"type":"end","pointCount","truncated"}입니다.
+     * maxPoints가 없으면 전체 경로를 내보냅니다. 손상된 청크를 만나면 중단하므로 end 줄이 없으면 불완전한 응답입니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamRoute(Long requesterId, Long shipmentId, LocalDateTime from, LocalDateTime to, Integer maxPoints,
+                            OutputStream outputStream) throws IOException {
+        checkRouteAccess(requesterId, shipmentId, from, to);
+        long limit = maxPoints == null ? Long.MAX_VALUE : resolveMaxPoints(maxPoints);
+
+        long written = 0;
+        boolean truncated = false;
+        try (Stream<LocationChunkRow> rows = openChunkStream(shipmentId, from, to);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 컨테이너가 닫음
+
+            Iterator<LocationChunkRow> iterator = rows.iterator();
+            chunks:
+            while (iterator.hasNext()) {
+                LocationChunkRow row = iterator.next();
+                LocationChunk chunk = toChunk(row, shipmentId);
+                if (chunk != null) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        if (written >= limit) {
+                            truncated = true;
+                            break chunks;
+                        }
+                        writePoint(generator, chunk.latAt(i), chunk.lngAt(i),
+                                LocationChunkJsonParser.formatEpochMillis(chunk.epochMillisAt(i), chunk.fixedMillis()));
+                        written++;
+                    }
+                } else {
+                    // JSON으로 보관된 청크는 원문 시각 문자열을 그대로 내보냄
+                    for (LocationRoutePointResponse point : parseChunkPoints(row.locationData(), shipmentId, row.locationId())) {
+                        if (written >= limit) {
+                            truncated = true;
+                            break chunks;
+                        }
+                        writePoint(generator, point.getLat(), point.getLng(), point.getAt());
+                        written++;
+                    }
+                }
+                // 청크 단위로 내보내 클라이언트가 점진적으로 그릴 수 있게 함
+                generator.flush();
+            }
+
+            generator.writeStartObject();
+            generator.writeStringField("type", "end");
+            generator.writeNumberField("shipmentId", shipmentId);
+            generator.writeNumberField("pointCount", written);
+            generator.writeBooleanField("truncated", truncated);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+        }
+    }
+
+    private Stream<LocationChunkRow> openChunkStream(Long shipmentId, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null) {
+            return locationLogRepository.streamChunksByShipmentIdAndCreatedAtBetween(shipmentId, from, to);
+        }
+        return locationLogRepository.streamChunksByShipmentId(shipmentId);
+    }
+
+    /**
+     * 바이너리 청크를 디코딩합니다. JSON 청크는 null을 반환하며, 호출자는 원문 좌표와 시각 문자열을 그대로 응답해야 합니다.
+     */
+    private LocationChunk toChunk(LocationChunkRow row, Long shipmentId) {
+        if (row.locationBinary() != null) {
+            return decodeChunk(row.locationBinary(), shipmentId, row.locationId());
+        }
+        if (row.locationData() == null) {
+            return LocationChunk.empty();
+        }
+        return null;
+    }
+
+    private void writePoint(JsonGenerator generator, double lat, double lng, String at) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "point");
+        generator.writeNumberField("lat", lat);
+        generator.writeNumberField("lng", lng);
+        generator.writeStringField("at", at);
+        generator.writeEndObject();
+    }
+
+    private LocationChunk parseChunk(String locationChunk, Long shipmentId) {
+        try {
+            return LocationChunkJsonParser.parse(objectMapper, locationChunk).orElse(null);
+        } catch (Exception e) {
+            log.warn("위치 청크를 바이너리로 변환하지 못해 원본 JSON으로 저장합니다. shipmentId={}, 원인: {}", shipmentId, e.getMessage());
+            return null;
+        }
+    }
+
+    // 바이너리에서 원문을 그대로 복원할 수 없는 청크(추가 필드, 1970년 이전 시각 등)는 null을 반환해 원본 JSON으로 저장하도록 함
+    private byte[] encodeChunk(LocationChunk chunk, String json, Long shipmentId) {
+        if (chunk == null) {
+            return null;
+        }
+        byte[] binary = LocationChunkJsonParser.encodeLossless(chunk, json).orElse(null);
+        if (binary == null) {
+            log.debug("원문을 그대로 복원할 수 없는 위치 청크라 원본 JSON으로 저장합니다. shipmentId={}", shipmentId);
+        }
+        return binary;
+    }
+
+    // 손상된 바이너리 청크를 빈 청크로 대신하면 경로가 조용히 빠지므로 오류로 알림
+    private LocationChunk decodeChunk(byte[] data, Long shipmentId, Long locationId) {
+        try {
+            return LocationChunkCodec.decode(data);
+        } catch (RuntimeException e) {
+            log.error("경로 바이너리 청크가 손상되었습니다. shipmentId={}, locationId={}", shipmentId, locationId, e);
+            throw new LocationDataCorruptedException(
+                    "저장된 위치 데이터가 손상되어 경로를 조회할 수 없습니다. (locationId=" + locationId + ")", e);
+        }
+    }
+
+    // 바이너리로 변환하지 못한 레거시 형식 청크에서 마지막 좌표만 추출
+    private double[] lastPointOf(String locationChunk) {
         try {
             List<Map<String, Object>> locations = objectMapper.readValue(
                     locationChunk,
@@ -140,15 +337,12 @@ public class LocationLogServiceImpl implements LocationLogService {
                 // JSON에서 꺼낼 때 숫자 타입 변환 예외 방지를 위해 Number 사용 권장
                 double lat = ((Number) lastLocation.get("lat")).doubleValue();
                 double lng = ((Number) lastLocation.get("lng")).doubleValue();
-
-                Point currentPoint = geometryFactory.createPoint(new Coordinate(lng, lat));
-
-                shipment.setCurrentLocationPoint(currentPoint);
-                log.info("운송건 ID {}: 차주 최신 위치 업데이트 완료 ({}, {})", shipment.getShipmentId(), lat, lng);
+                return new double[]{lat, lng};
             }
         } catch (Exception e) {
             log.error("위치 데이터 파싱 중 오류 발생: {}", e.getMessage());
         }
+        return null;
     }
 
     private void validateRange(LocalDateTime from, LocalDateTime to) {
@@ -157,6 +351,12 @@ public class LocationLogServiceImpl implements LocationLogService {
         }
     }
 
+    private void validateTolerance(Double toleranceMeters) {
+        if (toleranceMeters != null && !(toleranceMeters > 0)) {
+            throw new IllegalArgumentException("tolerance는 0보다 커야 합니다.");
+        }
+    }
+
     private int resolveMaxPoints(Integer maxPoints) {
         if (maxPoints == null) {
             return DEFAULT_MAX_POINTS;
@@ -184,11 +384,21 @@ public class LocationLogServiceImpl implements LocationLogService {
         }
     }
 
-    private List<LocationLog> loadLocationLogs(Long shipmentId, LocalDateTime from, LocalDateTime to) {
-        if (from != null && to != null) {
-            return locationLogRepository.findByShipment_ShipmentIdAndCreatedAtBetweenOrderByCreatedAtAscLocationIdAsc(shipmentId, from, to);
+    private RoutePointBuffer loadRoutePoints(Long shipmentId, LocalDateTime from, LocalDateTime to) {
+        RoutePointBuffer buffer = new RoutePointBuffer(1024);
+        try (Stream<LocationChunkRow> rows = openChunkStream(shipmentId, from, to)) {
+            rows.forEach(row -> {
+                LocationChunk chunk = toChunk(row, shipmentId);
+                if (chunk != null) {
+                    buffer.addChunk(chunk);
+                    return;
+                }
+                for (LocationRoutePointResponse point : parseChunkPoints(row.locationData(), shipmentId, row.locationId())) {
+                    buffer.addWithRawAt(point.getLat(), point.getLng(), point.getAt());
+                }
+            });
         }
-        return locationLogRepository.findByShipment_ShipmentIdOrderByCreatedAtAscLocationIdAsc(shipmentId);
+        return buffer;
     }
 
     private List<LocationRoutePointResponse> parseChunkPoints(String chunk, Long shipmentId, Long locationId) {
@@ -0,0 +1,27 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적재 대기 중인 위치 청크.
+ * 검증을 마친 식별자와 인코딩된 청크를 담습니다.
+ *
+ * @param locationData 바이너리로 변환할 수 없는 경우의 원본 JSON (그 외 null)
+ * @param locationBinary 바이너리 청크 (변환 불가 시 null)
+ * @param receivedAt 서버 수신 시각 (LOCATION_LOG.created_at)
+ * @param attempts 적재 시도 횟수
+ */
+record PendingLocationChunk(
+        Long shipmentId,
+        Long shipperId,
+        Long driverId,
+        String locationData,
+        byte[] locationBinary,
+        LocalDateTime receivedAt,
+        int attempts
+) {
+    PendingLocationChunk retried() {
+        return new PendingLocationChunk(shipmentId, shipperId, driverId, locationData, locationBinary,
+                receivedAt, attempts + 1);
+    }
+}
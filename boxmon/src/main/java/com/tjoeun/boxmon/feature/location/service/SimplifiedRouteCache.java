@@ -0,0 +1,57 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tjoeun.boxmon.feature.location.dto.LocationRouteResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 운송 완료(DONE) 건의 단순화된 전체 경로 캐시.
+ * 완료 이후에는 위치 청크가 추가되지 않으므로 (shipmentId, 허용 오차, 최대 점 개수) 조합별 결과를 재사용합니다.
+ * 적중/미스/제거 지표는 simplifiedRoute 캐시 이름으로 노출합니다.
+ */
+@Slf4j
+@Component
+public class SimplifiedRouteCache {
+    static final String CACHE_NAME = "simplifiedRoute";
+
+    private final Cache<String, LocationRouteResponse> cache;
+
+    public SimplifiedRouteCache(
+            @Value("${location.route.cache.ttl:PT6H}") Duration ttl,
+            @Value("${location.route.cache.max-size:1000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("단순화 경로 캐시 설정: ttl={}, maxSize={}", ttl, maxSize);
+    }
+
+    public Optional<LocationRouteResponse> get(Long shipmentId, Double toleranceMeters, int maxPoints) {
+        return Optional.ofNullable(cache.getIfPresent(keyOf(shipmentId, toleranceMeters, maxPoints)));
+    }
+
+    public void put(Long shipmentId, Double toleranceMeters, int maxPoints, LocationRouteResponse response) {
+        cache.put(keyOf(shipmentId, toleranceMeters, maxPoints), response);
+    }
+
+    // 경로 원본이 바뀐 경우(보관 압축 등) 해당 운송건의 모든 조합을 제거
+    public void evict(Long shipmentId) {
+        String prefix = shipmentId + "|";
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private String keyOf(Long shipmentId, Double toleranceMeters, int maxPoints) {
+        return shipmentId + "|" + (toleranceMeters == null ? "-" : toleranceMeters) + "|" + maxPoints;
+    }
+}
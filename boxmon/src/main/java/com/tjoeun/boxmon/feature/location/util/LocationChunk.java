@@ -0,0 +1,63 @@
+package com.tjoeun.boxmon.feature.location.util;
+
+/**
+ * 위치 청크를 디코딩한 결과.
+ * 점마다 객체/Map을 만들지 않도록 위도·경도·시각을 컬럼별 primitive 배열로 보관합니다.
+ * (배열은 복사하지 않으므로 호출자는 내용을 수정하지 않아야 합니다.)
+ * fixedMillis는 원본 JSON의 시각(at)이 밀리초 3자리를 항상 표기하는 형식(JavaScript toISOString)이었는지 여부로,
+ * 원문을 그대로 복원하기 위해 보관합니다.
+ */
+public final class LocationChunk {
+    private static final LocationChunk EMPTY = new LocationChunk(new double[0], new double[0], new long[0]);
+
+    private final double[] lats;
+    private final double[] lngs;
+    private final long[] epochMillis;
+    private final boolean fixedMillis;
+
+    public LocationChunk(double[] lats, double[] lngs, long[] epochMillis) {
+        this(lats, lngs, epochMillis, false);
+    }
+
+    public LocationChunk(double[] lats, double[] lngs, long[] epochMillis, boolean fixedMillis) {
+        if (lats.length != lngs.length || lats.length != epochMillis.length) {
+            throw new IllegalArgumentException("위치 청크의 컬럼 길이가 일치하지 않습니다.");
+        }
+        this.lats = lats;
+        this.lngs = lngs;
+        this.epochMillis = epochMillis;
+        this.fixedMillis = fixedMillis;
+    }
+
+    public static LocationChunk empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return lats.length;
+    }
+
+    public LocationChunk withFixedMillis(boolean fixedMillis) {
+        return fixedMillis == this.fixedMillis ? this : new LocationChunk(lats, lngs, epochMillis, fixedMillis);
+    }
+
+    public boolean fixedMillis() {
+        return fixedMillis;
+    }
+
+    public boolean isEmpty() {
+        return lats.length == 0;
+    }
+
+    public double latAt(int index) {
+        return lats[index];
+    }
+
+    public double lngAt(int index) {
+        return lngs[index];
+    }
+
+    public long epochMillisAt(int index) {
+        return epochMillis[index];
+    }
+}
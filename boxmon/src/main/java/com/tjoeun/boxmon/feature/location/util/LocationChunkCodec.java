@@ -0,0 +1,142 @@
+package com.tjoeun.boxmon.feature.location.util;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 위치 청크 바이너리 코덱.
+ * 컬럼형 레이아웃으로 시각 → 위도 → 경도 순서로 기록하며,
+ * 위경도는 1e-7도 고정소수점, 시각은 epoch millis로 변환한 뒤
+ * 첫 값은 절대값, 이후 값은 직전 값과의 차이(delta)를 zigzag varint로 저장합니다.
+ *
+ * <pre>
+ * [version:1byte][flags:1byte, 버전 2부터][count:varint]
+ * [time0:varint][timeDelta:zigzag varint]*(count-1)
+ * [lat0:zigzag varint][latDelta:zigzag varint]*(count-1)
+ * [lng0:zigzag varint][lngDelta:zigzag varint]*(count-1)
+ * </pre>
+ * flags의 0번 비트는 시각을 밀리초 3자리로 표기하는 형식이었는지 여부입니다.
+ * 1Hz 수집 기준 점당 약 5~7바이트로, JSON 텍스트 대비 10배 이상 작습니다.
+ */
+public final class LocationChunkCodec {
+    public static final byte VERSION = 2;
+    private static final int FLAG_FIXED_MILLIS = 1;
+    private static final double FIXED_POINT_SCALE = 1e7; // 약 1cm 해상도
+
+    private LocationChunkCodec() {
+    }
+
+    public static byte[] encode(LocationChunk chunk) {
+        int size = chunk.size();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 + 5 + size * 8);
+        out.write(VERSION);
+        out.write(chunk.fixedMillis() ? FLAG_FIXED_MILLIS : 0);
+        writeVarint(out, size);
+        if (size == 0) {
+            return out.toByteArray();
+        }
+
+        long previousTime = chunk.epochMillisAt(0);
+        if (previousTime < 0) {
+            throw new IllegalArgumentException("위치 시각은 1970-01-01 이후여야 합니다.");
+        }
+        writeVarint(out, previousTime);
+        for (int i = 1; i < size; i++) {
+            long time = chunk.epochMillisAt(i);
+            writeVarint(out, zigzag(time - previousTime));
+            previousTime = time;
+        }
+
+        writeDeltaColumn(out, chunk, true);
+        writeDeltaColumn(out, chunk, false);
+        return out.toByteArray();
+    }
+
+    public static LocationChunk decode(byte[] data) {
+        Reader reader = new Reader(data);
+        int version = reader.readByte();
+        if (version != 1 && version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 위치 청크 버전입니다: " + version);
+        }
+        int flags = version == 1 ? 0 : reader.readByte();
+        int size = (int) reader.readVarint();
+        if (size < 0) {
+            throw new IllegalArgumentException("위치 청크 데이터가 손상되었습니다.");
+        }
+        if (size == 0) {
+            return LocationChunk.empty();
+        }
+
+        long[] epochMillis = new long[size];
+        epochMillis[0] = reader.readVarint();
+        for (int i = 1; i < size; i++) {
+            epochMillis[i] = epochMillis[i - 1] + unzigzag(reader.readVarint());
+        }
+
+        double[] lats = readDeltaColumn(reader, size);
+        double[] lngs = readDeltaColumn(reader, size);
+        return new LocationChunk(lats, lngs, epochMillis, (flags & FLAG_FIXED_MILLIS) != 0);
+    }
+
+    private static void writeDeltaColumn(ByteArrayOutputStream out, LocationChunk chunk, boolean latitude) {
+        long previous = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            long fixed = Math.round((latitude ? chunk.latAt(i) : chunk.lngAt(i)) * FIXED_POINT_SCALE);
+            writeVarint(out, zigzag(fixed - previous));
+            previous = fixed;
+        }
+    }
+
+    private static double[] readDeltaColumn(Reader reader, int size) {
+        double[] values = new double[size];
+        long current = 0;
+        for (int i = 0; i < size; i++) {
+            current += unzigzag(reader.readVarint());
+            values[i] = current / FIXED_POINT_SCALE;
+        }
+        return values;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private int readByte() {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("위치 청크 데이터가 손상되었습니다.");
+            }
+            return data[position++] & 0xFF;
+        }
+
+        private long readVarint() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("위치 청크 데이터가 손상되었습니다.");
+        }
+    }
+}
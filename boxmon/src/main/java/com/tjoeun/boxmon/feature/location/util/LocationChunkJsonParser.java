@@ -0,0 +1,170 @@
+package com.tjoeun.boxmon.feature.location.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 프론트에서 전송한 JSON 위치 청크("[{lat, lng, at}, ...]")를 컬럼 배열로 변환합니다.
+ * Map/DTO를 거치지 않고 JSON 트리에서 바로 primitive 배열을 채웁니다.
+ * <p>
+ * 변환 결과는 실시간 위치처럼 해석된 값이 필요한 곳에 쓰고, 저장은 {@link #encodeLossless}가
+ * 원문을 바이트 단위로 복원할 수 있다고 확인한 청크만 바이너리로 합니다.
+ * 바이너리 청크를 JSON으로 되돌린 형식은 {@link #render}이며, 경로 응답의 at도 같은 표기를 씁니다.
+ */
+public final class LocationChunkJsonParser {
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul"); // 오프셋 없는 시각의 기준 시간대
+    private static final DateTimeFormatter FIXED_MILLIS_FORMAT =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+    private LocationChunkJsonParser() {
+    }
+
+    /**
+     * JSON 청크를 변환합니다. lat/lng가 없는 점은 기존 조회 로직과 동일하게 건너뜁니다.
+     *
+     * 오프셋 없는 시각은 Asia/Seoul, 정수 시각은 epoch millis로 해석합니다.
+     *
+     * @return 변환 결과, 배열 형식이 아니거나 시각(at)을 해석할 수 없는 점이 있으면 빈 Optional
+     * @throws JsonProcessingException JSON 문법 오류
+     */
+    public static Optional<LocationChunk> parse(ObjectMapper objectMapper, String json)
+            throws JsonProcessingException {
+        JsonNode root = objectMapper.readTree(json);
+        if (root == null || !root.isArray()) {
+            return Optional.empty();
+        }
+
+        int capacity = root.size();
+        double[] lats = new double[capacity];
+        double[] lngs = new double[capacity];
+        long[] epochMillis = new long[capacity];
+        int size = 0;
+
+        for (JsonNode item : root) {
+            double lat = toDouble(item.get("lat"));
+            double lng = toDouble(item.get("lng"));
+            if (Double.isNaN(lat) || Double.isNaN(lng)) {
+                continue;
+            }
+            Long at = toEpochMillis(item.get("at"));
+            if (at == null) {
+                return Optional.empty();
+            }
+            lats[size] = lat;
+            lngs[size] = lng;
+            epochMillis[size] = at;
+            size++;
+        }
+
+        if (size < capacity) {
+            lats = Arrays.copyOf(lats, size);
+            lngs = Arrays.copyOf(lngs, size);
+            epochMillis = Arrays.copyOf(epochMillis, size);
+        }
+        return Optional.of(new LocationChunk(lats, lngs, epochMillis));
+    }
+
+    private static double toDouble(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return Double.NaN;
+        }
+        if (node.isNumber()) {
+            return node.doubleValue();
+        }
+        if (node.isTextual()) {
+            try {
+                return Double.parseDouble(node.textValue());
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static Long toEpochMillis(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (node.isIntegralNumber()) {
+            return node.longValue();
+        }
+        if (!node.isTextual()) {
+            return null;
+        }
+
+        String text = node.textValue();
+        try {
+            return OffsetDateTime.parse(text).toInstant().toEpochMilli(); // 2025-01-01T10:00:00Z, +09:00
+        } catch (DateTimeException ignored) {
+            // 다음 형식 시도
+        }
+        try {
+            return LocalDateTime.parse(text).atZone(DEFAULT_ZONE).toInstant().toEpochMilli();
+        } catch (DateTimeException ignored) {
+            // 다음 형식 시도
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 청크를 바이너리로 인코딩하되, 디코딩해 {@link #render}한 결과가 원문 JSON과 바이트 단위로 같을 때만 반환합니다.
+     * 추가 필드, 오프셋/시간대가 있는 시각, 정수 시각, 1e-7도보다 정밀한 좌표, 공백이 있는 JSON 등은 빈 Optional이므로
+     * 호출자는 원본 JSON을 그대로 저장해야 합니다.
+     */
+    public static Optional<byte[]> encodeLossless(LocationChunk chunk, String json) {
+        for (boolean fixedMillis : new boolean[]{false, true}) {
+            byte[] encoded;
+            try {
+                encoded = LocationChunkCodec.encode(chunk.withFixedMillis(fixedMillis));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty(); // 1970년 이전 시각
+            }
+            if (render(LocationChunkCodec.decode(encoded)).equals(json)) {
+                return Optional.of(encoded);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 바이너리 청크를 저장 당시의 JSON 표기로 되돌립니다. ([{"lat":..,"lng":..,"at":"..."}], 공백 없음)
+     */
+    public static String render(LocationChunk chunk) {
+        StringBuilder json = new StringBuilder(2 + chunk.size() * 64).append('[');
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"lat\":").append(chunk.latAt(i))
+                    .append(",\"lng\":").append(chunk.lngAt(i))
+                    .append(",\"at\":\"").append(formatEpochMillis(chunk.epochMillisAt(i), chunk.fixedMillis()))
+                    .append("\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * 바이너리 청크의 시각을 저장 당시 표기의 ISO-8601(UTC) 문자열로 변환합니다.
+     *
+     * @param fixedMillis 밀리초를 항상 3자리로 표기할지 여부 (아니면 {@link Instant#toString()} 표기)
+     */
+    public static String formatEpochMillis(long epochMillis, boolean fixedMillis) {
+        Instant instant = Instant.ofEpochMilli(epochMillis);
+        return fixedMillis ? FIXED_MILLIS_FORMAT.format(instant) : instant.toString();
+    }
+}
@@ -0,0 +1,135 @@
+package com.tjoeun.boxmon.feature.location.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 경로 점을 모으는 가변 길이 primitive 버퍼.
+ * 단순화 전 전체 경로를 점마다 객체 없이 보관하기 위해 사용합니다.
+ * 시각을 해석하지 못한 레거시 점만 원문 시각 문자열을 따로 보관합니다.
+ * 바이너리 청크에서 온 점은 청크의 시각 표기 형식(밀리초 3자리 여부)을 점별로 기억해 저장 당시 표기로 응답합니다.
+ */
+public final class RoutePointBuffer {
+    private static final long RAW_AT = Long.MIN_VALUE; // 원문 시각 문자열 사용 표시
+
+    private double[] lats;
+    private double[] lngs;
+    private long[] epochMillis;
+    private String[] rawAts;
+    private final BitSet fixedMillis = new BitSet();
+    private int size;
+
+    public RoutePointBuffer(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.lats = new double[capacity];
+        this.lngs = new double[capacity];
+        this.epochMillis = new long[capacity];
+    }
+
+    public void add(double lat, double lng, long epochMillis) {
+        ensureCapacity();
+        lats[size] = lat;
+        lngs[size] = lng;
+        this.epochMillis[size] = epochMillis;
+        size++;
+    }
+
+    public void addChunk(LocationChunk chunk) {
+        int start = size;
+        for (int i = 0; i < chunk.size(); i++) {
+            add(chunk.latAt(i), chunk.lngAt(i), chunk.epochMillisAt(i));
+        }
+        if (chunk.fixedMillis()) {
+            fixedMillis.set(start, size);
+        }
+    }
+
+    public void addWithRawAt(double lat, double lng, String rawAt) {
+        ensureCapacity();
+        if (rawAts == null) {
+            rawAts = new String[lats.length];
+        }
+        lats[size] = lat;
+        lngs[size] = lng;
+        epochMillis[size] = RAW_AT;
+        rawAts[size] = rawAt;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 단순화 계산용 내부 배열 (size 이후 값은 무시)
+    public double[] lats() {
+        return lats;
+    }
+
+    public double[] lngs() {
+        return lngs;
+    }
+
+    public double latAt(int index) {
+        return lats[index];
+    }
+
+    public double lngAt(int index) {
+        return lngs[index];
+    }
+
+    public boolean hasRawAt() {
+        return rawAts != null;
+    }
+
+    /**
+     * 시각 표기 형식이 다른 바이너리 청크가 섞여 있어 하나의 청크로 합치면 표기가 바뀌는지 여부.
+     */
+    public boolean hasMixedAtFormat() {
+        int fixed = fixedMillis.cardinality();
+        return fixed != 0 && fixed != size;
+    }
+
+    /**
+     * 지정한 점들만 골라 바이너리 청크로 만듭니다. 원문 시각 문자열이 섞인 버퍼에는 사용할 수 없습니다.
+     */
+    public LocationChunk toChunk(int[] indices) {
+        if (hasRawAt()) {
+            throw new IllegalStateException("시각을 해석하지 못한 점이 있어 청크로 변환할 수 없습니다.");
+        }
+        if (hasMixedAtFormat()) {
+            throw new IllegalStateException("시각 표기 형식이 다른 점이 섞여 있어 청크로 변환할 수 없습니다.");
+        }
+        double[] chunkLats = new double[indices.length];
+        double[] chunkLngs = new double[indices.length];
+        long[] chunkEpochMillis = new long[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            chunkLats[i] = lats[indices[i]];
+            chunkLngs[i] = lngs[indices[i]];
+            chunkEpochMillis[i] = epochMillis[indices[i]];
+        }
+        return new LocationChunk(chunkLats, chunkLngs, chunkEpochMillis, size > 0 && fixedMillis.get(0));
+    }
+
+    /**
+     * 응답용 시각 문자열 (바이너리 청크의 점은 저장 당시 표기의 ISO-8601 UTC, 레거시 점은 원문).
+     */
+    public String atAt(int index) {
+        if (epochMillis[index] == RAW_AT) {
+            return rawAts[index];
+        }
+        return LocationChunkJsonParser.formatEpochMillis(epochMillis[index], fixedMillis.get(index));
+    }
+
+    private void ensureCapacity() {
+        if (size < lats.length) {
+            return;
+        }
+        int capacity = lats.length * 2;
+        lats = Arrays.copyOf(lats, capacity);
+        lngs = Arrays.copyOf(lngs, capacity);
+        epochMillis = Arrays.copyOf(epochMillis, capacity);
+        if (rawAts != null) {
+            rawAts = Arrays.copyOf(rawAts, capacity);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.tjoeun.boxmon.feature.location.util;
+
+import java.util.PriorityQueue;
+
+/**
+ * 경로(폴리라인) 단순화 유틸.
+ * - Douglas–Peucker: 허용 오차(m) 안에서 형태를 유지하며 점을 줄입니다.
+ * - Visvalingam–Whyatt: 삼각형 유효 면적이 작은 점부터 제거해 목표 점 개수로 줄입니다.
+ * 좌표는 경로 평균 위도 기준 등장방형(equirectangular) 투영으로 미터 단위로 환산해 계산합니다.
+ * 두 방식 모두 시작점/끝점은 항상 유지하며, 입력 인덱스 배열의 부분 수열(원래 순서)을 반환합니다.
+ */
+public final class RouteSimplifier {
+    private static final double METERS_PER_DEGREE_LAT = 110_540.0;
+    private static final double METERS_PER_DEGREE_LNG_AT_EQUATOR = 111_320.0;
+
+    private RouteSimplifier() {
+    }
+
+    public static int[] identity(int size) {
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    /**
+     * 허용 오차 기반 Douglas–Peucker 단순화 (재귀 대신 명시적 스택 사용).
+     *
+     * @param indices 대상 점 인덱스 (원래 순서)
+     * @param toleranceMeters 구간 선분에서 이 거리(m) 이내인 점은 제거
+     */
+    public static int[] douglasPeucker(double[] lats, double[] lngs, int[] indices, double toleranceMeters) {
+        int size = indices.length;
+        if (size <= 2) {
+            return indices;
+        }
+        double[][] xy = project(lats, lngs, indices);
+        double[] x = xy[0];
+        double[] y = xy[1];
+
+        boolean[] keep = new boolean[size];
+        keep[0] = true;
+        keep[size - 1] = true;
+
+        int[] stack = new int[size * 2];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = size - 1;
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+
+            double maxDistance = -1;
+            int farthest = -1;
+            for (int i = first + 1; i < last; i++) {
+                double distance = segmentDistance(x[i], y[i], x[first], y[first], x[last], y[last]);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+            if (farthest != -1 && maxDistance > toleranceMeters) {
+                keep[farthest] = true;
+                stack[top++] = first;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = last;
+            }
+        }
+        return collect(indices, keep);
+    }
+
+    /**
+     * 목표 점 개수 기반 Visvalingam–Whyatt 단순화.
+     *
+     * @param indices 대상 점 인덱스 (원래 순서)
+     * @param targetSize 남길 점 개수 (2 이상)
+     */
+    public static int[] visvalingam(double[] lats, double[] lngs, int[] indices, int targetSize) {
+        int size = indices.length;
+        int target = Math.max(2, targetSize);
+        if (size <= target) {
+            return indices;
+        }
+        double[][] xy = project(lats, lngs, indices);
+        double[] x = xy[0];
+        double[] y = xy[1];
+
+        int[] prev = new int[size];
+        int[] next = new int[size];
+        int[] version = new int[size];
+        boolean[] keep = new boolean[size];
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            prev[i] = i - 1;
+            next[i] = i + 1;
+            keep[i] = true;
+            if (i > 0 && i < size - 1) {
+                queue.add(new Candidate(triangleArea(x, y, i - 1, i, i + 1), i, 0));
+            }
+        }
+
+        int remaining = size;
+        double lastRemovedArea = 0;
+        while (remaining > target && !queue.isEmpty()) {
+            Candidate candidate = queue.poll();
+            int position = candidate.position();
+            if (!keep[position] || candidate.version() != version[position]) {
+                continue; // 이웃 제거로 면적이 갱신된 오래된 항목
+            }
+            // 유효 면적이 감소하지 않도록 보정해 이미 제거된 점보다 먼저 남는 점이 없게 함
+            lastRemovedArea = Math.max(lastRemovedArea, candidate.area());
+            keep[position] = false;
+            remaining--;
+
+            int left = prev[position];
+            int right = next[position];
+            next[left] = right;
+            prev[right] = left;
+            if (left > 0) {
+                version[left]++;
+                double area = Math.max(lastRemovedArea, triangleArea(x, y, prev[left], left, right));
+                queue.add(new Candidate(area, left, version[left]));
+            }
+            if (right < size - 1) {
+                version[right]++;
+                double area = Math.max(lastRemovedArea, triangleArea(x, y, left, right, next[right]));
+                queue.add(new Candidate(area, right, version[right]));
+            }
+        }
+        return collect(indices, keep);
+    }
+
+    private static double[][] project(double[] lats, double[] lngs, int[] indices) {
+        double latSum = 0;
+        for (int index : indices) {
+            latSum += lats[index];
+        }
+        double metersPerDegreeLng = METERS_PER_DEGREE_LNG_AT_EQUATOR * Math.cos(Math.toRadians(latSum / indices.length));
+
+        double[] x = new double[indices.length];
+        double[] y = new double[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            x[i] = lngs[indices[i]] * metersPerDegreeLng;
+            y[i] = lats[indices[i]] * METERS_PER_DEGREE_LAT;
+        }
+        return new double[][]{x, y};
+    }
+
+    private static double segmentDistance(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return Math.hypot(px - ax, py - ay);
+        }
+        double t = Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        return Math.hypot(px - (ax + t * dx), py - (ay + t * dy));
+    }
+
+    private static double triangleArea(double[] x, double[] y, int a, int b, int c) {
+        return Math.abs((x[a] * (y[b] - y[c]) + x[b] * (y[c] - y[a]) + x[c] * (y[a] - y[b])) / 2.0);
+    }
+
+    private static int[] collect(int[] indices, boolean[] keep) {
+        int count = 0;
+        for (boolean kept : keep) {
+            if (kept) {
+                count++;
+            }
+        }
+        int[] result = new int[count];
+        int cursor = 0;
+        for (int i = 0; i < keep.length; i++) {
+            if (keep[i]) {
+                result[cursor++] = indices[i];
+            }
+        }
+        return result;
+    }
+
+    private record Candidate(double area, int position, int version) implements Comparable<Candidate> {
+        @Override
+        public int compareTo(Candidate other) {
+            return Double.compare(area, other.area);
+        }
+    }
+}
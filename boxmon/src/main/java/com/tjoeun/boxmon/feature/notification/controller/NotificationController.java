@@ -1,14 +1,26 @@
 package com.tjoeun.boxmon.feature.notification.controller;
 
+import com.tjoeun.boxmon.feature.notification.dto.NotificationInboxResponse;
+import com.tjoeun.boxmon.feature.notification.dto.NotificationPreferenceRequest;
+import com.tjoeun.boxmon.feature.notification.dto.NotificationPreferenceResponse;
+import com.tjoeun.boxmon.feature.notification.dto.NotificationReadRequest;
 import com.tjoeun.boxmon.feature.notification.dto.NotificationResponse;
+import com.tjoeun.boxmon.feature.notification.dto.NotificationUnreadCountResponse;
+import com.tjoeun.boxmon.feature.notification.service.NotificationPreferenceService;
 import com.tjoeun.boxmon.feature.notification.service.NotificationReadService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -16,10 +28,60 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationController {
     private final NotificationReadService notificationService;
+    private final NotificationPreferenceService preferenceService;
 
     @GetMapping("/list")
     public ResponseEntity<List<NotificationResponse>> listNotifications(@AuthenticationPrincipal Long userId) {
         List<NotificationResponse> list = notificationService.getListOf(userId);
         return ResponseEntity.ok(list);
     }
+
+    /**
+     * 알림함 페이지 조회. 이전 응답의 nextCursorSentAt/nextCursorId를 넘기면 다음(과거) 페이지를 조회합니다.
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<NotificationInboxResponse> inbox(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorSentAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(notificationService.getInbox(userId, cursorSentAt, cursorId, size));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationUnreadCountResponse> unreadCount(@AuthenticationPrincipal Long userId) {
+        return ResponseEntity.ok(new NotificationUnreadCountResponse(notificationService.getUnreadCount(userId)));
+    }
+
+    @PatchMapping("/read")
+    public ResponseEntity<NotificationUnreadCountResponse> markRead(
+            @AuthenticationPrincipal Long userId,
+            @RequestBody NotificationReadRequest request
+    ) {
+        long unreadCount = notificationService.markRead(userId, request.getNotificationIds());
+        return ResponseEntity.ok(new NotificationUnreadCountResponse(unreadCount));
+    }
+
+    @PatchMapping("/read-all")
+    public ResponseEntity<NotificationUnreadCountResponse> markAllRead(@AuthenticationPrincipal Long userId) {
+        notificationService.markAllRead(userId);
+        return ResponseEntity.ok(new NotificationUnreadCountResponse(0));
+    }
+
+    @GetMapping("/preferences")
+    public ResponseEntity<NotificationPreferenceResponse> preferences(@AuthenticationPrincipal Long userId) {
+        return ResponseEntity.ok(preferenceService.getPreference(userId));
+    }
+
+    /**
+     * 알림 종류별 푸시 끄기와 방해금지 시간 설정. 전체 푸시 수신 여부는 회원 정보 수정에서 변경합니다.
+     */
+    @PutMapping("/preferences")
+    public ResponseEntity<NotificationPreferenceResponse> updatePreferences(
+            @AuthenticationPrincipal Long userId,
+            @RequestBody NotificationPreferenceRequest request
+    ) {
+        return ResponseEntity.ok(preferenceService.updatePreference(userId, request));
+    }
 }
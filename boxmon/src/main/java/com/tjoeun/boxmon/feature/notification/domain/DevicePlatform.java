@@ -0,0 +1,20 @@
+package com.tjoeun.boxmon.feature.notification.domain;
+
+public enum DevicePlatform {
+    ANDROID,
+    IOS,
+    WEB,
+    UNKNOWN;
+
+    // 구버전 앱은 플랫폼을 보내지 않으므로 값이 없거나 알 수 없으면 UNKNOWN
+    public static DevicePlatform from(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return UNKNOWN;
+        }
+        try {
+            return DevicePlatform.valueOf(raw.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN;
+        }
+    }
+}
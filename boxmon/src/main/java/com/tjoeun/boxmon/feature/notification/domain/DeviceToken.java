@@ -0,0 +1,59 @@
+package com.tjoeun.boxmon.feature.notification.domain;
+
+import com.tjoeun.boxmon.feature.user.domain.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 기기별 FCM 토큰. 한 사용자가 여러 기기에서 로그인하면 모든 기기로 알림을 보냅니다.
+ * 토큰은 기기 단위로 유일하므로 다른 계정으로 로그인하면 소유 사용자가 바뀝니다.
+ * 등록은 {@code DeviceTokenRepository#upsert}로만 하며, FCM이 무효로 판정한 토큰은 발송 후 삭제됩니다.
+ */
+@Entity
+@Table(name = "DEVICE_TOKEN",
+        uniqueConstraints = @UniqueConstraint(name = "uk_device_token_token", columnNames = "token"),
+        indexes = @Index(name = "idx_device_token_user", columnList = "user_id"))
+@Getter
+@NoArgsConstructor
+public class DeviceToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "device_token_id")
+    private Long deviceTokenId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 연관 프록시를 초기화하지 않고 사용자 ID로 조회하기 위한 FK 컬럼 읽기 전용 매핑
+    @Column(name = "user_id", insertable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "token", nullable = false, length = 512)
+    private String token;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "platform", nullable = false, length = 16)
+    private DevicePlatform platform;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,8 @@
+package com.tjoeun.boxmon.feature.notification.domain;
+
+public enum NotificationDeliveryStatus {
+    PENDING,   // 발송 대기 (아웃박스)
+    SENT,      // FCM 전송 완료
+    FAILED,    // 재시도 한도 초과 또는 재시도해도 성공할 수 없는 오류
+    SUPPRESSED // 수신 설정(푸시 끔/종류별 끔/방해금지)으로 푸시 없이 알림함에만 기록
+}
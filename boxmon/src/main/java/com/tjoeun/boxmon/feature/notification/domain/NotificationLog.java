@@ -10,6 +10,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // 아웃박스 발송 대상(PENDING + 발송 예정 시각 도래) 조회용
+        @Index(name = "idx_notification_log_outbox", columnList = "delivery_status, next_attempt_at"),
+        // 사용자별 알림함 키셋 페이지 조회용 (sent_at, notification_id 내림차순)
+        @Index(name = "idx_notification_log_target_sent", columnList = "target_id, sent_at")
+})
 @NoArgsConstructor
 @Getter
 public class NotificationLog {
@@ -22,6 +28,13 @@ public class NotificationLog {
     @JoinColumn(name = "target_id", nullable = false)
     private User target;
 
+    // 연관 프록시를 초기화하지 않고 수신자/운송건 ID를 읽기 위한 FK 컬럼 읽기 전용 매핑
+    @Column(name = "target_id", insertable = false, updatable = false)
+    private Long targetId;
+
+    @Column(name = "shipment_id", insertable = false, updatable = false)
+    private Long shipmentId;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "shipment_id", nullable = false)
     private Shipment shipment;
@@ -45,8 +58,25 @@ public class NotificationLog {
     @Column(name = "firebase_message_id")
     private String firebaseMessageId;
 
+    // null이면 아웃박스 도입 이전에 동기 발송된 행
+    @Enumerated(EnumType.STRING)
+    @Column(name = "delivery_status", length = 16)
+    private NotificationDeliveryStatus deliveryStatus;
+
+    @Column(name = "attempts")
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
     @Builder
-    public NotificationLog(User target, Shipment shipment, NotificationType notificationType, String notificationTitle, String notificationContent, String extraData, LocalDateTime sentAt, String firebaseMessageId) {
+    public NotificationLog(User target, Shipment shipment, NotificationType notificationType, String notificationTitle, String notificationContent, String extraData, LocalDateTime sentAt, String firebaseMessageId, NotificationDeliveryStatus deliveryStatus, LocalDateTime nextAttemptAt) {
         this.target = target;
         this.shipment = shipment;
         this.notificationType = notificationType;
@@ -55,5 +85,36 @@ public class NotificationLog {
         this.extraData = extraData;
         this.sentAt = sentAt;
         this.firebaseMessageId = firebaseMessageId;
+        this.deliveryStatus = deliveryStatus;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markSent(String firebaseMessageId, LocalDateTime deliveredAt) {
+        this.deliveryStatus = NotificationDeliveryStatus.SENT;
+        this.attempts = currentAttempts() + 1;
+        this.firebaseMessageId = firebaseMessageId;
+        this.deliveredAt = deliveredAt;
+        this.nextAttemptAt = null;
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt) {
+        this.attempts = currentAttempts() + 1;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markFailed() {
+        this.deliveryStatus = NotificationDeliveryStatus.FAILED;
+        this.attempts = currentAttempts() + 1;
+        this.nextAttemptAt = null;
+    }
+
+    // 아웃박스 도입 이전 행(deliveryStatus null)은 읽음 관리 대상이 아니므로 읽은 것으로 취급
+    public boolean isRead() {
+        return readAt != null || deliveryStatus == null;
+    }
+
+    public int currentAttempts() {
+        return attempts == null ? 0 : attempts;
     }
 }
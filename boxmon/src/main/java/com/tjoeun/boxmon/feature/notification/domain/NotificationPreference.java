@@ -0,0 +1,59 @@
+package com.tjoeun.boxmon.feature.notification.domain;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 사용자별 알림 수신 설정. 전체 수신 여부는 User.isPushEnabled를 따르고, 여기에는 알림 종류별 끄기와 방해금지 시간만 둡니다.
+ * 행이 없으면 모든 종류를 받는 것으로 봅니다.
+ */
+@Entity
+@Table(name = "NOTIFICATION_PREFERENCE")
+@Getter
+@NoArgsConstructor
+public class NotificationPreference {
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "NOTIFICATION_PREFERENCE_MUTED_TYPE", joinColumns = @JoinColumn(name = "user_id"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false, length = 50)
+    private Set<NotificationType> mutedTypes = new HashSet<>();
+
+    // 방해금지 시작/종료 (서버 시간 기준, 종료가 시작보다 이르면 자정을 넘기는 구간)
+    @Column(name = "quiet_start")
+    private LocalTime quietStart;
+
+    @Column(name = "quiet_end")
+    private LocalTime quietEnd;
+
+    public NotificationPreference(Long userId) {
+        this.userId = userId;
+    }
+
+    public void update(Collection<NotificationType> mutedTypes, LocalTime quietStart, LocalTime quietEnd) {
+        this.mutedTypes.clear();
+        if (mutedTypes != null) {
+            this.mutedTypes.addAll(mutedTypes);
+        }
+        this.quietStart = quietStart;
+        this.quietEnd = quietEnd;
+    }
+}
@@ -0,0 +1,25 @@
+package com.tjoeun.boxmon.feature.notification.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 읽지 않은 알림 수.
+ * 알림 적재/읽음 처리와 같은 트랜잭션에서 증감하므로 앱 배지는 이 행 하나만 조회합니다.
+ */
+@Entity
+@Table(name = "NOTIFICATION_UNREAD_COUNTER")
+@Getter
+@NoArgsConstructor
+public class NotificationUnreadCounter {
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+}
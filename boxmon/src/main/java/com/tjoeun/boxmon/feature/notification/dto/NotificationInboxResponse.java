@@ -0,0 +1,20 @@
+package com.tjoeun.boxmon.feature.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림함 페이지 응답. notifications는 최신순(sentAt, notificationId 내림차순)입니다.
+ * 다음 페이지는 nextCursorSentAt/nextCursorId를 그대로 커서로 넘겨 조회합니다. (hasMore가 false면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationInboxResponse {
+    private List<NotificationResponse> notifications;
+    private boolean hasMore;
+    private LocalDateTime nextCursorSentAt;
+    private Long nextCursorId;
+}
@@ -0,0 +1,18 @@
+package com.tjoeun.boxmon.feature.notification.dto;
+
+import com.tjoeun.boxmon.feature.notification.domain.NotificationType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Setter
+public class NotificationPreferenceRequest {
+    // 푸시를 받지 않을 알림 종류
+    private List<NotificationType> mutedTypes;
+    // 방해금지 시간 (둘 다 보내거나 둘 다 생략)
+    private LocalTime quietStart;
+    private LocalTime quietEnd;
+}
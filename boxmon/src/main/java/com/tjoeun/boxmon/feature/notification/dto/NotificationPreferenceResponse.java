@@ -0,0 +1,17 @@
+package com.tjoeun.boxmon.feature.notification.dto;
+
+import com.tjoeun.boxmon.feature.notification.domain.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class NotificationPreferenceResponse {
+    private boolean pushEnabled;
+    private List<NotificationType> mutedTypes;
+    private LocalTime quietStart;
+    private LocalTime quietEnd;
+}
@@ -0,0 +1,12 @@
+package com.tjoeun.boxmon.feature.notification.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class NotificationReadRequest {
+    private List<Long> notificationIds;
+}
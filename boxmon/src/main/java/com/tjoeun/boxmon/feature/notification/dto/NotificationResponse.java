@@ -4,6 +4,7 @@ import com.tjoeun.boxmon.feature.notification.domain.NotificationType;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Data
@@ -15,4 +16,6 @@ public class NotificationResponse {
     private String notificationTitle;
     private String notificationContent;
     private Map<String,String> extraData;
+    private LocalDateTime sentAt;
+    private boolean read;
 }
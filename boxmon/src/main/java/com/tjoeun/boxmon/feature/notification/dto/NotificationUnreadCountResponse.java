@@ -0,0 +1,10 @@
+package com.tjoeun.boxmon.feature.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NotificationUnreadCountResponse {
+    private long unreadCount;
+}
@@ -1,18 +1,45 @@
 package com.tjoeun.boxmon.feature.notification.mapper;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tjoeun.boxmon.feature.notification.domain.NotificationLog;
 import com.tjoeun.boxmon.feature.notification.dto.NotificationResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Component
 public class NotificationLogMapper {
+    private static final TypeReference<Map<String, String>> EXTRA_DATA_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     public NotificationResponse toResponse(NotificationLog notificationLog){
+        // 운송건 ID는 FK 컬럼에서 읽어 행마다 연관 프록시를 건드리지 않음 (방금 저장한 엔티티만 연관 객체 사용)
+        Long shipmentId = notificationLog.getShipmentId() != null
+                ? notificationLog.getShipmentId()
+                : notificationLog.getShipment().getShipmentId();
         return NotificationResponse.builder()
                 .notificationId(notificationLog.getNotificationId())
-                .shipmentId(notificationLog.getShipment().getShipmentId())
+                .shipmentId(shipmentId)
                 .notificationType(notificationLog.getNotificationType())
                 .notificationTitle(notificationLog.getNotificationTitle())
                 .notificationContent(notificationLog.getNotificationContent())
+                .extraData(parseExtraData(notificationLog.getExtraData()))
+                .sentAt(notificationLog.getSentAt())
+                .read(notificationLog.isRead())
                 .build();
     }
+
+    private Map<String, String> parseExtraData(String extraData) {
+        if (extraData == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(extraData, EXTRA_DATA_TYPE);
+        } catch (Exception e) {
+            return null;
+        }
+    }
 }
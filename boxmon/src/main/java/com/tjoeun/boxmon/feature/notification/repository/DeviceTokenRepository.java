@@ -0,0 +1,33 @@
+package com.tjoeun.boxmon.feature.notification.repository;
+
+import com.tjoeun.boxmon.feature.notification.domain.DeviceToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long> {
+
+    List<DeviceToken> findByUserIdIn(Collection<Long> userIds);
+
+    List<DeviceToken> findByTokenIn(Collection<String> tokens);
+
+    /**
+     * 토큰을 등록하거나, 이미 있으면 소유 사용자/플랫폼/최근 접속 시각을 갱신합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO device_token (user_id, token, platform, last_seen_at, created_at) " +
+            "VALUES (:userId, :token, :platform, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), platform = VALUES(platform), last_seen_at = VALUES(last_seen_at)",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("token") String token,
+               @Param("platform") String platform, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM DeviceToken d WHERE d.token IN :tokens")
+    int deleteByTokenIn(@Param("tokens") Collection<String> tokens);
+}
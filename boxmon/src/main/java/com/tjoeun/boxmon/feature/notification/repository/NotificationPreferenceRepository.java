@@ -0,0 +1,7 @@
+package com.tjoeun.boxmon.feature.notification.repository;
+
+import com.tjoeun.boxmon.feature.notification.domain.NotificationPreference;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreference, Long> {
+}
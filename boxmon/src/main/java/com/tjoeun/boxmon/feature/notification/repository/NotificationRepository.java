@@ -1,10 +1,54 @@
 package com.tjoeun.boxmon.feature.notification.repository;
 
 import com.tjoeun.boxmon.feature.notification.domain.NotificationLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<NotificationLog, Long> {
     List<NotificationLog> findByTarget_UserId(Long userId);
+
+    @Query("SELECT n FROM NotificationLog n WHERE n.targetId = :userId " +
+            "ORDER BY n.sentAt DESC, n.notificationId DESC")
+    List<NotificationLog> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT n FROM NotificationLog n WHERE n.targetId = :userId " +
+            "AND (n.sentAt < :sentAt OR (n.sentAt = :sentAt AND n.notificationId < :notificationId)) " +
+            "ORDER BY n.sentAt DESC, n.notificationId DESC")
+    List<NotificationLog> findInboxBefore(@Param("userId") Long userId,
+                                          @Param("sentAt") LocalDateTime sentAt,
+                                          @Param("notificationId") Long notificationId,
+                                          Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE NotificationLog n SET n.readAt = :readAt " +
+            "WHERE n.targetId = :userId AND n.notificationId IN :ids AND n.readAt IS NULL AND n.deliveryStatus IS NOT NULL")
+    int markRead(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("readAt") LocalDateTime readAt);
+
+    @Modifying
+    @Query("UPDATE NotificationLog n SET n.readAt = :readAt " +
+            "WHERE n.targetId = :userId AND n.readAt IS NULL AND n.deliveryStatus IS NOT NULL")
+    int markAllRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * 발송 시각이 도래한 PENDING 알림을 잠그고 ID를 반환합니다.
+     * 다른 인스턴스가 잠근 행은 건너뛰므로 여러 디스패처가 같은 알림을 중복 발송하지 않습니다.
+     */
+    @Query(value = "SELECT notification_id FROM notification_log " +
+            "WHERE delivery_status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueOutboxIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE NotificationLog n SET n.nextAttemptAt = :leaseUntil WHERE n.notificationId IN :ids")
+    int extendOutboxLease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("SELECT n FROM NotificationLog n JOIN FETCH n.target WHERE n.notificationId IN :ids")
+    List<NotificationLog> findWithTargetByNotificationIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,24 @@
+package com.tjoeun.boxmon.feature.notification.repository;
+
+import com.tjoeun.boxmon.feature.notification.domain.NotificationUnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationUnreadCounterRepository extends JpaRepository<NotificationUnreadCounter, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO notification_unread_counter (user_id, unread_count) VALUES (:userId, 1) " +
+            "ON DUPLICATE KEY UPDATE unread_count = unread_count + 1", nativeQuery = true)
+    int increment(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE notification_unread_counter SET unread_count = GREATEST(unread_count - :count, 0) " +
+            "WHERE user_id = :userId", nativeQuery = true)
+    int decrement(@Param("userId") Long userId, @Param("count") long count);
+
+    @Modifying
+    @Query("UPDATE NotificationUnreadCounter c SET c.unreadCount = 0 WHERE c.userId = :userId")
+    int reset(@Param("userId") Long userId);
+}
@@ -0,0 +1,79 @@
+package com.tjoeun.boxmon.feature.notification.service;
+
+import com.tjoeun.boxmon.feature.notification.domain.DevicePlatform;
+import com.tjoeun.boxmon.feature.notification.domain.DeviceToken;
+import com.tjoeun.boxmon.feature.notification.repository.DeviceTokenRepository;
+import com.tjoeun.boxmon.feature.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 기기별 FCM 토큰 등록/조회/정리.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeviceTokenService {
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 로그인한 기기의 토큰을 등록합니다. 같은 토큰이 다른 계정에 있었다면 현재 사용자로 옮겨지고,
+     * 이전 소유자의 단일 토큰 컬럼에서도 지워 등록 토큰이 없는 이전 소유자의 대체 발송이 이 기기로 가지 않도록 합니다.
+     */
+    @Transactional
+    public void register(Long userId, String token, DevicePlatform platform) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        String trimmed = token.trim();
+        deviceTokenRepository.upsert(userId, trimmed, platform.name(), LocalDateTime.now());
+        userRepository.clearDeviceTokenOfOtherUsers(trimmed, userId);
+    }
+
+    /**
+     * 사용자별 등록 토큰 목록. 등록된 토큰이 없는 사용자는 결과에 포함되지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> findTokensByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return deviceTokenRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.groupingBy(DeviceToken::getUserId,
+                        Collectors.mapping(DeviceToken::getToken, Collectors.toList())));
+    }
+
+    /**
+     * 토큰별 현재 등록 사용자. 등록되지 않은 토큰은 결과에 포함되지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> findOwnersByTokens(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return Map.of();
+        }
+        return deviceTokenRepository.findByTokenIn(tokens).stream()
+                .collect(Collectors.toMap(DeviceToken::getToken, DeviceToken::getUserId));
+    }
+
+    /**
+     * FCM이 UNREGISTERED/INVALID_ARGUMENT 등으로 거부한 토큰을 삭제해 다음 알림부터 발송하지 않도록 합니다.
+     */
+    @Transactional
+    public void prune(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        int deleted = deviceTokenRepository.deleteByTokenIn(tokens);
+        userRepository.clearDeviceTokens(tokens);
+        log.info("무효 FCM 토큰을 정리했습니다. 요청={}, 삭제={}", tokens.size(), deleted);
+    }
+}
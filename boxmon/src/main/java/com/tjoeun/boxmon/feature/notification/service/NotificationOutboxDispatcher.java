@@ -0,0 +1,228 @@
+package com.tjoeun.boxmon.feature.notification.service;
+
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.AndroidNotification;
+import com.google.firebase.messaging.ApnsConfig;
+import com.google.firebase.messaging.Aps;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.tjoeun.boxmon.feature.notification.service.NotificationOutboxStore.DeliveryResult;
+import com.tjoeun.boxmon.feature.notification.service.NotificationOutboxStore.OutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 아웃박스를 주기적으로 비워 FCM으로 발송합니다.
+ * 업무 트랜잭션은 PENDING 행만 기록하고 커밋하므로 상태 전이 API가 FCM 왕복을 기다리지 않습니다.
+ * 알림 한 건은 수신자의 모든 등록 기기로 펼쳐 최대 500개(FCM sendEach 한도)씩 묶어 보내고,
+ * 일시적 오류는 지수 백오프로 재시도합니다. FCM이 무효라고 응답한 토큰은 발송 후 정리합니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+    static final int BATCH_SIZE = 500;
+    // 재시도해도 결과가 같은 오류 (토큰 만료/잘못된 요청 등)는 즉시 실패 처리
+    private static final Set<MessagingErrorCode> RETRYABLE_ERRORS =
+            EnumSet.of(MessagingErrorCode.INTERNAL, MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.QUOTA_EXCEEDED);
+    // 앱 삭제/토큰 재발급 등으로 더 이상 유효하지 않은 토큰. 기기 토큰 목록에서 제거
+    private static final Set<MessagingErrorCode> STALE_TOKEN_ERRORS =
+            EnumSet.of(MessagingErrorCode.UNREGISTERED, MessagingErrorCode.INVALID_ARGUMENT);
+
+    private final NotificationOutboxStore outboxStore;
+    private final DeviceTokenService deviceTokenService;
+    private final int maxBatchesPerRun;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter prunedTokenCounter;
+
+    public NotificationOutboxDispatcher(
+            NotificationOutboxStore outboxStore,
+            DeviceTokenService deviceTokenService,
+            MeterRegistry meterRegistry,
+            @Value("${notification.outbox.max-batches-per-run:10}") int maxBatchesPerRun) {
+        this.outboxStore = outboxStore;
+        this.deviceTokenService = deviceTokenService;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.sentCounter = meterRegistry.counter("notification.outbox.sent");
+        this.retriedCounter = meterRegistry.counter("notification.outbox.retried");
+        this.failedCounter = meterRegistry.counter("notification.outbox.failed");
+        this.prunedTokenCounter = meterRegistry.counter("notification.device-token.pruned");
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            List<OutboxMessage> batch = outboxStore.claim(BATCH_SIZE, LocalDateTime.now());
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<DeliveryResult> results = send(batch);
+            outboxStore.complete(results, LocalDateTime.now());
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    List<DeliveryResult> send(List<OutboxMessage> batch) {
+        List<DeliveryResult> results = new ArrayList<>(batch.size());
+        // 알림 한 건을 수신자의 모든 기기로 펼쳐서 보냄 (기기별 메시지는 같은 알림 ID를 공유)
+        List<DeviceMessage> deviceMessages = new ArrayList<>(batch.size());
+        for (OutboxMessage outboxMessage : batch) {
+            if (outboxMessage.deviceTokens().isEmpty()) {
+                results.add(record(DeliveryResult.failed(outboxMessage.notificationId())));
+                continue;
+            }
+            for (String deviceToken : outboxMessage.deviceTokens()) {
+                deviceMessages.add(new DeviceMessage(outboxMessage.notificationId(), deviceToken,
+                        toMessage(outboxMessage, deviceToken)));
+            }
+        }
+
+        Map<Long, DeliveryTally> tallies = new LinkedHashMap<>();
+        for (int from = 0; from < deviceMessages.size(); from += BATCH_SIZE) {
+            List<DeviceMessage> chunk = deviceMessages.subList(from, Math.min(from + BATCH_SIZE, deviceMessages.size()));
+            sendChunk(chunk, tallies);
+        }
+        tallies.forEach((notificationId, tally) -> results.add(record(tally.toResult(notificationId))));
+
+        Set<String> invalidTokens = new LinkedHashSet<>();
+        tallies.values().forEach(tally -> invalidTokens.addAll(tally.invalidTokens));
+        pruneInvalidTokens(invalidTokens);
+        return results;
+    }
+
+    private void sendChunk(List<DeviceMessage> chunk, Map<Long, DeliveryTally> tallies) {
+        List<SendResponse> responses;
+        try {
+            BatchResponse response = sendEach(chunk.stream().map(DeviceMessage::message).toList());
+            responses = response.getResponses();
+        } catch (FirebaseMessagingException | RuntimeException e) {
+            // 배치 전체 실패(네트워크/인증/초기화 오류)는 모두 재시도 대상
+            log.warn("알림 배치 전송 실패. 다음 주기에 재시도합니다. size={}, 원인: {}", chunk.size(), e.getMessage());
+            for (DeviceMessage deviceMessage : chunk) {
+                tallies.computeIfAbsent(deviceMessage.notificationId(), id -> new DeliveryTally()).retryable = true;
+            }
+            return;
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            DeviceMessage deviceMessage = chunk.get(i);
+            DeliveryTally tally = tallies.computeIfAbsent(deviceMessage.notificationId(), id -> new DeliveryTally());
+            SendResponse sendResponse = responses.get(i);
+            if (sendResponse.isSuccessful()) {
+                if (tally.firebaseMessageId == null) {
+                    tally.firebaseMessageId = sendResponse.getMessageId();
+                }
+                continue;
+            }
+            FirebaseMessagingException error = sendResponse.getException();
+            MessagingErrorCode errorCode = error != null ? error.getMessagingErrorCode() : null;
+            if (errorCode == null || RETRYABLE_ERRORS.contains(errorCode)) {
+                tally.retryable = true;
+            } else {
+                if (STALE_TOKEN_ERRORS.contains(errorCode)) {
+                    tally.invalidTokens.add(deviceMessage.deviceToken());
+                }
+                log.info("알림 전송 실패. notificationId={}, 원인: {}", deviceMessage.notificationId(), errorCode);
+            }
+        }
+    }
+
+    private void pruneInvalidTokens(Set<String> invalidTokens) {
+        if (invalidTokens.isEmpty()) {
+            return;
+        }
+        try {
+            deviceTokenService.prune(invalidTokens);
+            prunedTokenCounter.increment(invalidTokens.size());
+        } catch (RuntimeException e) {
+            // 정리에 실패해도 발송 결과 반영은 계속 진행하고, 같은 토큰은 다음 발송 때 다시 걸러짐
+            log.warn("무효 FCM 토큰 정리 실패. size={}, 원인: {}", invalidTokens.size(), e.getMessage());
+        }
+    }
+
+    BatchResponse sendEach(List<Message> messages) throws FirebaseMessagingException {
+        return FirebaseMessaging.getInstance().sendEach(messages);
+    }
+
+    private DeliveryResult record(DeliveryResult result) {
+        switch (result.outcome()) {
+            case SENT -> sentCounter.increment();
+            case RETRY -> retriedCounter.increment();
+            case FAILED -> failedCounter.increment();
+        }
+        return result;
+    }
+
+    private Message toMessage(OutboxMessage outboxMessage, String deviceToken) {
+        //푸시 알림에 띄울 내용
+        Notification notification = Notification.builder()
+                .setTitle(outboxMessage.title())
+                .setBody(outboxMessage.body())
+                .build();
+
+        //Android 전용 추가 설정
+        AndroidConfig androidConfig = AndroidConfig.builder()
+                .setPriority(AndroidConfig.Priority.HIGH)
+                .setNotification(AndroidNotification.builder()
+                        .setSound("default")
+                        .build())
+                .build();
+
+        //IOS 전용 추가 설정
+        ApnsConfig apnsConfig = ApnsConfig.builder()
+                .setAps(Aps.builder()
+                        .setSound("default")
+                        .build()
+                )
+                .build();
+
+        return Message.builder()
+                .setToken(deviceToken)
+                .setNotification(notification)
+                .putAllData(outboxMessage.extraData()) //클라이언트가 읽을 추가 데이터
+                .setAndroidConfig(androidConfig)
+                .setApnsConfig(apnsConfig)
+                .build();
+    }
+
+    private record DeviceMessage(Long notificationId, String deviceToken, Message message) {
+    }
+
+    /**
+     * 알림 한 건의 기기별 발송 결과 집계.
+     * 한 기기라도 받으면 발송 성공, 아니면 일시적 오류가 하나라도 있을 때 재시도, 나머지는 실패로 봅니다.
+     */
+    private static final class DeliveryTally {
+        private String firebaseMessageId;
+        private boolean retryable;
+        private final List<String> invalidTokens = new ArrayList<>();
+
+        private DeliveryResult toResult(Long notificationId) {
+            if (firebaseMessageId != null) {
+                return DeliveryResult.sent(notificationId, firebaseMessageId);
+            }
+            return retryable ? DeliveryResult.retry(notificationId) : DeliveryResult.failed(notificationId);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.tjoeun.boxmon.feature.notification.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tjoeun.boxmon.feature.notification.domain.NotificationLog;
+import com.tjoeun.boxmon.feature.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스(NotificationLog의 PENDING 행) 조회/결과 반영.
+ * 발송 대상을 가져올 때 다음 발송 시각을 임대 기간만큼 미뤄 두므로, 디스패처가 FCM 호출 중 종료되더라도
+ * 임대가 끝나면 다른 인스턴스가 다시 가져갑니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxStore {
+    private static final TypeReference<Map<String, String>> EXTRA_DATA_TYPE = new TypeReference<>() {
+    };
+
+    private final NotificationRepository notificationRepository;
+    private final DeviceTokenService deviceTokenService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    public NotificationOutboxStore(
+            NotificationRepository notificationRepository,
+            DeviceTokenService deviceTokenService,
+            @Value("${notification.outbox.lease:PT1M}") Duration lease,
+            @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${notification.outbox.base-backoff:PT5S}") Duration baseBackoff,
+            @Value("${notification.outbox.max-backoff:PT10M}") Duration maxBackoff) {
+        this.notificationRepository = notificationRepository;
+        this.deviceTokenService = deviceTokenService;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Transactional
+    public List<OutboxMessage> claim(int limit, LocalDateTime now) {
+        List<Long> ids = notificationRepository.lockDueOutboxIds(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        notificationRepository.extendOutboxLease(ids, now.plus(lease));
+        List<NotificationLog> logs = notificationRepository.findWithTargetByNotificationIdIn(ids);
+        // 배치에 포함된 수신자들의 등록 기기 토큰을 한 번에 조회
+        Map<Long, List<String>> tokensByUser = deviceTokenService.findTokensByUserIds(
+                logs.stream().map(NotificationLog::getTargetId).distinct().toList());
+        // 대체 발송할 단일 토큰이 다른 사용자 기기로 옮겨 등록되어 있는지 확인 (토큰 이동 이전에 남은 값 대비)
+        Map<String, Long> legacyTokenOwners = deviceTokenService.findOwnersByTokens(logs.stream()
+                .filter(notificationLog -> !tokensByUser.containsKey(notificationLog.getTargetId()))
+                .map(notificationLog -> notificationLog.getTarget().getDeviceToken())
+                .filter(token -> token != null && !token.isBlank())
+                .distinct()
+                .toList());
+        return logs.stream()
+                .map(notificationLog -> toOutboxMessage(notificationLog, tokensByUser, legacyTokenOwners))
+                .toList();
+    }
+
+    @Transactional
+    public void complete(List<DeliveryResult> results, LocalDateTime now) {
+        if (results.isEmpty()) {
+            return;
+        }
+        Map<Long, NotificationLog> logs = notificationRepository.findAllById(
+                        results.stream().map(DeliveryResult::notificationId).toList())
+                .stream()
+                .collect(Collectors.toMap(NotificationLog::getNotificationId, Function.identity()));
+
+        for (DeliveryResult result : results) {
+            NotificationLog notificationLog = logs.get(result.notificationId());
+            if (notificationLog == null) {
+                continue;
+            }
+            switch (result.outcome()) {
+                case SENT -> notificationLog.markSent(result.firebaseMessageId(), now);
+                case FAILED -> notificationLog.markFailed();
+                case RETRY -> {
+                    int attempt = notificationLog.currentAttempts() + 1;
+                    if (attempt >= maxAttempts) {
+                        log.warn("알림 재시도 한도를 초과했습니다. notificationId={}, attempts={}",
+                                result.notificationId(), attempt);
+                        notificationLog.markFailed();
+                    } else {
+                        notificationLog.scheduleRetry(now.plus(backoff(attempt)));
+                    }
+                }
+            }
+        }
+    }
+
+    // 1회 실패 후 base, 이후 두 배씩 (최대 max-backoff)
+    Duration backoff(int attempt) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private OutboxMessage toOutboxMessage(NotificationLog notificationLog, Map<Long, List<String>> tokensByUser,
+                                          Map<String, Long> legacyTokenOwners) {
+        return new OutboxMessage(
+                notificationLog.getNotificationId(),
+                resolveDeviceTokens(notificationLog, tokensByUser, legacyTokenOwners),
+                notificationLog.getNotificationTitle(),
+                notificationLog.getNotificationContent(),
+                parseExtraData(notificationLog)
+        );
+    }
+
+    // 기기 토큰 테이블에 등록된 토큰이 없으면 (등록 기능 이전에 로그인한 사용자) 사용자 테이블의 단일 토큰으로 대체
+    // 단, 그 토큰이 다른 사용자 기기로 등록되어 있으면 다른 사람에게 발송되므로 사용하지 않음
+    private List<String> resolveDeviceTokens(NotificationLog notificationLog, Map<Long, List<String>> tokensByUser,
+                                             Map<String, Long> legacyTokenOwners) {
+        List<String> registered = tokensByUser.get(notificationLog.getTargetId());
+        if (registered != null && !registered.isEmpty()) {
+            return registered;
+        }
+        String legacyToken = notificationLog.getTarget().getDeviceToken();
+        List<String> tokens = new ArrayList<>(1);
+        if (legacyToken != null && !legacyToken.isBlank()) {
+            Long owner = legacyTokenOwners.get(legacyToken);
+            if (owner == null || owner.equals(notificationLog.getTargetId())) {
+                tokens.add(legacyToken);
+            }
+        }
+        return tokens;
+    }
+
+    private Map<String, String> parseExtraData(NotificationLog notificationLog) {
+        if (notificationLog.getExtraData() == null) {
+            return Map.of("shipmentId", String.valueOf(notificationLog.getShipment().getShipmentId()));
+        }
+        try {
+            return objectMapper.readValue(notificationLog.getExtraData(), EXTRA_DATA_TYPE);
+        } catch (Exception e) {
+            log.warn("알림 추가 데이터를 읽을 수 없어 비워서 발송합니다. notificationId={}", notificationLog.getNotificationId());
+            return Map.of();
+        }
+    }
+
+    public record OutboxMessage(Long notificationId, List<String> deviceTokens, String title, String body,
+                                Map<String, String> extraData) {
+    }
+
+    public record DeliveryResult(Long notificationId, Outcome outcome, String firebaseMessageId) {
+        public static DeliveryResult sent(Long notificationId, String firebaseMessageId) {
+            return new DeliveryResult(notificationId, Outcome.SENT, firebaseMessageId);
+        }
+
+        public static DeliveryResult retry(Long notificationId) {
+            return new DeliveryResult(notificationId, Outcome.RETRY, null);
+        }
+
+        public static DeliveryResult failed(Long notificationId) {
+            return new DeliveryResult(notificationId, Outcome.FAILED, null);
+        }
+    }
+
+    public enum Outcome {
+        SENT,
+        RETRY,
+        FAILED
+    }
+}
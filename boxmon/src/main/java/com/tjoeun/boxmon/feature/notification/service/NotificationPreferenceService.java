@@ -0,0 +1,143 @@
+package com.tjoeun.boxmon.feature.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tjoeun.boxmon.feature.notification.domain.NotificationPreference;
+import com.tjoeun.boxmon.feature.notification.domain.NotificationType;
+import com.tjoeun.boxmon.feature.notification.dto.NotificationPreferenceRequest;
+import com.tjoeun.boxmon.feature.notification.dto.NotificationPreferenceResponse;
+import com.tjoeun.boxmon.feature.notification.repository.NotificationPreferenceRepository;
+import com.tjoeun.boxmon.feature.user.repository.UserRepository;
+import com.tjoeun.boxmon.global.util.CacheEvictions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 푸시 수신 정책(전체 수신 여부, 종류별 끄기, 방해금지 시간) 조회/변경.
+ * 알림마다 사용자 행을 읽지 않도록 정책을 메모리에 캐시하며, 설정 변경과 회원 정보 수정 시 무효화합니다.
+ * <p>
+ * 무효화는 변경을 처리한 인스턴스에만 적용되므로, 여러 인스턴스로 운영하면(chat.broker.mode=relay)
+ * 다른 인스턴스가 이전 정책으로 푸시를 보내는 시간을 줄이도록 짧은 TTL(relay-ttl)을 사용합니다.
+ */
+@Service
+public class NotificationPreferenceService {
+
+    private final UserRepository userRepository;
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final Cache<Long, PushPolicy> policies;
+
+    public NotificationPreferenceService(
+            UserRepository userRepository,
+            NotificationPreferenceRepository preferenceRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chat.broker.mode:simple}") String brokerMode,
+            @Value("${notification.preference-cache.ttl:PT10M}") Duration ttl,
+            @Value("${notification.preference-cache.relay-ttl:PT30S}") Duration relayTtl,
+            @Value("${notification.preference-cache.maximum-size:50000}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.preferenceRepository = preferenceRepository;
+        this.policies = Caffeine.newBuilder()
+                .expireAfterWrite("relay".equalsIgnoreCase(brokerMode) ? relayTtl : ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, policies, "notificationPreference");
+    }
+
+    /**
+     * 캐시에 없으면 사용자 수신 여부와 수신 설정을 읽어 적재합니다. 존재하지 않는 사용자는 캐시하지 않습니다.
+     */
+    public Optional<PushPolicy> findPolicy(Long userId) {
+        PushPolicy cached = policies.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<PushPolicy> loaded = userRepository.findPushEnabledByUserId(userId)
+                .map(pushEnabled -> toPolicy(Boolean.TRUE.equals(pushEnabled), preferenceRepository.findById(userId).orElse(null)));
+        loaded.ifPresent(policy -> policies.put(userId, policy));
+        return loaded;
+    }
+
+    @Transactional(readOnly = true)
+    public NotificationPreferenceResponse getPreference(Long userId) {
+        return toResponse(findPolicy(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")));
+    }
+
+    @Transactional
+    public NotificationPreferenceResponse updatePreference(Long userId, NotificationPreferenceRequest request) {
+        if ((request.getQuietStart() == null) != (request.getQuietEnd() == null)) {
+            throw new IllegalArgumentException("quietStart와 quietEnd는 함께 전달해야 합니다.");
+        }
+        Boolean pushEnabled = userRepository.findPushEnabledByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        NotificationPreference preference = preferenceRepository.findById(userId)
+                .orElseGet(() -> new NotificationPreference(userId));
+        preference.update(request.getMutedTypes(), request.getQuietStart(), request.getQuietEnd());
+        preferenceRepository.save(preference);
+        evictAfterCommit(userId);
+        return toResponse(toPolicy(Boolean.TRUE.equals(pushEnabled), preference));
+    }
+
+    public void evict(Long userId) {
+        policies.invalidate(userId);
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안이라면 커밋/롤백 이후에도 한 번 더 무효화합니다.
+     */
+    public void evictAfterCommit(Long userId) {
+        CacheEvictions.evictNowAndAfterCompletion(() -> evict(userId));
+    }
+
+    private PushPolicy toPolicy(boolean pushEnabled, NotificationPreference preference) {
+        if (preference == null) {
+            return new PushPolicy(pushEnabled, Set.of(), null, null);
+        }
+        Set<NotificationType> mutedTypes = preference.getMutedTypes().isEmpty()
+                ? Set.of()
+                : Set.copyOf(EnumSet.copyOf(preference.getMutedTypes()));
+        return new PushPolicy(pushEnabled, mutedTypes, preference.getQuietStart(), preference.getQuietEnd());
+    }
+
+    private NotificationPreferenceResponse toResponse(PushPolicy policy) {
+        return new NotificationPreferenceResponse(
+                policy.pushEnabled(),
+                policy.mutedTypes().stream().sorted().toList(),
+                policy.quietStart(),
+                policy.quietEnd()
+        );
+    }
+
+    /**
+     * 캐시에 보관하는 사용자별 수신 정책 스냅샷.
+     */
+    public record PushPolicy(boolean pushEnabled, Set<NotificationType> mutedTypes,
+                             LocalTime quietStart, LocalTime quietEnd) {
+
+        public boolean allowsPush(NotificationType type, LocalTime now) {
+            return pushEnabled && !mutedTypes.contains(type) && !inQuietHours(now);
+        }
+
+        boolean inQuietHours(LocalTime now) {
+            if (quietStart == null || quietEnd == null || quietStart.equals(quietEnd)) {
+                return false;
+            }
+            if (quietStart.isBefore(quietEnd)) {
+                return !now.isBefore(quietStart) && now.isBefore(quietEnd);
+            }
+            // 22:00 ~ 07:00 처럼 자정을 넘기는 구간
+            return !now.isBefore(quietStart) || now.isBefore(quietEnd);
+        }
+    }
+}
@@ -1,30 +1,124 @@
 package com.tjoeun.boxmon.feature.notification.service;
 
 import com.tjoeun.boxmon.feature.notification.domain.NotificationLog;
+import com.tjoeun.boxmon.feature.notification.domain.NotificationUnreadCounter;
+import com.tjoeun.boxmon.feature.notification.dto.NotificationInboxResponse;
 import com.tjoeun.boxmon.feature.notification.dto.NotificationResponse;
 import com.tjoeun.boxmon.feature.notification.mapper.NotificationLogMapper;
 import com.tjoeun.boxmon.feature.notification.repository.NotificationRepository;
+import com.tjoeun.boxmon.feature.notification.repository.NotificationUnreadCounterRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
+@Transactional(readOnly = true)
 public class NotificationReadService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_MARK_READ_IDS = 500;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCounterRepository unreadCounterRepository;
     private final NotificationLogMapper mapper;
 
-    public NotificationReadService(NotificationRepository notificationRepository, NotificationLogMapper notificationLogMapper) {
+    public NotificationReadService(NotificationRepository notificationRepository,
+                                   NotificationUnreadCounterRepository unreadCounterRepository,
+                                   NotificationLogMapper notificationLogMapper) {
         this.notificationRepository = notificationRepository;
+        this.unreadCounterRepository = unreadCounterRepository;
         this.mapper = notificationLogMapper;
     }
 
     public List<NotificationResponse> getListOf(Long userId){
         //db에서 로그 꺼내기
         List<NotificationLog> logs = notificationRepository.findByTarget_UserId(userId);
-        
+
         return logs
                 .stream()
                 .map(mapper::toResponse)
                 .toList();
     }
+
+    /**
+     * 알림함을 최신순으로 한 페이지 조회합니다.
+     * 커서(cursorSentAt, cursorId)가 없으면 첫 페이지, 있으면 해당 알림보다 과거 알림을 (target_id, sent_at) 인덱스로 읽습니다.
+     */
+    public NotificationInboxResponse getInbox(Long userId, LocalDateTime cursorSentAt, Long cursorId, Integer size) {
+        if ((cursorSentAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("cursorSentAt과 cursorId는 함께 전달해야 합니다.");
+        }
+        int pageSize = resolvePageSize(size);
+
+        PageRequest page = PageRequest.ofSize(pageSize + 1);
+        List<NotificationLog> rows = cursorId == null
+                ? notificationRepository.findInbox(userId, page)
+                : notificationRepository.findInboxBefore(userId, cursorSentAt, cursorId, page);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<NotificationLog> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        List<NotificationResponse> notifications = pageRows.stream()
+                .map(mapper::toResponse)
+                .toList();
+
+        NotificationLog last = hasMore ? pageRows.get(pageRows.size() - 1) : null;
+        return new NotificationInboxResponse(
+                notifications,
+                hasMore,
+                last != null ? last.getSentAt() : null,
+                last != null ? last.getNotificationId() : null
+        );
+    }
+
+    /**
+     * 앱 배지용 읽지 않은 알림 수. 사용자별 카운터 한 행만 조회합니다.
+     */
+    public long getUnreadCount(Long userId) {
+        return unreadCounterRepository.findById(userId)
+                .map(NotificationUnreadCounter::getUnreadCount)
+                .orElse(0L);
+    }
+
+    /**
+     * 지정한 알림을 읽음 처리하고, 실제로 읽음으로 바뀐 건수만큼 카운터를 줄입니다.
+     * 다른 사용자의 알림이나 이미 읽은 알림은 무시됩니다.
+     *
+     * @return 처리 후 읽지 않은 알림 수
+     */
+    @Transactional
+    public long markRead(Long userId, List<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            return getUnreadCount(userId);
+        }
+        if (notificationIds.size() > MAX_MARK_READ_IDS) {
+            throw new IllegalArgumentException("한 번에 읽음 처리할 수 있는 알림은 " + MAX_MARK_READ_IDS + "개 이하입니다.");
+        }
+        int updated = notificationRepository.markRead(userId, notificationIds, LocalDateTime.now());
+        if (updated > 0) {
+            unreadCounterRepository.decrement(userId, updated);
+        }
+        return getUnreadCount(userId);
+    }
+
+    /**
+     * 모든 알림을 읽음 처리하고 카운터를 0으로 맞춥니다.
+     */
+    @Transactional
+    public void markAllRead(Long userId) {
+        notificationRepository.markAllRead(userId, LocalDateTime.now());
+        unreadCounterRepository.reset(userId);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
 }
@@ -1,94 +1,98 @@
 package com.tjoeun.boxmon.feature.notification.service;
 
-import com.google.firebase.messaging.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tjoeun.boxmon.feature.notification.domain.NotificationDeliveryStatus;
 import com.tjoeun.boxmon.feature.notification.domain.NotificationLog;
 import com.tjoeun.boxmon.feature.notification.domain.NotificationType;
 import com.tjoeun.boxmon.feature.notification.repository.NotificationRepository;
+import com.tjoeun.boxmon.feature.notification.repository.NotificationUnreadCounterRepository;
+import com.tjoeun.boxmon.feature.notification.service.NotificationPreferenceService.PushPolicy;
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.user.domain.User;
-import com.tjoeun.boxmon.feature.user.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+/**
+ * 알림을 아웃박스(NotificationLog, PENDING)에 기록합니다.
+ * 호출한 업무 트랜잭션과 함께 커밋되며, 실제 FCM 발송은 {@link NotificationOutboxDispatcher}가 커밋 이후에 처리합니다.
+ * 수신자의 읽지 않은 알림 수도 같은 트랜잭션에서 증가시킵니다.
+ * 수신 설정상 푸시를 받지 않는 알림은 알림함에만 기록(SUPPRESSED)하고 FCM으로 보내지 않습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationSender {
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
+    private final NotificationUnreadCounterRepository unreadCounterRepository;
+    private final NotificationPreferenceService preferenceService;
     private final EntityManager entityManager;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
-    //알림 전송 + 알림목록 갱신
+    //발송 대기 등록 + 알림목록 갱신
+    @Transactional
     public void send(long targetUserId, long shipmentId, NotificationType type, String title, String body, Map<String,String> extraData) {
-        try {
-            User target = userRepository.findByUserId(targetUserId).orElseThrow(() -> new IllegalArgumentException("User not found"));
-            send(target, shipmentId, type, title, body, extraData);
-        } catch (IllegalArgumentException e) {
+        // 수신 정책은 캐시에서 읽으므로 사용자 행은 조회하지 않고 참조만 사용
+        Optional<PushPolicy> policy = preferenceService.findPolicy(targetUserId);
+        if (policy.isEmpty()) {
             log.warn("알림 전송 실패. 알림을 보낼 사용자를 찾을 수 없습니다. 사용자 id: {}", targetUserId);
+            return;
         }
+        enqueue(entityManager.getReference(User.class, targetUserId), shipmentId, type, title, body, extraData, policy.get());
     }
-    
-    //알림 전송 + 알림목록 갱신
+
+    //발송 대기 등록 + 알림목록 갱신
+    @Transactional
     public void send(User target, long shipmentId, NotificationType type, String title, String body, Map<String,String> extraData){
+        PushPolicy policy = preferenceService.findPolicy(target.getUserId())
+                .orElse(new PushPolicy(Boolean.TRUE.equals(target.getIsPushEnabled()), Set.of(), null, null));
+        enqueue(target, shipmentId, type, title, body, extraData, policy);
+    }
+
+    // 푸시를 받지 않는 경우에도 알림함에는 남기되, 아웃박스 대상(PENDING)이 아닌 SUPPRESSED로 기록해 FCM 호출을 건너뜀
+    private void enqueue(User target, long shipmentId, NotificationType type, String title, String body,
+                        Map<String,String> extraData, PushPolicy policy) {
         if(extraData == null) extraData = Map.of("shipmentId",String.valueOf(shipmentId));
-        
-        String messageId = sendMessage(target.getDeviceToken(), title, body, extraData);
-        NotificationLog sentMessage = NotificationLog.builder()
+
+        LocalDateTime now = LocalDateTime.now();
+        // 방해금지 시간은 한국 시간 기준으로 입력받으므로 서버 시간대와 관계없이 KST로 비교
+        boolean pushAllowed = policy.allowsPush(type, LocalTime.now(KST));
+        if (!pushAllowed) {
+            log.debug("수신 설정에 따라 푸시를 생략합니다. userId={}, type={}", target.getUserId(), type);
+        }
+        NotificationLog notificationLog = NotificationLog.builder()
                 .target(target)
                 .shipment(entityManager.getReference(Shipment.class, shipmentId))
                 .notificationType(type)
                 .notificationTitle(title)
                 .notificationContent(body)
-                .sentAt(LocalDateTime.now())
-                .firebaseMessageId(messageId)
+                .extraData(toJson(extraData))
+                .sentAt(now)
+                .deliveryStatus(pushAllowed ? NotificationDeliveryStatus.PENDING : NotificationDeliveryStatus.SUPPRESSED)
+                .nextAttemptAt(pushAllowed ? now : null)
                 .build();
-        notificationRepository.save(sentMessage);
+        notificationRepository.save(notificationLog);
+        unreadCounterRepository.increment(target.getUserId());
     }
-    
-    //FCM을 이용한 실질적인 메시지 전송
-    private String sendMessage(String targetDeviceToken, String title, String body, Map<String,String> extraData) {
-        //푸시 알림에 띄울 내용
-        Notification notification = Notification.builder()
-                .setTitle(title)
-                .setBody(body)
-                .build();
-
-        //Android 전용 추가 설정
-        AndroidConfig androidConfig = AndroidConfig.builder()
-                .setPriority(AndroidConfig.Priority.HIGH)
-                .setNotification(AndroidNotification.builder()
-                        .setSound("default")
-                        .build())
-                .build();
-
-
-        //IOS 전용 추가 설정
-        ApnsConfig apnsConfig = ApnsConfig.builder()
-                .setAps(Aps.builder()
-                        .setSound("default")
-                        .build()
-                )
-                .build();
-        
-        //전송할 메시지 객체
-        Message message = Message.builder()
-                .setToken(targetDeviceToken)
-                .setNotification(notification)
-                .putAllData(extraData) //클라이언트가 읽을 추가 데이터
-                .setAndroidConfig(androidConfig)
-                .setApnsConfig(apnsConfig)
-                .build();
 
+    private String toJson(Map<String, String> extraData) {
         try {
-            return FirebaseMessaging.getInstance().send(message);
-        } catch (FirebaseMessagingException e) {
-            log.warn("알림 전송 실패. 원인: {}", e.getMessage());
-            e.printStackTrace();
+            return objectMapper.writeValueAsString(extraData);
+        } catch (JsonProcessingException e) {
+            // 문자열 Map 직렬화는 실패하지 않지만, 실패하더라도 알림 본문은 발송되도록 추가 데이터만 생략
+            log.warn("알림 추가 데이터 직렬화 실패. 원인: {}", e.getMessage());
             return null;
         }
     }
@@ -1,15 +1,12 @@
 package com.tjoeun.boxmon.feature.notification.service;
 
 import com.tjoeun.boxmon.feature.notification.domain.NotificationType;
-import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
-import com.tjoeun.boxmon.global.util.AddressProcessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -23,12 +20,18 @@ public class NotificationUseCase {
      * @param shipmentId 배차된 운송건 id
      */
     public void notifyAssignmentCompleted(long shipmentId) {
+        loadSnapshot(shipmentId).ifPresent(this::notifyAssignmentCompleted);
+    }
+
+    /**
+     * 배차완료 알림 (이미 조회한 운송건 사용)
+     */
+    public void notifyAssignmentCompleted(ShipmentNotificationSnapshot snapshot) {
         notifyShipper(
-                shipmentId,
+                snapshot,
                 NotificationType.ASSIGNMENT_CONFIRMED,
                 "배차가 완료되었습니다.",
-                shipment -> String.format("%s 배차 완료되었습니다.", summary(shipment)),
-                null
+                String.format("%s 배차 완료되었습니다.", snapshot.summary())
         );
     }
 
@@ -37,12 +40,18 @@ public class NotificationUseCase {
      * @param shipmentId 시작된 운송건 id
      */
     public void notifyTransportStarted(long shipmentId) {
+        loadSnapshot(shipmentId).ifPresent(this::notifyTransportStarted);
+    }
+
+    /**
+     * 운송시작 알림 (이미 조회한 운송건 사용)
+     */
+    public void notifyTransportStarted(ShipmentNotificationSnapshot snapshot) {
         notifyShipper(
-                shipmentId,
+                snapshot,
                 NotificationType.TRANSPORT_STARTED,
                 "운송이 시작되었습니다.",
-                shipment -> String.format("%s 운송이 시작되었습니다.", summary(shipment)),
-                null
+                String.format("%s 운송이 시작되었습니다.", snapshot.summary())
         );
     }
 
@@ -51,12 +60,18 @@ public class NotificationUseCase {
      * @param shipmentId 완료된 운송건 id
      */
     public void notifyTransportCompleted(long shipmentId) {
+        loadSnapshot(shipmentId).ifPresent(this::notifyTransportCompleted);
+    }
+
+    /**
+     * 운송완료 알림 (이미 조회한 운송건 사용)
+     */
+    public void notifyTransportCompleted(ShipmentNotificationSnapshot snapshot) {
         notifyShipper(
-                shipmentId,
+                snapshot,
                 NotificationType.TRANSPORT_COMPLETED,
                 "운송이 완료되었습니다.",
-                shipment -> String.format("%s 운송이 완료되었습니다.", summary(shipment)),
-                null
+                String.format("%s 운송이 완료되었습니다.", snapshot.summary())
         );
     }
 
@@ -66,13 +81,20 @@ public class NotificationUseCase {
      * @param userId 취소 요청자 id(취소 요청자의 거래 상대에게만 알림이 발송됨)
      */
     public void notifyAssignmentCancellationRequested(long shipmentId, long userId) {
+        loadSnapshot(shipmentId).ifPresent(snapshot -> notifyAssignmentCancellationRequested(snapshot, userId));
+    }
+
+    /**
+     * 배차 취소 요청 알림 (이미 조회한 운송건 사용)
+     * @param userId 취소 요청자 id(취소 요청자의 거래 상대에게만 알림이 발송됨)
+     */
+    public void notifyAssignmentCancellationRequested(ShipmentNotificationSnapshot snapshot, long userId) {
         notifyOpponent(
-                shipmentId,
+                snapshot,
                 userId,
                 NotificationType.ASSIGNMENT_CANCELLATION_REQUESTED,
                 "상대가 운송취소를 요청했습니다.",
-                shipment -> String.format("%s 운송 취소가 요청되었습니다.", summary(shipment)),
-                null
+                "%s 운송 취소가 요청되었습니다."
         );
     }
 
@@ -82,63 +104,76 @@ public class NotificationUseCase {
      * @param userId 채팅 전송자 id(채팅 전송자의 거래 상대(=채팅수신자)에게만 알림이 발송됨)
      */
     public void notifyChatMessage(long shipmentId, long userId) {
-        notifyOpponent(
-                shipmentId,
+        loadSnapshot(shipmentId).ifPresent(snapshot -> notifyOpponent(
+                snapshot,
                 userId,
                 NotificationType.CHAT_MESSAGE,
                 "상대가 채팅을 보냈습니다.",
-                shipment -> String.format("%s 방에 채팅이 전송되었습니다.", summary(shipment)),
+                "%s 방에 채팅이 전송되었습니다."
+        ));
+    }
+
+    /**
+     * 짧은 시간 동안 모인 채팅을 한 번의 알림으로 묶어 수신자에게 발송합니다.
+     * @param shipmentId 채팅방(운송건) id
+     * @param recipientId 알림을 받을 사용자 id
+     * @param messageCount 묶인 채팅 수
+     */
+    public void notifyChatMessages(long shipmentId, long recipientId, int messageCount) {
+        loadSnapshot(shipmentId).ifPresent(snapshot -> notificationSender.send(
+                recipientId,
+                shipmentId,
+                NotificationType.CHAT_MESSAGE,
+                "상대가 채팅을 보냈습니다.",
+                messageCount > 1
+                        ? String.format("%s 방에 새 채팅 %d개가 있습니다.", snapshot.summary(), messageCount)
+                        : String.format("%s 방에 채팅이 전송되었습니다.", snapshot.summary()),
                 null
-        );
+        ));
     }
 
     //화주에게 알림 발송
-    private void notifyShipper(
-            long shipmentId,
-            NotificationType type,
-            String title,
-            Function<Shipment, String> bodyMaker,
-            Map<String, String> extraData
-    ) {
-        shipmentRepository.findById(shipmentId).ifPresentOrElse(
-                shipment -> notificationSender.send(
-                        shipment.getShipper().getShipperId(),
-                        shipmentId,
-                        type,
-                        title,
-                        bodyMaker.apply(shipment),
-                        extraData
-                ),
-                () -> log.warn("알림 발송 실패. 운송기록을 찾을 수 없습니다. shipmentId={}", shipmentId)
+    private void notifyShipper(ShipmentNotificationSnapshot snapshot, NotificationType type, String title, String body) {
+        notificationSender.send(
+                snapshot.shipperId(),
+                snapshot.shipmentId(),
+                type,
+                title,
+                body,
+                null
         );
     }
-    
-    //거래 상대방에게 알림 발송
+
+    //거래 상대방에게 알림 발송 (상대가 없으면 문구를 만들지 않고 생략)
     private void notifyOpponent(
-            long shipmentId,
+            ShipmentNotificationSnapshot snapshot,
             long userId,
             NotificationType type,
             String title,
-            Function<Shipment, String> bodyMaker,
-            Map<String, String> extraData
+            String bodyFormat
     ) {
-        shipmentRepository.findById(shipmentId).ifPresentOrElse(
-                shipment -> notificationSender.send(
-                        shipment.getShipper().getShipperId().equals(userId) ? shipment.getDriver().getDriverId() : shipment.getShipper().getShipperId(),
-                        shipmentId,
-                        type,
-                        title,
-                        bodyMaker.apply(shipment),
-                        extraData
-                ),
-                () -> log.warn("알림 발송 실패. 운송기록을 찾을 수 없습니다. shipmentId={}", shipmentId)
+        Long opponentId = snapshot.opponentOf(userId);
+        if (opponentId == null) {
+            log.info("알림 발송 생략. 알림을 받을 상대가 없습니다. shipmentId={}", snapshot.shipmentId());
+            return;
+        }
+        notificationSender.send(
+                opponentId,
+                snapshot.shipmentId(),
+                type,
+                title,
+                String.format(bodyFormat, snapshot.summary()),
+                null
         );
     }
 
-    private String summary(Shipment shipment){
-        String startPoint = AddressProcessor.simplifiy(shipment.getPickupAddress());
-        String endPoint = AddressProcessor.simplifiy(shipment.getDropoffAddress());
-
-        return String.format("%s → %s %s", startPoint, endPoint, shipment.getCargoType().getDescription());
+    // id만 전달받은 경우의 호출 경로. 운송건을 한 번 조회해 스냅샷으로 변환
+    private Optional<ShipmentNotificationSnapshot> loadSnapshot(long shipmentId) {
+        Optional<ShipmentNotificationSnapshot> snapshot = shipmentRepository.findById(shipmentId)
+                .map(ShipmentNotificationSnapshot::of);
+        if (snapshot.isEmpty()) {
+            log.warn("알림 발송 실패. 운송기록을 찾을 수 없습니다. shipmentId={}", shipmentId);
+        }
+        return snapshot;
     }
 }
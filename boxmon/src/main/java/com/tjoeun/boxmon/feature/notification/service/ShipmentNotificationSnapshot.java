@@ -0,0 +1,50 @@
+package com.tjoeun.boxmon.feature.notification.service;
+
+import com.tjoeun.boxmon.feature.shipment.domain.CargoType;
+import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
+import com.tjoeun.boxmon.global.util.AddressProcessor;
+
+/**
+ * 알림 문구와 수신자 결정에 필요한 운송건 값만 담은 스냅샷.
+ * 이미 운송건을 조회한 호출자가 넘기면 알림 발송 시 운송건/화주/차주를 다시 읽지 않습니다.
+ * driverId는 배차 전이면 null입니다.
+ */
+public record ShipmentNotificationSnapshot(
+        Long shipmentId,
+        Long shipperId,
+        Long driverId,
+        String pickupAddress,
+        String dropoffAddress,
+        CargoType cargoType
+) {
+
+    /**
+     * 화주/차주는 식별자만 읽으므로 지연 로딩 프록시를 초기화하지 않습니다.
+     */
+    public static ShipmentNotificationSnapshot of(Shipment shipment) {
+        return new ShipmentNotificationSnapshot(
+                shipment.getShipmentId(),
+                shipment.getShipper() != null ? shipment.getShipper().getShipperId() : null,
+                shipment.getDriver() != null ? shipment.getDriver().getDriverId() : null,
+                shipment.getPickupAddress(),
+                shipment.getDropoffAddress(),
+                shipment.getCargoType()
+        );
+    }
+
+    // 예: "서울 → 부산 일반화물"
+    public String summary() {
+        String startPoint = AddressProcessor.simplifiy(pickupAddress);
+        String endPoint = AddressProcessor.simplifiy(dropoffAddress);
+
+        return String.format("%s → %s %s", startPoint, endPoint, cargoType.getDescription());
+    }
+
+    // 화주가 보낸 경우 차주(미배차면 null), 그 외에는 화주
+    Long opponentOf(long userId) {
+        if (shipperId != null && shipperId.equals(userId)) {
+            return driverId;
+        }
+        return shipperId;
+    }
+}
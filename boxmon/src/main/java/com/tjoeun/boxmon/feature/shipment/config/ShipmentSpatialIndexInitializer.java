@@ -0,0 +1,54 @@
+package com.tjoeun.boxmon.feature.shipment.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주변 화물 검색에 필요한 상차지 공간 인덱스를 보장합니다.
+ * 스키마를 Hibernate ddl-auto로 관리하므로 SPATIAL 인덱스는 기동 시점에 없을 때만 생성합니다.
+ * (pickup_point는 NOT NULL + SRID 4326 컬럼이어야 MySQL이 공간 인덱스를 사용합니다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShipmentSpatialIndexInitializer {
+    private static final String INDEX_NAME = "idx_shipment_pickup_point";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePickupPointSpatialIndex() {
+        try {
+            List<String> tableNames = jdbcTemplate.queryForList(
+                    "SELECT table_name FROM information_schema.tables " +
+                            "WHERE table_schema = DATABASE() AND LOWER(table_name) = 'shipment'",
+                    String.class
+            );
+            if (tableNames.isEmpty()) {
+                log.warn("SHIPMENT 테이블이 없어 공간 인덱스 생성을 건너뜁니다.");
+                return;
+            }
+
+            String tableName = tableNames.get(0);
+            Integer indexCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                    Integer.class, tableName, INDEX_NAME
+            );
+            if (indexCount != null && indexCount > 0) {
+                return;
+            }
+
+            jdbcTemplate.execute("CREATE SPATIAL INDEX " + INDEX_NAME + " ON " + tableName + " (pickup_point)");
+            log.info("상차지 공간 인덱스 생성 완료: {}.{}", tableName, INDEX_NAME);
+        } catch (Exception e) {
+            log.error("상차지 공간 인덱스 생성 실패. 주변 화물 검색이 느려질 수 있습니다. 원인: {}", e.getMessage());
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.tjoeun.boxmon.feature.shipment.dto.ShipmentDetailResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.DriverInventoryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.DriverTodaySummaryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.MyUnassignedShipmentResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.NearbyShipmentResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.NearbyShipmentSearchRequest;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentPriceGuideRequest;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentPriceGuideResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipperInventoryResponse;
@@ -13,6 +15,7 @@ import com.tjoeun.boxmon.feature.shipment.dto.ShipperRecentShipmentResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipperTodaySummaryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.UnassignedShipmentResponse;
 import com.tjoeun.boxmon.feature.shipment.service.ShipmentService;
+import com.tjoeun.boxmon.global.dto.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -26,16 +29,17 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
 
 /**
  * 배송 관련 API 요청을 처리하는 컨트롤러 클래스입니다.
@@ -255,11 +259,36 @@ public class ShipmentController {
      *
      * @return 미배차 화물 목록과 HTTP 200 OK 응답
      */
-    @Operation(summary = "미배차 화물 목록 조회", description = "배차되지 않은 모든 화물 목록을 조회합니다.")
+    @Operation(summary = "미배차 화물 목록 조회", description = "배차되지 않은 화물 목록을 최신 등록순 커서 페이지로 조회합니다.")
     @ApiResponse(responseCode = "200", description = "미배차 화물 목록 조회 성공")
     @GetMapping("/unassigned")
-    public ResponseEntity<List<UnassignedShipmentResponse>> getUnassignedShipments() {
-        List<UnassignedShipmentResponse> response = shipmentService.getUnassignedShipments();
+    public ResponseEntity<CursorPageResponse<UnassignedShipmentResponse>> getUnassignedShipments(
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(name = "size", required = false) Integer size
+    ) {
+        CursorPageResponse<UnassignedShipmentResponse> response = shipmentService.getUnassignedShipments(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 차주 위치 기준 반경 내 미배차 화물 목록을 가까운 순으로 조회합니다.
+     *
+     * @param authentication 현재 인증된 운송 기사 정보
+     * @param request 기준 좌표, 반경, 차량 조건 및 커서
+     * @return 거리순 미배차 화물 페이지와 HTTP 200 OK 응답
+     */
+    @Operation(summary = "주변 미배차 화물 조회", description = "기준 좌표 반경 내 미배차 화물을 상차지 거리순으로 조회합니다. 다음 페이지는 nextCursor를 cursor로 전달합니다.")
+    @ApiResponse(responseCode = "200", description = "주변 미배차 화물 조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 좌표/반경/커서")
+    @ApiResponse(responseCode = "401", description = "인증 실패")
+    @ApiResponse(responseCode = "403", description = "차주 권한 필요")
+    @GetMapping("/unassigned/nearby")
+    public ResponseEntity<CursorPageResponse<NearbyShipmentResponse>> getNearbyUnassignedShipments(
+            Authentication authentication,
+            @Valid @ModelAttribute NearbyShipmentSearchRequest request
+    ) {
+        Long driverId = Long.valueOf(authentication.getPrincipal().toString());
+        CursorPageResponse<NearbyShipmentResponse> response = shipmentService.getNearbyUnassignedShipments(driverId, request);
         return ResponseEntity.ok(response);
     }
 
@@ -274,9 +303,13 @@ public class ShipmentController {
     @ApiResponse(responseCode = "401", description = "인증 실패")
     @ApiResponse(responseCode = "403", description = "화주 권한 없음")
     @GetMapping("/my/unassigned")
-    public ResponseEntity<List<MyUnassignedShipmentResponse>> getMyUnassignedShipments(Authentication authentication) {
+    public ResponseEntity<CursorPageResponse<MyUnassignedShipmentResponse>> getMyUnassignedShipments(
+            Authentication authentication,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(name = "size", required = false) Integer size
+    ) {
         Long shipperId = Long.valueOf(authentication.getPrincipal().toString());
-        List<MyUnassignedShipmentResponse> response = shipmentService.getMyUnassignedShipments(shipperId);
+        CursorPageResponse<MyUnassignedShipmentResponse> response = shipmentService.getMyUnassignedShipments(shipperId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -285,9 +318,13 @@ public class ShipmentController {
     @ApiResponse(responseCode = "401", description = "인증 실패")
     @ApiResponse(responseCode = "403", description = "화주 권한 필요")
     @GetMapping("/my/inventory/shipper")
-    public ResponseEntity<List<ShipperInventoryResponse>> getMyShipperInventory(Authentication authentication) {
+    public ResponseEntity<CursorPageResponse<ShipperInventoryResponse>> getMyShipperInventory(
+            Authentication authentication,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(name = "size", required = false) Integer size
+    ) {
         Long shipperId = Long.valueOf(authentication.getPrincipal().toString());
-        List<ShipperInventoryResponse> response = shipmentService.getMyShipperInventory(shipperId);
+        CursorPageResponse<ShipperInventoryResponse> response = shipmentService.getMyShipperInventory(shipperId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -296,9 +333,13 @@ public class ShipmentController {
     @ApiResponse(responseCode = "401", description = "인증 실패")
     @ApiResponse(responseCode = "403", description = "차주 권한 필요")
     @GetMapping("/my/inventory/driver")
-    public ResponseEntity<List<DriverInventoryResponse>> getMyDriverInventory(Authentication authentication) {
+    public ResponseEntity<CursorPageResponse<DriverInventoryResponse>> getMyDriverInventory(
+            Authentication authentication,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(name = "size", required = false) Integer size
+    ) {
         Long driverId = Long.valueOf(authentication.getPrincipal().toString());
-        List<DriverInventoryResponse> response = shipmentService.getMyDriverInventory(driverId);
+        CursorPageResponse<DriverInventoryResponse> response = shipmentService.getMyDriverInventory(driverId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -15,7 +15,12 @@ import java.time.LocalDateTime;
  * 화물 운송과 관련된 모든 상세 정보를 관리합니다.
  */
 @Entity
-@Table(name = "SHIPMENT")
+@Table(name = "SHIPMENT", indexes = {
+        // 목록 키셋 조회용 (상태/화주/기사 + 생성일시 내림차순)
+        @Index(name = "idx_shipment_status_created", columnList = "shipment_status, created_at, shipment_id"),
+        @Index(name = "idx_shipment_shipper_status_created", columnList = "shipper_id, shipment_status, created_at, shipment_id"),
+        @Index(name = "idx_shipment_driver_created", columnList = "driver_id, created_at, shipment_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -76,6 +81,12 @@ public class Shipment {
     @Column(name = "estimated_distance")
     private Double estimatedDistance; // 운송 예상 거리 (단위: km)
 
+    @Column(name = "estimated_duration_seconds")
+    private Long estimatedDurationSeconds; // 등록 시점 경로 기준 예상 소요 시간 (단위: 초)
+
+    @Column(name = "toll_fare")
+    private Integer tollFare; // 등록 시점 경로 기준 통행료 (단위: 원)
+
     // --- 비용 및 수익 ---
     @Column(name = "price", nullable = false)
     private BigDecimal price; // 총 운임 비용
@@ -152,6 +163,9 @@ public class Shipment {
     @Column(name = "current_location_point", columnDefinition = "POINT SRID 4326")
     private Point currentLocationPoint; // 운송 중인 차량의 최신 경위도 좌표
 
+    @Column(name = "current_location_at")
+    private LocalDateTime currentLocationAt; // current_location_point의 측정 시각 (Asia/Seoul)
+
     /**
      * 엔티티가 영속화되기 전에 호출되어 `createdAt` 필드를 현재 시간으로 자동 설정합니다.
      */
@@ -0,0 +1,23 @@
+package com.tjoeun.boxmon.feature.shipment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class NearbyShipmentResponse {
+    private Long shipmentId;
+    private String pickupAddress;
+    private String dropoffAddress;
+    private LocalDateTime pickupDesiredAt;
+    private LocalDateTime dropoffDesiredAt;
+    private Double estimatedDistance;
+    private Double cargoWeight;
+    private String vehicleType;
+    private String description;
+    private BigDecimal profit;
+    private Double distanceFromMeKm; // 검색 기준 위치 ~ 상차지 직선 거리(km)
+}
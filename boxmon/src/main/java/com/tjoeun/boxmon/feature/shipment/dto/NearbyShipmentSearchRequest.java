@@ -0,0 +1,51 @@
+package com.tjoeun.boxmon.feature.shipment.dto;
+
+import com.tjoeun.boxmon.feature.user.domain.VehicleType;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 차주 위치 기반 주변 미배차 화물 검색 조건.
+ * 쿼리 파라미터로 전달받습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class NearbyShipmentSearchRequest {
+
+    @NotNull(message = "위도는 필수입니다.")
+    @DecimalMin(value = "-90.0", message = "위도 범위가 올바르지 않습니다.")
+    @DecimalMax(value = "90.0", message = "위도 범위가 올바르지 않습니다.")
+    private Double lat;
+
+    @NotNull(message = "경도는 필수입니다.")
+    @DecimalMin(value = "-180.0", message = "경도 범위가 올바르지 않습니다.")
+    @DecimalMax(value = "180.0", message = "경도 범위가 올바르지 않습니다.")
+    private Double lng;
+
+    // 검색 반경(km), 미입력 시 서비스 기본값 적용
+    @Positive(message = "검색 반경은 0보다 커야 합니다.")
+    private Double radiusKm;
+
+    // 요구 차량 종류 필터 (선택)
+    private VehicleType vehicleType;
+
+    // 차량이 냉장/냉동을 지원하지 않으면 해당 조건이 필요한 화물은 제외
+    private Boolean canRefrigerate;
+
+    private Boolean canFreeze;
+
+    // 적재 가능 최대 중량, 초과 화물 제외 (선택)
+    @Positive(message = "최대 적재 중량은 0보다 커야 합니다.")
+    private Double maxWeight;
+
+    // 이전 응답의 nextCursor
+    private String cursor;
+
+    private Integer size;
+}
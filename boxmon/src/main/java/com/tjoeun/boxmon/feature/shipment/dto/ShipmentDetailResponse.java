@@ -36,8 +36,13 @@ public class ShipmentDetailResponse {
 
     // 3) 실시간 위치/거리 정보
     private Point currentDriverPoint; // 기사 현재 좌표
+    private LocalDateTime currentLocationAt; // 현재 좌표 측정 시각
+    private Double currentHeading; // 진행 방위각(북쪽 0, 시계 방향)
+    private Double currentSpeedKmh; // 최근 평균 속도(km/h)
     private String distanceToDestination; // 목적지 거리 문자열
     private LocalDateTime estimatedArrivalTime; // 예상 도착 시간
+    private LocalDateTime etaComputedAt; // 남은 경로 ETA 계산 시각
+    private Long etaAgeSeconds; // ETA 계산 후 경과 시간(초)
 
     // 4) 주소
     private String pickupAddress; // 상차지 주소
@@ -62,6 +67,7 @@ public class ShipmentDetailResponse {
     private BigDecimal price; // 총 운임
     private BigDecimal platformFee; // 플랫폼 수수료
     private BigDecimal profit; // 기사 수익
+    private Integer tollFare; // 예상 통행료 (등록 시점 경로 기준)
 
     // 8) 좌표/사진
     private Point pickupPoint; // 상차지 좌표
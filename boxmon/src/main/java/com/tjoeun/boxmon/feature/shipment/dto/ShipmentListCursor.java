@@ -0,0 +1,37 @@
+package com.tjoeun.boxmon.feature.shipment.dto;
+
+import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
+import com.tjoeun.boxmon.global.util.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 배송 목록 키셋 커서 (createdAt DESC, shipmentId DESC).
+ * 첫 페이지는 모든 행보다 큰 센티널 값을 사용해 쿼리를 하나로 유지합니다.
+ */
+public record ShipmentListCursor(LocalDateTime createdAt, Long shipmentId) {
+    private static final ShipmentListCursor FIRST_PAGE =
+            new ShipmentListCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static ShipmentListCursor from(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            return new ShipmentListCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 값입니다.", e);
+        }
+    }
+
+    public static String encode(Shipment shipment) {
+        return encode(shipment.getCreatedAt(), shipment.getShipmentId());
+    }
+
+    public static String encode(LocalDateTime createdAt, Long shipmentId) {
+        return CursorCodec.encode(createdAt, shipmentId);
+    }
+}
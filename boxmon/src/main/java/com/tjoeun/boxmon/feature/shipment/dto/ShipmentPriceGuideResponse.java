@@ -16,4 +16,6 @@ public class ShipmentPriceGuideResponse {
     private Double estimatedDistanceKm;
 
     private Integer recommendedPrice;
+
+    private boolean approximate; // 길찾기 실패로 직선거리 기반 추정 거리를 사용했는지 여부
 }
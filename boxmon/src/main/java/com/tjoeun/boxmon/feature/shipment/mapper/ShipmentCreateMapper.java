@@ -3,6 +3,7 @@ package com.tjoeun.boxmon.feature.shipment.mapper;
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentCreateRequest;
 import com.tjoeun.boxmon.feature.user.domain.Shipper;
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
 import org.locationtech.jts.geom.Point;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -23,6 +24,7 @@ public interface ShipmentCreateMapper {
     @Mapping(target = "driverCancelToggle", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "currentLocationPoint", ignore = true)
+    @Mapping(target = "currentLocationAt", ignore = true)
     @Mapping(target = "dropoffPhotoUrl", ignore = true)
     @Mapping(target = "shipper", source = "shipper")
     @Mapping(target = "pickupPoint", source = "pickupPoint")
@@ -35,7 +37,9 @@ public interface ShipmentCreateMapper {
     @Mapping(target = "dropoffDesiredAt", source = "request.dropoffDesiredAt")
     @Mapping(target = "waypoint1Address", source = "request.waypoint1Address")
     @Mapping(target = "waypoint2Address", source = "request.waypoint2Address")
-    @Mapping(target = "estimatedDistance", source = "estimatedDistance")
+    @Mapping(target = "estimatedDistance", source = "routeSummary.distanceKm")
+    @Mapping(target = "estimatedDurationSeconds", source = "routeSummary.durationSeconds")
+    @Mapping(target = "tollFare", source = "routeSummary.tollFare")
     @Mapping(target = "price", source = "price")
     @Mapping(target = "platformFee", source = "platformFee")
     @Mapping(target = "profit", source = "profit")
@@ -56,7 +60,7 @@ public interface ShipmentCreateMapper {
             Point dropoffPoint,
             Point waypoint1Point,
             Point waypoint2Point,
-            Double estimatedDistance,
+            RouteSummary routeSummary,
             BigDecimal price,
             BigDecimal platformFee,
             BigDecimal profit,
@@ -7,10 +7,12 @@ import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
 import com.tjoeun.boxmon.feature.shipment.dto.DriverInventoryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.DriverSettlementListResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.MyUnassignedShipmentResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.NearbyShipmentResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentDetailResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipperInventoryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipperSettlementListResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.UnassignedShipmentResponse;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.NearbyShipmentProjection;
 import com.tjoeun.boxmon.feature.user.domain.VehicleType;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -27,6 +29,10 @@ public interface ShipmentMapper {
     @Mapping(target = "shipmentNumber", ignore = true)
     @Mapping(target = "distanceToDestination", ignore = true)
     @Mapping(target = "estimatedArrivalTime", ignore = true)
+    @Mapping(target = "etaComputedAt", ignore = true)
+    @Mapping(target = "etaAgeSeconds", ignore = true)
+    @Mapping(target = "currentHeading", ignore = true)
+    @Mapping(target = "currentSpeedKmh", ignore = true)
     @Mapping(target = "shipperId", source = "shipper.shipperId")
     @Mapping(target = "shipperName", source = "shipper.user.name")
     @Mapping(target = "driverId", expression = "java(shipment.getDriver() != null ? shipment.getDriver().getDriverId() : null)")
@@ -81,6 +87,11 @@ public interface ShipmentMapper {
     @Mapping(target = "profit", source = "profit", qualifiedByName = "roundMoney")
     UnassignedShipmentResponse toUnassignedShipmentResponse(Shipment shipment);
 
+    @Mapping(target = "vehicleType", source = "vehicleType", qualifiedByName = "toVehicleCodeDescription")
+    @Mapping(target = "profit", source = "profit", qualifiedByName = "roundMoney")
+    @Mapping(target = "distanceFromMeKm", source = "distanceMeters", qualifiedByName = "toRoundedKm")
+    NearbyShipmentResponse toNearbyShipmentResponse(NearbyShipmentProjection projection);
+
     @Mapping(target = "vehicleType", source = "vehicleType", qualifiedByName = "toVehicleDescription")
     @Mapping(target = "price", source = "price", qualifiedByName = "roundMoney")
     MyUnassignedShipmentResponse toMyUnassignedShipmentResponse(Shipment shipment);
@@ -108,6 +119,19 @@ public interface ShipmentMapper {
         return vehicleType == null ? null : vehicleType.getDescription();
     }
 
+    @Named("toVehicleCodeDescription")
+    default String toVehicleCodeDescription(String vehicleTypeCode) {
+        return vehicleTypeCode == null ? null : VehicleType.valueOf(vehicleTypeCode).getDescription();
+    }
+
+    @Named("toRoundedKm")
+    default Double toRoundedKm(Double meters) {
+        if (meters == null) {
+            return null;
+        }
+        return BigDecimal.valueOf(meters / 1000.0).setScale(1, RoundingMode.HALF_UP).doubleValue();
+    }
+
     @Named("toCargoDescription")
     default String toCargoDescription(CargoType cargoType) {
         return cargoType == null ? null : cargoType.getDescription();
@@ -2,7 +2,13 @@ package com.tjoeun.boxmon.feature.shipment.repository;
 
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.AdminShipmentListRow;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.NearbyShipmentProjection;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.RouteDistanceSampleProjection;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.ShipmentParticipants;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -117,17 +123,99 @@ public interface ShipmentRepository extends JpaRepository<Shipment, Long> {
             @Param("endDate") LocalDateTime endDate
     );
 
-    List<Shipment> findByShipmentStatusOrderByCreatedAtDesc(ShipmentStatus shipmentStatus);
+    /**
+     * 특정 상태의 배송 목록을 (생성일시, ID) 내림차순 키셋으로 조회합니다.
+     * 첫 페이지는 센티널 커서를 넘기며, 조회 건수는 pageable(size + 1)로 제한합니다.
+     */
+    @Query("SELECT s FROM Shipment s " +
+            "WHERE s.shipmentStatus = :shipmentStatus " +
+            "AND (s.createdAt < :cursorCreatedAt OR (s.createdAt = :cursorCreatedAt AND s.shipmentId < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.shipmentId DESC")
+    List<Shipment> findPageByShipmentStatus(
+            @Param("shipmentStatus") ShipmentStatus shipmentStatus,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
-    List<Shipment> findByShipper_ShipperIdAndShipmentStatusOrderByCreatedAtDesc(Long shipperId, ShipmentStatus shipmentStatus);
+    /**
+     * 관리자 목록용: 특정 상태의 배송을 화주/기사 이름과 함께 (생성일시, ID) 내림차순 키셋으로 조회합니다.
+     * 생성자 프로젝션으로 조인 결과만 가져오므로 페이지당 쿼리 1회로 끝납니다.
+     */
+    @Query("SELECT new com.tjoeun.boxmon.feature.shipment.repository.projection.AdminShipmentListRow(" +
+            "s.shipmentId, s.createdAt, su.name, du.name, s.pickupAddress, s.dropoffAddress, s.shipmentStatus) " +
+            "FROM Shipment s JOIN s.shipper sh JOIN sh.user su LEFT JOIN s.driver d LEFT JOIN d.user du " +
+            "WHERE s.shipmentStatus = :shipmentStatus " +
+            "AND (s.createdAt < :cursorCreatedAt OR (s.createdAt = :cursorCreatedAt AND s.shipmentId < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.shipmentId DESC")
+    List<AdminShipmentListRow> findAdminListPageByShipmentStatus(
+            @Param("shipmentStatus") ShipmentStatus shipmentStatus,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
-    List<Shipment> findByShipper_ShipperIdAndShipmentStatusNotOrderByCreatedAtDesc(Long shipperId, ShipmentStatus shipmentStatus);
+    /**
+     * 관리자 목록용: 특정 상태를 제외한 배송을 화주/기사 이름과 함께 (생성일시, ID) 내림차순 키셋으로 조회합니다.
+     */
+    @Query("SELECT new com.tjoeun.boxmon.feature.shipment.repository.projection.AdminShipmentListRow(" +
+            "s.shipmentId, s.createdAt, su.name, du.name, s.pickupAddress, s.dropoffAddress, s.shipmentStatus) " +
+            "FROM Shipment s JOIN s.shipper sh JOIN sh.user su LEFT JOIN s.driver d LEFT JOIN d.user du " +
+            "WHERE s.shipmentStatus <> :shipmentStatus " +
+            "AND (s.createdAt < :cursorCreatedAt OR (s.createdAt = :cursorCreatedAt AND s.shipmentId < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.shipmentId DESC")
+    List<AdminShipmentListRow> findAdminListPageByShipmentStatusNot(
+            @Param("shipmentStatus") ShipmentStatus shipmentStatus,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
-    List<Shipment> findByShipmentStatus(ShipmentStatus shipmentStatus);
+    /**
+     * 특정 화주의 특정 상태 배송 목록을 (생성일시, ID) 내림차순 키셋으로 조회합니다.
+     */
+    @Query("SELECT s FROM Shipment s " +
+            "WHERE s.shipper.shipperId = :shipperId AND s.shipmentStatus = :shipmentStatus " +
+            "AND (s.createdAt < :cursorCreatedAt OR (s.createdAt = :cursorCreatedAt AND s.shipmentId < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.shipmentId DESC")
+    List<Shipment> findPageByShipperAndShipmentStatus(
+            @Param("shipperId") Long shipperId,
+            @Param("shipmentStatus") ShipmentStatus shipmentStatus,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
-    List<Shipment> findByShipmentStatusNotOrderByCreatedAtDesc(ShipmentStatus shipmentStatus);
+    /**
+     * 특정 화주의 특정 상태를 제외한 배송 목록을 (생성일시, ID) 내림차순 키셋으로 조회합니다.
+     */
+    @Query("SELECT s FROM Shipment s " +
+            "WHERE s.shipper.shipperId = :shipperId AND s.shipmentStatus <> :shipmentStatus " +
+            "AND (s.createdAt < :cursorCreatedAt OR (s.createdAt = :cursorCreatedAt AND s.shipmentId < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.shipmentId DESC")
+    List<Shipment> findPageByShipperAndShipmentStatusNot(
+            @Param("shipperId") Long shipperId,
+            @Param("shipmentStatus") ShipmentStatus shipmentStatus,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
-    List<Shipment> findByDriver_DriverIdOrderByCreatedAtDesc(Long driverId);
+    /**
+     * 특정 운송 기사에게 배차된 배송 목록을 (생성일시, ID) 내림차순 키셋으로 조회합니다.
+     */
+    @Query("SELECT s FROM Shipment s " +
+            "WHERE s.driver.driverId = :driverId " +
+            "AND (s.createdAt < :cursorCreatedAt OR (s.createdAt = :cursorCreatedAt AND s.shipmentId < :cursorId)) " +
+            "ORDER BY s.createdAt DESC, s.shipmentId DESC")
+    List<Shipment> findPageByDriver(
+            @Param("driverId") Long driverId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    List<Shipment> findByShipmentStatus(ShipmentStatus shipmentStatus);
 
     Optional<Shipment> findFirstByShipper_ShipperIdOrderByCreatedAtDesc(Long shipperId);
 
@@ -149,10 +237,97 @@ public interface ShipmentRepository extends JpaRepository<Shipment, Long> {
 
     long countByShipper_ShipperIdAndShipmentStatus(Long shipperId, ShipmentStatus shipmentStatus);
 
+    /**
+     * 상세 화면용 단건 조회. 화주/기사 이름 표시를 위해 shipper.user, driver.user를 함께 로딩합니다.
+     */
+    @EntityGraph(attributePaths = {"shipper.user", "driver.user"})
+    @Query("SELECT s FROM Shipment s WHERE s.shipmentId = :shipmentId")
+    Optional<Shipment> findDetailById(@Param("shipmentId") Long shipmentId);
+
+    @EntityGraph(attributePaths = {"shipper.user"})
     Optional<Shipment> findByShipmentIdAndShipmentStatus(Long shipmentId, ShipmentStatus shipmentStatus);
 
     Optional<Shipment> findByShipmentIdAndShipmentStatusNot(Long shipmentId, ShipmentStatus shipmentStatus);
 
+    /**
+     * 배송의 화주/기사 ID와 상태만 조회합니다. (엔티티/연관 로딩 없음)
+     */
+    @Query("SELECT new com.tjoeun.boxmon.feature.shipment.repository.projection.ShipmentParticipants(" +
+            "s.shipmentId, s.shipper.shipperId, d.driverId, s.shipmentStatus) " +
+            "FROM Shipment s LEFT JOIN s.driver d " +
+            "WHERE s.shipmentId = :shipmentId")
+    Optional<ShipmentParticipants> findParticipantsById(@Param("shipmentId") Long shipmentId);
+
+    /**
+     * 도로 우회 계수 보정용 최근 표본을 조회합니다.
+     * 길찾기로 실제 경로를 계산한 건(소요 시간 저장)만 대상으로 하며, 경유지가 있는 건은 제외합니다.
+     *
+     * @param limit 최대 표본 수
+     * @return 경로 거리(km)와 직선 거리(m) 목록
+     */
+    @Query(value = "SELECT s.estimated_distance AS routeKm, " +
+            "ST_Distance_Sphere(s.pickup_point, s.dropoff_point) AS straightMeters " +
+            "FROM shipment s " +
+            "WHERE s.estimated_distance IS NOT NULL " +
+            "AND s.estimated_duration_seconds IS NOT NULL " +
+            "AND s.waypoint1_point IS NULL " +
+            "AND s.waypoint2_point IS NULL " +
+            "ORDER BY s.shipment_id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<RouteDistanceSampleProjection> findRecentRouteDistanceSamples(@Param("limit") int limit);
+
+    /**
+     * 기준 좌표 반경 내 미배차(REQUESTED) 화물을 상차지 거리 오름차순으로 조회합니다.
+     * MBRContains 조건으로 pickup_point 공간 인덱스를 타서 후보를 좁힌 뒤,
+     * ST_Distance_Sphere로 실제 반경을 거르고 (거리, ID) 키셋 커서로 페이지를 나눕니다.
+     *
+     * @param origin 기준 좌표 WKT (예: POINT(lng lat))
+     * @param boundingBox 반경을 감싸는 사각형 WKT (POLYGON)
+     * @param radiusMeters 검색 반경(m)
+     * @param vehicleType 요구 차량 종류 필터 (null이면 전체)
+     * @param canRefrigerate 냉장 가능 여부 (false면 냉장 필요 화물 제외)
+     * @param canFreeze 냉동 가능 여부 (false면 냉동 필요 화물 제외)
+     * @param maxWeight 최대 적재 중량 (null이면 제한 없음)
+     * @param cursorDistance 이전 페이지 마지막 항목의 거리(m) (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 항목의 배송 ID (첫 페이지는 null)
+     * @param limit 조회 건수 (다음 페이지 판별용으로 size + 1)
+     * @return 거리 정보가 포함된 미배차 화물 목록
+     */
+    @Query(value = "SELECT * FROM (" +
+            "SELECT s.shipment_id AS shipmentId, s.pickup_address AS pickupAddress, s.dropoff_address AS dropoffAddress, " +
+            "s.pickup_desired_at AS pickupDesiredAt, s.dropoff_desired_at AS dropoffDesiredAt, " +
+            "s.estimated_distance AS estimatedDistance, s.cargo_weight AS cargoWeight, s.vehicle_type AS vehicleType, " +
+            "s.description AS description, s.profit AS profit, " +
+            "ST_Distance_Sphere(s.pickup_point, ST_GeomFromText(:origin, 4326, 'axis-order=long-lat')) AS distanceMeters " +
+            "FROM shipment s " +
+            "WHERE s.shipment_status = 'REQUESTED' " +
+            "AND MBRContains(ST_GeomFromText(:boundingBox, 4326, 'axis-order=long-lat'), s.pickup_point) " +
+            "AND (:vehicleType IS NULL OR s.vehicle_type = :vehicleType) " +
+            "AND (:canRefrigerate = TRUE OR s.need_refrigerate = FALSE) " +
+            "AND (:canFreeze = TRUE OR s.need_freeze = FALSE) " +
+            "AND (:maxWeight IS NULL OR s.cargo_weight <= :maxWeight)" +
+            ") nearby " +
+            "WHERE nearby.distanceMeters <= :radiusMeters " +
+            "AND (:cursorDistance IS NULL " +
+            "OR nearby.distanceMeters > :cursorDistance " +
+            "OR (nearby.distanceMeters = :cursorDistance AND nearby.shipmentId > :cursorId)) " +
+            "ORDER BY nearby.distanceMeters ASC, nearby.shipmentId ASC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<NearbyShipmentProjection> findNearbyRequestedShipments(
+            @Param("origin") String origin,
+            @Param("boundingBox") String boundingBox,
+            @Param("radiusMeters") double radiusMeters,
+            @Param("vehicleType") String vehicleType,
+            @Param("canRefrigerate") boolean canRefrigerate,
+            @Param("canFreeze") boolean canFreeze,
+            @Param("maxWeight") Double maxWeight,
+            @Param("cursorDistance") Double cursorDistance,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM Shipment s WHERE s.shipmentId = :shipmentId")
     Optional<Shipment> findByShipmentIdForUpdate(@Param("shipmentId") Long shipmentId);
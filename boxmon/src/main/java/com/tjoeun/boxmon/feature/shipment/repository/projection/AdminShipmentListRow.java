@@ -0,0 +1,21 @@
+package com.tjoeun.boxmon.feature.shipment.repository.projection;
+
+import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 화물 목록 조회용 읽기 모델.
+ * 화주/기사 이름을 조인으로 한 번에 가져와 행마다 User 지연 로딩이 발생하지 않도록 합니다.
+ * createdAt은 키셋 커서 생성용입니다.
+ */
+public record AdminShipmentListRow(
+        Long shipmentId,
+        LocalDateTime createdAt,
+        String shipperName,
+        String driverName,
+        String pickupAddress,
+        String dropoffAddress,
+        ShipmentStatus shipmentStatus
+) {
+}
@@ -0,0 +1,32 @@
+package com.tjoeun.boxmon.feature.shipment.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주변 미배차 화물 네이티브 조회 결과 프로젝션.
+ * 컬럼 별칭(alias)과 getter 이름이 일치해야 합니다.
+ */
+public interface NearbyShipmentProjection {
+    Long getShipmentId();
+
+    String getPickupAddress();
+
+    String getDropoffAddress();
+
+    LocalDateTime getPickupDesiredAt();
+
+    LocalDateTime getDropoffDesiredAt();
+
+    Double getEstimatedDistance();
+
+    Double getCargoWeight();
+
+    String getVehicleType();
+
+    String getDescription();
+
+    BigDecimal getProfit();
+
+    Double getDistanceMeters();
+}
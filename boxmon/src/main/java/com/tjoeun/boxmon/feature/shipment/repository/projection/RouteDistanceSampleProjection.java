@@ -0,0 +1,11 @@
+package com.tjoeun.boxmon.feature.shipment.repository.projection;
+
+/**
+ * 도로 우회 계수 보정용 표본 프로젝션.
+ * 등록 시점 길찾기 거리(km)와 상차지-하차지 직선 거리(m)를 함께 조회합니다.
+ */
+public interface RouteDistanceSampleProjection {
+    Double getRouteKm();
+
+    Double getStraightMeters();
+}
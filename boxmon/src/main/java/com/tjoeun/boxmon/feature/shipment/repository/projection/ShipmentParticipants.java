@@ -0,0 +1,16 @@
+package com.tjoeun.boxmon.feature.shipment.repository.projection;
+
+import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
+
+/**
+ * 배송 참여자 식별자 읽기 모델.
+ * 권한 검증처럼 화주/기사 ID만 필요한 경로에서 엔티티 로딩 없이 한 번의 조회로 확인합니다.
+ * driverId는 배차 전이면 null입니다.
+ */
+public record ShipmentParticipants(
+        Long shipmentId,
+        Long shipperId,
+        Long driverId,
+        ShipmentStatus shipmentStatus
+) {
+}
@@ -0,0 +1,27 @@
+package com.tjoeun.boxmon.feature.shipment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 미리 계산해 둔 남은 경로 ETA.
+ *
+ * @param distanceKm 계산 시점 위치에서 도착지까지 남은 거리(km)
+ * @param arrivalAt 예상 도착 시각 (계산 시각 + 예상 소요 시간)
+ * @param computedAt 계산 시각
+ * @param originLat 계산 기준 위치의 위도
+ * @param originLng 계산 기준 위치의 경도
+ * @param estimated 길찾기 대신 직선거리 추정값으로 계산했는지 여부
+ */
+public record RemainingEta(
+        double distanceKm,
+        LocalDateTime arrivalAt,
+        LocalDateTime computedAt,
+        double originLat,
+        double originLng,
+        boolean estimated
+) {
+    public long ageSeconds(LocalDateTime now) {
+        return Math.max(0L, Duration.between(computedAt, now).toSeconds());
+    }
+}
@@ -0,0 +1,222 @@
+package com.tjoeun.boxmon.feature.shipment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
+import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
+import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
+import com.tjoeun.boxmon.global.naver.service.RouteLookupService;
+import com.tjoeun.boxmon.global.util.GeoDistance;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 남은 경로 ETA 계산/보관 서비스.
+ * 위치 청크가 들어올 때 백그라운드에서 다시 계산하되, 배송별로 마지막 계산 이후
+ * 일정 시간(min-interval)이 지났거나 일정 거리(min-distance-meters) 이상 이동한 경우에만 길찾기를 호출합니다.
+ * 상세 조회는 보관된 결과를 계산 경과 시간과 함께 그대로 반환하고, 오래된 경우에는 백그라운드 갱신만 예약합니다.
+ * 따라서 외부 호출 수가 조회 수가 아닌 운행 시간에 비례하며, 트랜잭션 안에서는 길찾기를 호출하지 않습니다.
+ */
+@Slf4j
+@Service
+public class RemainingEtaService {
+
+    private final ShipmentRepository shipmentRepository;
+    private final RouteLookupService routeLookupService;
+    private final ShipmentDistanceEstimator distanceEstimator;
+    private final Duration minInterval;
+    private final Duration estimatedRetryInterval;
+    private final double minDistanceMeters;
+    private final ThreadPoolExecutor executor;
+    private final Cache<Long, RemainingEta> etas;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public RemainingEtaService(
+            ShipmentRepository shipmentRepository,
+            RouteLookupService routeLookupService,
+            ShipmentDistanceEstimator distanceEstimator,
+            @Value("${shipment.eta.min-interval:PT3M}") Duration minInterval,
+            @Value("${shipment.eta.estimated-retry-interval:PT30S}") Duration estimatedRetryInterval,
+            @Value("${shipment.eta.min-distance-meters:500}") double minDistanceMeters,
+            @Value("${shipment.eta.queue-capacity:256}") int queueCapacity,
+            @Value("${shipment.eta.retention:PT6H}") Duration retention,
+            @Value("${shipment.eta.maximum-size:20000}") long maximumSize) {
+        this.shipmentRepository = shipmentRepository;
+        this.routeLookupService = routeLookupService;
+        this.distanceEstimator = distanceEstimator;
+        this.minInterval = minInterval;
+        this.estimatedRetryInterval = estimatedRetryInterval;
+        this.minDistanceMeters = minDistanceMeters;
+        // 운송이 끝난 건은 위치가 더 들어오지 않으므로 보관 기간이 지나면 자연히 정리됨
+        this.etas = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(maximumSize)
+                .build();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 길찾기 호출 자체는 RouteLookupService 풀에서 실행되므로 여기서는 단일 스레드로 순차 처리
+        this.executor = new ThreadPoolExecutor(
+                1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "remaining-eta-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public Optional<RemainingEta> find(Long shipmentId) {
+        return Optional.ofNullable(etas.getIfPresent(shipmentId));
+    }
+
+    /**
+     * 새 위치가 수신되면 갱신 조건을 만족할 때만 백그라운드 재계산을 예약합니다.
+     */
+    public void onLocationUpdate(Long shipmentId, double lat, double lng) {
+        if (isFresh(etas.getIfPresent(shipmentId), lat, lng, LocalDateTime.now())) {
+            return;
+        }
+        scheduleRefresh(shipmentId, lat, lng);
+    }
+
+    /**
+     * 상세 조회용 남은 경로 ETA.
+     * 보관된 ETA가 있으면 오래되었더라도 그대로 반환하고(응답에 경과 시간 표시), 갱신 조건을 만족하면 백그라운드 갱신만 예약합니다.
+     * 보관된 ETA가 없을 때만 직접 계산하며, 트랜잭션 안이면 길찾기 대신 로컬 추정값을 반환하고 길찾기는 백그라운드로 넘깁니다.
+     */
+    public Optional<RemainingEta> getOrCompute(Shipment shipment, Point currentPoint) {
+        if (currentPoint == null || shipment.getDropoffPoint() == null) {
+            return Optional.empty();
+        }
+        Long shipmentId = shipment.getShipmentId();
+        double lat = currentPoint.getY();
+        double lng = currentPoint.getX();
+        boolean active = isActive(shipment);
+
+        RemainingEta cached = etas.getIfPresent(shipmentId);
+        if (cached != null) {
+            // 정차 중이거나 완료된 건은 위치가 더 들어오지 않으므로 조회 시점에 갱신을 예약 (진행 중 건만)
+            if (active && !isFresh(cached, lat, lng, LocalDateTime.now())) {
+                scheduleRefresh(shipmentId, lat, lng);
+            }
+            return Optional.of(cached);
+        }
+
+        if (!active || TransactionSynchronizationManager.isActualTransactionActive()) {
+            RemainingEta estimate = store(shipmentId, distanceEstimator.estimate(
+                    pointAt(shipment, lat, lng), shipment.getDropoffPoint(), waypointsOf(shipment)), lat, lng);
+            if (active) {
+                scheduleRefresh(shipmentId, lat, lng);
+            }
+            return Optional.of(estimate);
+        }
+        return Optional.of(compute(shipment, lat, lng));
+    }
+
+    public void evict(Long shipmentId) {
+        etas.invalidate(shipmentId);
+    }
+
+    private void scheduleRefresh(Long shipmentId, double lat, double lng) {
+        if (!inFlight.add(shipmentId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    shipmentRepository.findById(shipmentId)
+                            .ifPresent(shipment -> compute(shipment, lat, lng));
+                } catch (RuntimeException e) {
+                    log.warn("남은 경로 ETA 백그라운드 계산 실패. shipmentId={}, 원인: {}", shipmentId, e.getMessage());
+                } finally {
+                    inFlight.remove(shipmentId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(shipmentId);
+            log.warn("남은 경로 ETA 계산 대기열이 가득 차 이번 갱신을 건너뜁니다. shipmentId={}", shipmentId);
+        }
+    }
+
+    private RemainingEta compute(Shipment shipment, double lat, double lng) {
+        RouteSummary summary = routeLookupService.lookup(
+                pointAt(shipment, lat, lng), shipment.getDropoffPoint(), waypointsOf(shipment));
+        return store(shipment.getShipmentId(), summary, lat, lng);
+    }
+
+    private RemainingEta store(Long shipmentId, RouteSummary summary, double lat, double lng) {
+        LocalDateTime now = LocalDateTime.now();
+        RemainingEta eta = new RemainingEta(
+                summary.distanceKm(),
+                now.plusSeconds(summary.durationSeconds()),
+                now,
+                lat,
+                lng,
+                summary.estimated()
+        );
+        etas.put(shipmentId, eta);
+        log.debug("남은 경로 ETA 갱신. shipmentId={}, 거리 {}km, 소요 {}초, 추정 여부 {}",
+                shipmentId, summary.distanceKm(), summary.durationSeconds(), summary.estimated());
+        return eta;
+    }
+
+    private Point pointAt(Shipment shipment, double lat, double lng) {
+        return shipment.getDropoffPoint().getFactory().createPoint(new Coordinate(lng, lat));
+    }
+
+    private List<Point> waypointsOf(Shipment shipment) {
+        List<Point> waypoints = new ArrayList<>(2);
+        if (shipment.getWaypoint1Point() != null) {
+            waypoints.add(shipment.getWaypoint1Point());
+        }
+        if (shipment.getWaypoint2Point() != null) {
+            waypoints.add(shipment.getWaypoint2Point());
+        }
+        return waypoints;
+    }
+
+    // 완료/취소된 건은 남은 경로가 더 바뀌지 않으므로 길찾기로 갱신하지 않음
+    private boolean isActive(Shipment shipment) {
+        return shipment.getShipmentStatus() != ShipmentStatus.DONE
+                && shipment.getShipmentStatus() != ShipmentStatus.CANCELED;
+    }
+
+    boolean isFresh(RemainingEta eta, double lat, double lng, LocalDateTime now) {
+        if (eta == null) {
+            return false;
+        }
+        Duration maxAge = eta.estimated() ? estimatedRetryInterval : minInterval;
+        if (!eta.computedAt().plus(maxAge).isAfter(now)) {
+            return false;
+        }
+        double movedMeters = GeoDistance.haversineKm(eta.originLat(), eta.originLng(), lat, lng) * 1000.0;
+        return movedMeters < minDistanceMeters;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
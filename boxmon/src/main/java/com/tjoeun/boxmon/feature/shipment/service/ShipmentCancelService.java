@@ -3,7 +3,9 @@ package com.tjoeun.boxmon.feature.shipment.service;
 import com.tjoeun.boxmon.exception.RoleAccessDeniedException;
 import com.tjoeun.boxmon.exception.ShipmentNotFoundException;
 import com.tjoeun.boxmon.exception.ShipmentStateConflictException;
+import com.tjoeun.boxmon.feature.location.service.LiveLocationRegistry;
 import com.tjoeun.boxmon.feature.notification.service.NotificationUseCase;
+import com.tjoeun.boxmon.feature.notification.service.ShipmentNotificationSnapshot;
 import com.tjoeun.boxmon.feature.payment.service.PaymentCancelUseCase;
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
@@ -28,6 +30,8 @@ public class ShipmentCancelService {
     private final ShipmentRepository shipmentRepository;
     private final NotificationUseCase notificationUseCase;
     private final PaymentCancelUseCase paymentCancelUseCase;
+    private final ShipmentParticipantsCache participantsCache;
+    private final LiveLocationRegistry liveLocationRegistry;
 
     /**
      * 배송 취소를 요청합니다.
@@ -81,7 +85,7 @@ public class ShipmentCancelService {
             shipmentRepository.save(shipment);
             if (shipment.getDriver() != null) {
                 try {
-                    notificationUseCase.notifyAssignmentCancellationRequested(shipmentId, userId);
+                    notificationUseCase.notifyAssignmentCancellationRequested(ShipmentNotificationSnapshot.of(shipment), userId);
                 } catch (Exception e) {
                     log.warn("취소 요청은 성공했지만 알림 전송은 건너뜁니다. shipmentId={}", shipmentId, e);
                 }
@@ -181,6 +185,8 @@ public class ShipmentCancelService {
         shipment.setShipmentStatus(ShipmentStatus.CANCELED);
         shipment.setShipperCancelToggle(false);
         shipment.setDriverCancelToggle(false);
+        participantsCache.evictAfterCommit(shipment.getShipmentId());
+        liveLocationRegistry.removeAfterCommit(shipment.getShipmentId());
     }
 
     private void cancelPaymentOnMutualCancellation(Long shipmentId) {
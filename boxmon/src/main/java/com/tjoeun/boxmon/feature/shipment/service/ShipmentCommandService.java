@@ -4,7 +4,9 @@ import com.tjoeun.boxmon.exception.RoleAccessDeniedException;
 import com.tjoeun.boxmon.exception.ShipmentNotFoundException;
 import com.tjoeun.boxmon.exception.ShipmentStateConflictException;
 import com.tjoeun.boxmon.exception.UserNotFoundException;
+import com.tjoeun.boxmon.feature.location.service.LiveLocationRegistry;
 import com.tjoeun.boxmon.feature.notification.service.NotificationUseCase;
+import com.tjoeun.boxmon.feature.notification.service.ShipmentNotificationSnapshot;
 import com.tjoeun.boxmon.feature.settlement.service.SettlementNotifier;
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
@@ -15,14 +17,15 @@ import com.tjoeun.boxmon.feature.user.domain.Driver;
 import com.tjoeun.boxmon.feature.user.domain.Shipper;
 import com.tjoeun.boxmon.feature.user.repository.DriverRepository;
 import com.tjoeun.boxmon.feature.user.repository.ShipperRepository;
-import com.tjoeun.boxmon.global.naver.api.NaverDirectionsApiClient;
-import com.tjoeun.boxmon.global.naver.dto.NaverDirectionsResponse;
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
+import com.tjoeun.boxmon.global.naver.service.RouteLookupService;
 import com.tjoeun.boxmon.global.systemsetting.service.SystemSettingService;
 import com.tjoeun.boxmon.global.storage.ObjectStorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Point;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -31,7 +34,6 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -48,11 +50,13 @@ public class ShipmentCommandService {
     private final DriverRepository driverRepository;
     private final SystemSettingService systemSettingService;
     private final NotificationUseCase notificationUseCase;
-    private final NaverDirectionsApiClient naverDirectionsApiClient;
+    private final RouteLookupService routeLookupService;
     private final ObjectStorageService objectStorageService;
     private final ShipmentDomainSupport support;
     private final ShipmentCreateMapper shipmentCreateMapper;
     private final SettlementNotifier settlementNotifier;
+    private final ShipmentParticipantsCache participantsCache;
+    private final LiveLocationRegistry liveLocationRegistry;
 
     /**
      * 새로운 운송 요청(화물)을 생성합니다.
@@ -63,6 +67,8 @@ public class ShipmentCommandService {
      * @param cargoPhoto 화물 사진 파일(선택)
      * @return 생성된 화물 ID
      */
+    // 경로 조회/이미지 업로드 등 외부 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행 (저장은 repository 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long createShipment(Long shipperId, ShipmentCreateRequest request, MultipartFile cargoPhoto) {
         Shipper shipper = shipperRepository.findById(shipperId)
                 .orElseThrow(() -> new UserNotFoundException("화주를 찾을 수 없습니다."));
@@ -72,9 +78,10 @@ public class ShipmentCommandService {
         Point waypoint1Point = support.convertToJtsPoint(request.getWaypoint1Point());
         Point waypoint2Point = support.convertToJtsPoint(request.getWaypoint2Point());
 
-        // Naver Directions API를 통해 예상 거리(km)를 계산합니다.
-        Double estimatedDistance = calculateDistance(pickupPoint, dropoffPoint,
-                Optional.ofNullable(waypoint1Point), Optional.ofNullable(waypoint2Point));
+        // Naver Directions API로 경로 요약(거리/소요 시간/통행료)을 계산해 함께 저장합니다.
+        // 상세 조회는 이 값을 재사용하므로 배차 전 화면에서 API를 다시 호출하지 않습니다.
+        // 길찾기 실패 시에는 직선거리 기반 추정 거리로 대체됩니다.
+        RouteSummary routeSummary = calculateRoute(pickupPoint, dropoffPoint, waypoint1Point, waypoint2Point);
 
         String uploadedCargoPhotoKey = null;
         String cargoPhotoUrl = null;
@@ -90,8 +97,13 @@ public class ShipmentCommandService {
         BigDecimal profit = price.subtract(platformFee).setScale(0, RoundingMode.HALF_UP);
 
         Shipment shipment = shipmentCreateMapper.toShipment(
-                shipper, request, pickupPoint, dropoffPoint, waypoint1Point, waypoint2Point, estimatedDistance, price, platformFee, profit, cargoPhotoUrl, support.normalizeCompanyName(request.getCompanyName())
+                shipper, request, pickupPoint, dropoffPoint, waypoint1Point, waypoint2Point, routeSummary, price, platformFee, profit, cargoPhotoUrl, support.normalizeCompanyName(request.getCompanyName())
         );
+        if (routeSummary != null && routeSummary.estimated()) {
+            // 추정 소요 시간은 저장하지 않아 상세 조회 시 실제 길찾기로 ETA를 다시 계산하게 합니다.
+            shipment.setEstimatedDurationSeconds(null);
+            shipment.setTollFare(null);
+        }
 
         try {
             Shipment savedShipment = shipmentRepository.save(shipment);
@@ -129,10 +141,11 @@ public class ShipmentCommandService {
         shipment.setAcceptedAt(LocalDateTime.now());
         shipment.setShipmentStatus(ShipmentStatus.ASSIGNED);
         shipmentRepository.save(shipment);
+        participantsCache.evictAfterCommit(shipmentId);
 
         try {
             // 핵심 트랜잭션(배차 수락)은 유지하고 알림 실패는 경고 로그로만 처리
-            notificationUseCase.notifyAssignmentCompleted(shipmentId);
+            notificationUseCase.notifyAssignmentCompleted(ShipmentNotificationSnapshot.of(shipment));
         } catch (Exception e) {
             log.warn("배차 수락은 성공했지만 알림 전송은 건너뜁니다. shipmentId={}", shipmentId, e);
         }
@@ -165,10 +178,11 @@ public class ShipmentCommandService {
         shipment.setPickupAt(LocalDateTime.now());
         shipment.setShipmentStatus(ShipmentStatus.IN_TRANSIT);
         shipmentRepository.save(shipment);
+        participantsCache.evictAfterCommit(shipmentId);
 
         try {
             // 핵심 트랜잭션(운송 시작)은 유지하고 알림 실패는 경고 로그로만 처리
-            notificationUseCase.notifyTransportStarted(shipmentId);
+            notificationUseCase.notifyTransportStarted(ShipmentNotificationSnapshot.of(shipment));
         } catch (Exception e) {
             log.warn("운송 시작은 성공했지만 알림 전송은 건너뜁니다. shipmentId={}", shipmentId, e);
         }
@@ -233,48 +247,38 @@ public class ShipmentCommandService {
             }
             throw e;
         }
+        participantsCache.evictAfterCommit(shipmentId);
+        liveLocationRegistry.removeAfterCommit(shipmentId);
 
         try {
             // 핵심 트랜잭션(운송 완료)은 유지하고 알림 실패는 경고 로그로만 처리
-            notificationUseCase.notifyTransportCompleted(shipmentId);
+            notificationUseCase.notifyTransportCompleted(ShipmentNotificationSnapshot.of(shipment));
         } catch (Exception e) {
             log.warn("운송 완료는 성공했지만 알림 전송은 건너뜁니다. shipmentId={}", shipmentId, e);
         }
     }
 
     /**
-     * Naver Directions API를 이용해 예상 거리(km)를 계산합니다.
+     * Naver Directions API를 이용해 경로 요약(거리/소요 시간/통행료)을 계산합니다.
+     * 호출 실패 시 null을 반환하며, 화물 등록 자체는 계속 진행합니다.
      */
-    private Double calculateDistance(Point startPoint, Point goalPoint, Optional<Point> waypoint1, Optional<Point> waypoint2) {
+    private RouteSummary calculateRoute(Point startPoint, Point goalPoint, Point waypoint1Point, Point waypoint2Point) {
         if (startPoint == null || goalPoint == null) {
-            log.warn("출발지 또는 목적지 좌표가 없어 거리 계산을 스킵합니다.");
+            log.warn("출발지 또는 목적지 좌표가 없어 경로 계산을 스킵합니다.");
             return null;
         }
 
-        String start = startPoint.getX() + "," + startPoint.getY();
-        String goal = goalPoint.getX() + "," + goalPoint.getY();
-
-        List<String> waypoints = new ArrayList<>();
-        waypoint1.ifPresent(p -> waypoints.add(p.getX() + "," + p.getY()));
-        waypoint2.ifPresent(p -> waypoints.add(p.getX() + "," + p.getY()));
-
-        log.info("Naver Directions API 호출 (거리 계산) - 출발지: {}, 목적지: {}, 경유지: {}", start, goal, waypoints);
-        Optional<NaverDirectionsResponse> directionsResponseOptional = naverDirectionsApiClient.getDirections(start, goal, waypoints);
+        List<Point> waypoints = new ArrayList<>();
+        if (waypoint1Point != null) {
+            waypoints.add(waypoint1Point);
+        }
+        if (waypoint2Point != null) {
+            waypoints.add(waypoint2Point);
+        }
 
-        return directionsResponseOptional.map(response -> {
-            if (response.getRoute() != null && response.getRoute().getTrafast() != null && !response.getRoute().getTrafast().isEmpty()) {
-                NaverDirectionsResponse.Summary summary = response.getRoute().getTrafast().get(0).getSummary();
-                if (summary != null) {
-                    double distanceInKm = summary.getDistance() / 1000.0;
-                    log.info("거리 계산 완료: {} km", distanceInKm);
-                    return distanceInKm;
-                }
-            }
-            log.warn("Naver Directions API 응답에서 경로 또는 요약 정보를 찾을 수 없습니다.");
-            return null;
-        }).orElseGet(() -> {
-            log.error("Naver Directions API 호출 실패 또는 응답 없음.");
-            return null;
-        });
+        RouteSummary routeSummary = routeLookupService.lookup(startPoint, goalPoint, waypoints);
+        log.info("경로 계산 완료: {} km, {}초, 통행료 {}, 추정값 여부 {}",
+                routeSummary.distanceKm(), routeSummary.durationSeconds(), routeSummary.tollFare(), routeSummary.estimated());
+        return routeSummary;
     }
 }
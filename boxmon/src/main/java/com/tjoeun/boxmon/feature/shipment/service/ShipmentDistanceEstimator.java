@@ -0,0 +1,139 @@
+package com.tjoeun.boxmon.feature.shipment.service;
+
+import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.RouteDistanceSampleProjection;
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
+import com.tjoeun.boxmon.global.naver.service.RouteFallbackEstimator;
+import com.tjoeun.boxmon.global.util.GeoDistance;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 외부 API 없이 경로 거리를 추정하는 로컬 거리 엔진.
+ * 대원(haversine) 거리 × 도로 우회 계수로 계산하며,
+ * 우회 계수는 SHIPMENT에 저장된 길찾기 거리/직선 거리 비율의 중앙값으로 주기적으로 보정합니다.
+ * 길찾기 실패 시 {@link com.tjoeun.boxmon.global.naver.service.RouteLookupService}의 대체 추정에도 사용됩니다.
+ */
+@Slf4j
+@Component
+public class ShipmentDistanceEstimator implements RouteFallbackEstimator {
+    private static final double MIN_SAMPLE_STRAIGHT_KM = 1.0; // 너무 짧은 구간은 비율 편차가 커서 제외
+    private static final double MIN_ROAD_FACTOR = 1.0;
+    private static final double MAX_ROAD_FACTOR = 3.0;
+
+    private final ShipmentRepository shipmentRepository;
+    private final int minSamples;
+    private final int sampleLimit;
+    private final double averageSpeedKmh;
+    private final boolean priceGuideFastPath;
+
+    private volatile double roadFactor;
+
+    public ShipmentDistanceEstimator(
+            ShipmentRepository shipmentRepository,
+            @Value("${shipment.distance-estimator.default-road-factor:1.3}") double defaultRoadFactor,
+            @Value("${shipment.distance-estimator.min-samples:30}") int minSamples,
+            @Value("${shipment.distance-estimator.sample-limit:5000}") int sampleLimit,
+            @Value("${shipment.distance-estimator.average-speed-kmh:60}") double averageSpeedKmh,
+            @Value("${shipment.distance-estimator.price-guide-fast-path:false}") boolean priceGuideFastPath) {
+        this.shipmentRepository = shipmentRepository;
+        this.roadFactor = defaultRoadFactor;
+        this.minSamples = minSamples;
+        this.sampleLimit = sampleLimit;
+        this.averageSpeedKmh = averageSpeedKmh;
+        this.priceGuideFastPath = priceGuideFastPath;
+    }
+
+    /**
+     * 출발지 → 경유지 → 도착지 순서의 도로 거리/소요 시간을 추정합니다.
+     *
+     * @return estimated=true인 경로 요약 (통행료 없음)
+     */
+    @Override
+    public RouteSummary estimate(Point start, Point goal, List<Point> waypoints) {
+        if (start == null || goal == null) {
+            throw new IllegalArgumentException("출발지와 도착지 좌표는 필수입니다.");
+        }
+        List<Point> path = new ArrayList<>();
+        path.add(start);
+        if (waypoints != null) {
+            waypoints.stream().filter(point -> point != null).forEach(path::add);
+        }
+        path.add(goal);
+
+        double distanceKm = GeoDistance.pathKm(path) * roadFactor;
+        return RouteSummary.estimate(distanceKm, estimateDurationSeconds(distanceKm));
+    }
+
+    /**
+     * 도로 거리로 평균 속도 기준 소요 시간(초)을 추정합니다.
+     */
+    public long estimateDurationSeconds(double distanceKm) {
+        return Math.round(distanceKm / averageSpeedKmh * 3600);
+    }
+
+    /**
+     * 운임 가이드에서 길찾기 API를 생략하고 로컬 추정만 사용할지 여부.
+     */
+    public boolean usePriceGuideFastPath() {
+        return priceGuideFastPath;
+    }
+
+    public double getRoadFactor() {
+        return roadFactor;
+    }
+
+    /**
+     * 최근 길찾기 결과로 도로 우회 계수를 재보정합니다.
+     * 기동 직후 1회, 이후 매일 새벽에 실행하며 표본이 부족하면 기존 값을 유지합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${shipment.distance-estimator.calibration-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void calibrate() {
+        try {
+            List<RouteDistanceSampleProjection> samples = shipmentRepository.findRecentRouteDistanceSamples(sampleLimit);
+            Double calibrated = calibrateRoadFactor(samples, minSamples);
+            if (calibrated == null) {
+                log.info("도로 우회 계수 보정 표본 부족으로 기존 값 유지: factor={}, samples={}", roadFactor, samples.size());
+                return;
+            }
+            log.info("도로 우회 계수 보정 완료: {} -> {} (samples={})", roadFactor, calibrated, samples.size());
+            roadFactor = calibrated;
+        } catch (RuntimeException e) {
+            // 보정 실패는 서비스에 영향이 없도록 로그만 남기고 기존 계수를 유지
+            log.warn("도로 우회 계수 보정에 실패했습니다. 기존 값 유지: factor={}", roadFactor, e);
+        }
+    }
+
+    /**
+     * 표본의 (길찾기 거리 / 직선 거리) 비율 중앙값을 계산합니다.
+     * 평균 대신 중앙값을 사용해 페리·우회 구간 같은 이상치 영향을 줄입니다.
+     *
+     * @return 보정된 계수, 유효 표본이 minSamples 미만이면 null
+     */
+    static Double calibrateRoadFactor(List<RouteDistanceSampleProjection> samples, int minSamples) {
+        double[] ratios = samples.stream()
+                .filter(sample -> sample.getRouteKm() != null && sample.getStraightMeters() != null)
+                .filter(sample -> sample.getStraightMeters() / 1000.0 >= MIN_SAMPLE_STRAIGHT_KM)
+                .mapToDouble(sample -> sample.getRouteKm() / (sample.getStraightMeters() / 1000.0))
+                .filter(ratio -> ratio >= MIN_ROAD_FACTOR && ratio <= MAX_ROAD_FACTOR)
+                .sorted()
+                .toArray();
+
+        if (ratios.length == 0 || ratios.length < minSamples) {
+            return null;
+        }
+        int middle = ratios.length / 2;
+        return ratios.length % 2 == 1
+                ? ratios[middle]
+                : (ratios[middle - 1] + ratios[middle]) / 2.0;
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.stereotype.Component;
  * 권한 검증, 연월 파라미터 검증, 좌표 변환, 회사명 정규화를 제공합니다.
  */
 public class ShipmentDomainSupport {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final ShipperRepository shipperRepository;
     private final DriverRepository driverRepository;
@@ -55,6 +57,19 @@ public class ShipmentDomainSupport {
         }
     }
 
+    /**
+     * 목록 조회 페이지 크기 보정: 미입력 시 기본값, 상한 초과 시 상한값.
+     */
+    public int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be a positive integer.");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
     /**
      * Spring Point -> JTS Point 변환 (DB 저장용).
      */
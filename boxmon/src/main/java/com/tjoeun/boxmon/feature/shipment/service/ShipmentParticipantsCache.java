@@ -0,0 +1,79 @@
+package com.tjoeun.boxmon.feature.shipment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.ShipmentParticipants;
+import com.tjoeun.boxmon.global.util.CacheEvictions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 배송별 참여자(화주/차주)와 상태 캐시.
+ * 채팅 전송/위치 구독처럼 같은 배송에 반복해서 들어오는 권한 검증이 매번 DB를 조회하지 않도록 합니다.
+ * 배차 수락, 상태 전이, 취소 확정처럼 참여자나 상태가 바뀌는 곳에서는 반드시 {@link #evictAfterCommit(Long)}을 호출해야 합니다.
+ * <p>
+ * 무효화는 변경을 처리한 인스턴스의 캐시에만 적용됩니다. 여러 인스턴스로 운영하면(chat.broker.mode=relay)
+ * 다른 인스턴스는 TTL이 끝날 때까지 이전 값을 보므로, TTL은 호출 누락 때만이 아니라 모든 변경이 전파되는 데 걸리는 시간의 상한입니다.
+ * 그래서 relay 모드에서는 짧은 TTL(relay-ttl)을 쓰고, 캐시 값으로 접근을 거부하게 되는 경우에는 호출 측에서 {@link #reload(Long)}로 다시 확인합니다.
+ */
+@Component
+public class ShipmentParticipantsCache {
+
+    private final ShipmentRepository shipmentRepository;
+    private final Cache<Long, ShipmentParticipants> participants;
+
+    public ShipmentParticipantsCache(
+            ShipmentRepository shipmentRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chat.broker.mode:simple}") String brokerMode,
+            @Value("${shipment.participants-cache.ttl:PT10M}") Duration ttl,
+            @Value("${shipment.participants-cache.relay-ttl:PT30S}") Duration relayTtl,
+            @Value("${shipment.participants-cache.maximum-size:10000}") long maximumSize) {
+        this.shipmentRepository = shipmentRepository;
+        this.participants = Caffeine.newBuilder()
+                .expireAfterWrite("relay".equalsIgnoreCase(brokerMode) ? relayTtl : ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, participants, "shipmentParticipants");
+    }
+
+    /**
+     * 캐시에 없으면 식별자 프로젝션으로 조회해 적재합니다. 존재하지 않는 배송은 캐시하지 않습니다.
+     */
+    public Optional<ShipmentParticipants> find(Long shipmentId) {
+        ShipmentParticipants cached = participants.getIfPresent(shipmentId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<ShipmentParticipants> loaded = shipmentRepository.findParticipantsById(shipmentId);
+        loaded.ifPresent(value -> participants.put(shipmentId, value));
+        return loaded;
+    }
+
+    /**
+     * 캐시를 거치지 않고 DB에서 다시 읽어 캐시를 교체합니다. 캐시 값으로는 접근이 거부될 때 최신 값으로 재확인하는 용도입니다.
+     */
+    public Optional<ShipmentParticipants> reload(Long shipmentId) {
+        Optional<ShipmentParticipants> loaded = shipmentRepository.findParticipantsById(shipmentId);
+        loaded.ifPresentOrElse(value -> participants.put(shipmentId, value), () -> evict(shipmentId));
+        return loaded;
+    }
+
+    public void evict(Long shipmentId) {
+        participants.invalidate(shipmentId);
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안이라면 커밋/롤백 이후에도 한 번 더 무효화합니다.
+     */
+    public void evictAfterCommit(Long shipmentId) {
+        CacheEvictions.evictNowAndAfterCompletion(() -> evict(shipmentId));
+    }
+}
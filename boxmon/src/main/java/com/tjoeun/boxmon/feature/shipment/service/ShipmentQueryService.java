@@ -1,13 +1,17 @@
 package com.tjoeun.boxmon.feature.shipment.service;
 
-import com.tjoeun.boxmon.exception.ExternalServiceException;
 import com.tjoeun.boxmon.exception.ShipmentNotFoundException;
+import com.tjoeun.boxmon.feature.location.service.LiveLocationRegistry;
+import com.tjoeun.boxmon.feature.location.service.LivePosition;
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
 import com.tjoeun.boxmon.feature.shipment.dto.DriverInventoryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.DriverTodaySummaryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.MyUnassignedShipmentResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.NearbyShipmentResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.NearbyShipmentSearchRequest;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentDetailResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.ShipmentListCursor;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentPriceGuideRequest;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentPriceGuideResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipperInventoryResponse;
@@ -16,13 +20,18 @@ import com.tjoeun.boxmon.feature.shipment.dto.ShipperTodaySummaryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.UnassignedShipmentResponse;
 import com.tjoeun.boxmon.feature.shipment.mapper.ShipmentMapper;
 import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
-import com.tjoeun.boxmon.global.naver.api.NaverDirectionsApiClient;
-import com.tjoeun.boxmon.global.naver.dto.NaverDirectionsResponse;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.NearbyShipmentProjection;
+import com.tjoeun.boxmon.global.dto.CursorPageResponse;
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
+import com.tjoeun.boxmon.global.naver.service.RouteLookupService;
 import com.tjoeun.boxmon.global.util.AddressProcessor;
+import com.tjoeun.boxmon.global.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Point;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -34,9 +43,9 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Slf4j
@@ -59,12 +68,24 @@ public class ShipmentQueryService {
     private static final int MID_PRICE_PER_KM = 1200;
     private static final int LONG_PRICE_PER_KM = 1000;
     private static final int EXTRA_LONG_PRICE_PER_KM = 850;
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 30.0;
+    private static final double MAX_NEARBY_RADIUS_KM = 200.0;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
 
     private final ShipmentRepository shipmentRepository;
-    private final NaverDirectionsApiClient naverDirectionsApiClient;
+    private final RouteLookupService routeLookupService;
+    private final ShipmentDistanceEstimator distanceEstimator;
     private final ShipmentDomainSupport support;
     private final ShipmentMapper shipmentMapper;
+    private final LiveLocationRegistry liveLocationRegistry;
+    private final RemainingEtaService remainingEtaService;
 
+    /**
+     * 운임 가이드를 계산합니다.
+     * 외부 경로 조회가 포함되므로 트랜잭션(DB 커넥션)을 잡지 않은 채 실행하며,
+     * 길찾기 실패(또는 fast path 설정) 시 로컬 거리 엔진의 추정 거리로 대체하고 approximate=true로 응답합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ShipmentPriceGuideResponse getShipmentPriceGuide(Long shipperId, ShipmentPriceGuideRequest request) {
         support.validateShipperAccess(shipperId);
 
@@ -73,12 +94,28 @@ public class ShipmentQueryService {
         Point waypoint1Point = support.convertToJtsPoint(request.getWaypoint1Point());
         Point waypoint2Point = support.convertToJtsPoint(request.getWaypoint2Point());
 
-        Double distanceKm = calculateDistance(pickupPoint, dropoffPoint, waypoint1Point, waypoint2Point)
-                .orElseThrow(() -> new ExternalServiceException("운임 가이드 거리 계산에 실패했습니다."));
+        List<Point> waypoints = new ArrayList<>();
+        if (waypoint1Point != null) {
+            waypoints.add(waypoint1Point);
+        }
+        if (waypoint2Point != null) {
+            waypoints.add(waypoint2Point);
+        }
+
+        // 운임 가이드는 참고용 값이므로 설정 시 외부 호출 없이 로컬 추정 거리만 사용합니다.
+        // 길찾기 실패로 추정값이 돌아온 경우에도 보정된 우회 계수 기반 추정으로 대체합니다.
+        RouteSummary routeSummary = distanceEstimator.usePriceGuideFastPath()
+                ? null
+                : routeLookupService.lookup(pickupPoint, dropoffPoint, waypoints);
+        if (routeSummary == null || routeSummary.estimated()) {
+            routeSummary = distanceEstimator.estimate(pickupPoint, dropoffPoint, waypoints);
+        }
+        double distanceKm = routeSummary.distanceKm();
 
         return ShipmentPriceGuideResponse.builder()
                 .estimatedDistanceKm(roundDistance(distanceKm))
                 .recommendedPrice(calculateRecommendedPrice(distanceKm))
+                .approximate(routeSummary.estimated())
                 .build();
     }
 
@@ -86,7 +123,7 @@ public class ShipmentQueryService {
      * 배차 수락 화면용 상세 조회 (사진 URL 포함).
      */
     public ShipmentDetailResponse getShipmentAcceptDetail(Long shipmentId) {
-        Shipment shipment = shipmentRepository.findById(shipmentId)
+        Shipment shipment = shipmentRepository.findDetailById(shipmentId)
                 .orElseThrow(() -> new ShipmentNotFoundException("운송건을 찾을 수 없습니다."));
 
         ShipmentDetailResponse response = shipmentMapper.toDetailResponse(shipment, true, true);
@@ -96,18 +133,32 @@ public class ShipmentQueryService {
 
     /**
      * 상세 조회 시 차주 위치 유무에 따라 ETA 계산 분기를 처리합니다.
+     * 현재 위치는 실시간 위치 저장소를 우선 사용하고, 없으면 SHIPMENT에 반영된 마지막 위치를 사용합니다.
      * - 차주 현재 위치 존재: 남은 경로 ETA
      * - 그 외: 전체 경로 ETA
      */
     public ShipmentDetailResponse getShipmentDetail(Long shipmentId) {
-        Shipment shipment = shipmentRepository.findById(shipmentId)
+        Shipment shipment = shipmentRepository.findDetailById(shipmentId)
                 .orElseThrow(() -> new ShipmentNotFoundException("운송건을 찾을 수 없습니다."));
 
         ShipmentDetailResponse response = shipmentMapper.toDetailResponse(shipment, true, true);
 
-        if (shipment.getDriver() != null && shipment.getCurrentLocationPoint() != null) {
+        Point currentPoint = shipment.getCurrentLocationPoint();
+        if (shipment.getDriver() != null) {
+            Optional<LivePosition> livePosition = liveLocationRegistry.find(shipmentId);
+            if (livePosition.isPresent()) {
+                LivePosition position = livePosition.get();
+                response.setCurrentDriverPoint(position.toSpringPoint());
+                response.setCurrentLocationAt(position.recordedAt());
+                response.setCurrentHeading(position.headingDegrees());
+                response.setCurrentSpeedKmh(position.speedKmh());
+                currentPoint = support.convertToJtsPoint(position.toSpringPoint());
+            }
+        }
+
+        if (shipment.getDriver() != null && currentPoint != null) {
             log.info("차주 배차 및 위치 정보 확인. 현재 위치를 기준으로 남은 경로 ETA 계산을 시작합니다. (Shipment ID: {})", shipmentId);
-            calculateRemainingEtaAndDistance(shipment, response);
+            calculateRemainingEtaAndDistance(shipment, currentPoint, response);
         } else {
             log.info("차주 미배차 또는 위치 정보 없음. 희망 출발 시간을 기준으로 전체 경로 ETA 계산을 시작합니다. (Shipment ID: {})", shipmentId);
             calculateTotalEtaAndDistance(shipment, response);
@@ -118,53 +169,105 @@ public class ShipmentQueryService {
 
     /**
      * 전체 미배차(REQUESTED) 목록 조회.
+     * 최신 등록순 (createdAt, shipmentId) 커서로 페이지를 나눕니다.
+     */
+    public CursorPageResponse<UnassignedShipmentResponse> getUnassignedShipments(String cursor, Integer size) {
+        int pageSize = support.resolvePageSize(size);
+        ShipmentListCursor listCursor = ShipmentListCursor.from(cursor);
+
+        List<Shipment> shipments = shipmentRepository.findPageByShipmentStatus(
+                ShipmentStatus.REQUESTED, listCursor.createdAt(), listCursor.shipmentId(), PageRequest.ofSize(pageSize + 1));
+        return CursorPageResponse.of(shipments, pageSize, ShipmentListCursor::encode)
+                .map(shipmentMapper::toUnassignedShipmentResponse);
+    }
+
+    /**
+     * 차주 위치 기준 반경 내 미배차(REQUESTED) 목록 조회.
+     * 상차지까지의 직선 거리 오름차순으로 정렬하며, (거리, 배송 ID) 커서로 페이지를 나눕니다.
      */
-    public List<UnassignedShipmentResponse> getUnassignedShipments() {
-        List<Shipment> shipments = shipmentRepository.findByShipmentStatusOrderByCreatedAtDesc(ShipmentStatus.REQUESTED);
-        return shipments.stream()
-                .map(shipmentMapper::toUnassignedShipmentResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<NearbyShipmentResponse> getNearbyUnassignedShipments(Long driverId, NearbyShipmentSearchRequest request) {
+        support.validateDriverAccess(driverId);
+
+        int pageSize = support.resolvePageSize(request.getSize());
+        double radiusKm = resolveNearbyRadiusKm(request.getRadiusKm());
+        double lat = request.getLat();
+        double lng = request.getLng();
+
+        Double cursorDistance = null;
+        Long cursorId = null;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            String[] cursorParts = CursorCodec.decode(request.getCursor(), 2);
+            try {
+                cursorDistance = Double.valueOf(cursorParts[0]);
+                cursorId = Long.valueOf(cursorParts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다.", e);
+            }
+        }
+
+        List<NearbyShipmentProjection> rows = shipmentRepository.findNearbyRequestedShipments(
+                String.format(Locale.ROOT, "POINT(%.7f %.7f)", lng, lat),
+                buildBoundingBox(lat, lng, radiusKm),
+                radiusKm * 1000.0,
+                request.getVehicleType() == null ? null : request.getVehicleType().name(),
+                Boolean.TRUE.equals(request.getCanRefrigerate()),
+                Boolean.TRUE.equals(request.getCanFreeze()),
+                request.getMaxWeight(),
+                cursorDistance,
+                cursorId,
+                pageSize + 1
+        );
+
+        return CursorPageResponse.of(
+                rows, pageSize, row -> CursorCodec.encode(row.getDistanceMeters(), row.getShipmentId())
+        ).map(shipmentMapper::toNearbyShipmentResponse);
     }
 
     /**
      * 화주 본인이 등록한 미배차(REQUESTED) 목록 조회.
      */
-    public List<MyUnassignedShipmentResponse> getMyUnassignedShipments(Long shipperId) {
+    public CursorPageResponse<MyUnassignedShipmentResponse> getMyUnassignedShipments(Long shipperId, String cursor, Integer size) {
         support.validateShipperAccess(shipperId);
-        List<Shipment> shipments = shipmentRepository
-                .findByShipper_ShipperIdAndShipmentStatusOrderByCreatedAtDesc(shipperId, ShipmentStatus.REQUESTED);
+        int pageSize = support.resolvePageSize(size);
+        ShipmentListCursor listCursor = ShipmentListCursor.from(cursor);
+
+        List<Shipment> shipments = shipmentRepository.findPageByShipperAndShipmentStatus(
+                shipperId, ShipmentStatus.REQUESTED, listCursor.createdAt(), listCursor.shipmentId(), PageRequest.ofSize(pageSize + 1));
 
-        return shipments.stream()
-                .map(shipmentMapper::toMyUnassignedShipmentResponse)
-                .collect(Collectors.toList());
+        return CursorPageResponse.of(shipments, pageSize, ShipmentListCursor::encode)
+                .map(shipmentMapper::toMyUnassignedShipmentResponse);
     }
 
     /**
      * 화주 운송 현황 조회.
      * REQUESTED(미배차) 상태를 제외한 본인 등록 화물 목록을 조회합니다.
      */
-    public List<ShipperInventoryResponse> getMyShipperInventory(Long shipperId) {
+    public CursorPageResponse<ShipperInventoryResponse> getMyShipperInventory(Long shipperId, String cursor, Integer size) {
         support.validateShipperAccess(shipperId);
-        List<Shipment> shipments = shipmentRepository
-                .findByShipper_ShipperIdAndShipmentStatusNotOrderByCreatedAtDesc(shipperId, ShipmentStatus.REQUESTED);
+        int pageSize = support.resolvePageSize(size);
+        ShipmentListCursor listCursor = ShipmentListCursor.from(cursor);
 
-        return shipments.stream()
-                .map(shipmentMapper::toShipperInventoryResponse)
-                .collect(Collectors.toList());
+        List<Shipment> shipments = shipmentRepository.findPageByShipperAndShipmentStatusNot(
+                shipperId, ShipmentStatus.REQUESTED, listCursor.createdAt(), listCursor.shipmentId(), PageRequest.ofSize(pageSize + 1));
+
+        return CursorPageResponse.of(shipments, pageSize, ShipmentListCursor::encode)
+                .map(shipmentMapper::toShipperInventoryResponse);
     }
 
     /**
      * 차주 운송 현황 조회.
      * 본인에게 배차된 화물의 전체 상태 목록을 조회합니다.
      */
-    public List<DriverInventoryResponse> getMyDriverInventory(Long driverId) {
+    public CursorPageResponse<DriverInventoryResponse> getMyDriverInventory(Long driverId, String cursor, Integer size) {
         support.validateDriverAccess(driverId);
-        List<Shipment> shipments = shipmentRepository
-                .findByDriver_DriverIdOrderByCreatedAtDesc(driverId);
+        int pageSize = support.resolvePageSize(size);
+        ShipmentListCursor listCursor = ShipmentListCursor.from(cursor);
+
+        List<Shipment> shipments = shipmentRepository.findPageByDriver(
+                driverId, listCursor.createdAt(), listCursor.shipmentId(), PageRequest.ofSize(pageSize + 1));
 
-        return shipments.stream()
-                .map(shipmentMapper::toDriverInventoryResponse)
-                .collect(Collectors.toList());
+        return CursorPageResponse.of(shipments, pageSize, ShipmentListCursor::encode)
+                .map(shipmentMapper::toDriverInventoryResponse);
     }
 
     /**
@@ -297,61 +400,55 @@ public class ShipmentQueryService {
         return lastUpdatedAt.format(DateTimeFormatter.ofPattern("yyyy.MM.dd")) + " 업데이트";
     }
 
-    /**
-     * 희망 출발 시간을 기준으로 전체 경로 ETA/거리 계산.
-     */
-    private void calculateTotalEtaAndDistance(Shipment shipment, ShipmentDetailResponse response) {
-        String start = shipment.getPickupPoint().getX() + "," + shipment.getPickupPoint().getY();
-        String goal = shipment.getDropoffPoint().getX() + "," + shipment.getDropoffPoint().getY();
-        List<String> waypoints = new ArrayList<>();
-        if (shipment.getWaypoint1Point() != null) {
-            waypoints.add(shipment.getWaypoint1Point().getX() + "," + shipment.getWaypoint1Point().getY());
-        }
-        if (shipment.getWaypoint2Point() != null) {
-            waypoints.add(shipment.getWaypoint2Point().getX() + "," + shipment.getWaypoint2Point().getY());
+    private double resolveNearbyRadiusKm(Double radiusKm) {
+        if (radiusKm == null) {
+            return DEFAULT_NEARBY_RADIUS_KM;
         }
-
-        naverDirectionsApiClient.getDirections(start, goal, waypoints).ifPresent(directionsResponse -> {
-            if (directionsResponse.getRoute() != null && directionsResponse.getRoute().getTrafast() != null && !directionsResponse.getRoute().getTrafast().isEmpty()) {
-                NaverDirectionsResponse.Summary summary = directionsResponse.getRoute().getTrafast().get(0).getSummary();
-                if (summary != null) {
-                    double distanceInKm = summary.getDistance() / 1000.0;
-                    response.setDistanceToDestination(String.format("%.1f", distanceInKm));
-                    long durationSeconds = summary.getDuration() / 1000;
-                    response.setEstimatedArrivalTime(shipment.getPickupDesiredAt().plusSeconds(durationSeconds));
-                    log.info("전체 경로 ETA 계산 완료: 거리 {} km, 소요시간 {}초, 기준 시간 {}", String.format("%.1f", distanceInKm), durationSeconds, shipment.getPickupDesiredAt());
-                }
-            }
-        });
+        return Math.min(radiusKm, MAX_NEARBY_RADIUS_KM);
     }
 
-    private Optional<Double> calculateDistance(Point startPoint, Point goalPoint, Point waypoint1Point, Point waypoint2Point) {
-        if (startPoint == null || goalPoint == null) {
-            throw new IllegalArgumentException("출발지와 도착지 좌표는 필수입니다.");
-        }
-
-        String start = startPoint.getX() + "," + startPoint.getY();
-        String goal = goalPoint.getX() + "," + goalPoint.getY();
-        List<String> waypoints = new ArrayList<>();
-        if (waypoint1Point != null) {
-            waypoints.add(waypoint1Point.getX() + "," + waypoint1Point.getY());
-        }
-        if (waypoint2Point != null) {
-            waypoints.add(waypoint2Point.getX() + "," + waypoint2Point.getY());
-        }
-
-        return naverDirectionsApiClient.getDirections(start, goal, waypoints)
-                .map(this::extractDistanceKm);
+    /**
+     * 반경을 감싸는 경위도 사각형(WKT)을 만듭니다. 공간 인덱스 후보 축소용이므로 약간 넉넉해도 무방합니다.
+     */
+    private String buildBoundingBox(double lat, double lng, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LAT;
+        double lngDelta = radiusKm / (KM_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+        double minLat = Math.max(lat - latDelta, -90.0);
+        double maxLat = Math.min(lat + latDelta, 90.0);
+        double minLng = Math.max(lng - lngDelta, -180.0);
+        double maxLng = Math.min(lng + lngDelta, 180.0);
+
+        return String.format(Locale.ROOT,
+                "POLYGON((%1$.7f %2$.7f, %3$.7f %2$.7f, %3$.7f %4$.7f, %1$.7f %4$.7f, %1$.7f %2$.7f))",
+                minLng, minLat, maxLng, maxLat);
     }
 
-    private Double extractDistanceKm(NaverDirectionsResponse directionsResponse) {
-        if (directionsResponse.getRoute() == null
-                || directionsResponse.getRoute().getTrafast() == null
-                || directionsResponse.getRoute().getTrafast().isEmpty()
-                || directionsResponse.getRoute().getTrafast().get(0).getSummary() == null) {
-            throw new ExternalServiceException("길찾기 응답에 경로 정보가 없습니다.");
+    /**
+     * 희망 출발 시간을 기준으로 전체 경로 ETA/거리 계산.
+     * 등록 시점에 저장한 경로 요약을 사용하며, 외부 길찾기 API는 호출하지 않습니다.
+     * 소요 시간이 저장되지 않은 건(길찾기 실패 시 추정값으로 등록된 건, 기존 데이터)은
+     * 저장된 거리 또는 로컬 거리 엔진 추정 거리로 평균 속도 기준 ETA를 계산합니다.
+     */
+    private void calculateTotalEtaAndDistance(Shipment shipment, ShipmentDetailResponse response) {
+        double distanceKm;
+        long durationSeconds;
+        if (shipment.getEstimatedDistance() != null) {
+            distanceKm = shipment.getEstimatedDistance();
+            durationSeconds = shipment.getEstimatedDurationSeconds() != null
+                    ? shipment.getEstimatedDurationSeconds()
+                    : distanceEstimator.estimateDurationSeconds(distanceKm);
+        } else {
+            List<Point> waypoints = Stream.of(shipment.getWaypoint1Point(), shipment.getWaypoint2Point())
+                    .filter(Objects::nonNull)
+                    .toList();
+            RouteSummary estimate = distanceEstimator.estimate(shipment.getPickupPoint(), shipment.getDropoffPoint(), waypoints);
+            distanceKm = estimate.distanceKm();
+            durationSeconds = estimate.durationSeconds();
         }
-        return directionsResponse.getRoute().getTrafast().get(0).getSummary().getDistance() / 1000.0;
+
+        response.setDistanceToDestination(String.format("%.1f", distanceKm));
+        response.setEstimatedArrivalTime(shipment.getPickupDesiredAt().plusSeconds(durationSeconds));
     }
 
     private Double roundDistance(Double distanceKm) {
@@ -381,52 +478,21 @@ public class ShipmentQueryService {
     }
 
     /**
-     * 차주 현재 위치를 기준으로 남은 경로 ETA/거리 계산.
+     * 차주 현재 위치를 기준으로 남은 경로 ETA/거리를 채웁니다.
+     * 위치 수신 시 백그라운드에서 미리 계산해 둔 값을 계산 경과 시간과 함께 사용하며, 조회 중에는 길찾기 API를 호출하지 않습니다.
      */
-    private void calculateRemainingEtaAndDistance(Shipment shipment, ShipmentDetailResponse response) {
-        if (shipment.getCurrentLocationPoint() == null || shipment.getDropoffPoint() == null) {
+    private void calculateRemainingEtaAndDistance(Shipment shipment, Point currentPoint, ShipmentDetailResponse response) {
+        Optional<RemainingEta> remainingEta = remainingEtaService.getOrCompute(shipment, currentPoint);
+        if (remainingEta.isEmpty()) {
             log.warn("운송건 ID {}: 필수 좌표(현재위치 또는 목적지)가 누락되어 ETA를 계산할 수 없습니다.", shipment.getShipmentId());
             response.setDistanceToDestination(null);
             return;
         }
 
-        String start = shipment.getCurrentLocationPoint().getX() + "," + shipment.getCurrentLocationPoint().getY();
-        String goal = shipment.getDropoffPoint().getX() + "," + shipment.getDropoffPoint().getY();
-
-        List<String> waypoints = new ArrayList<>();
-        if (shipment.getWaypoint1Point() != null) {
-            waypoints.add(shipment.getWaypoint1Point().getX() + "," + shipment.getWaypoint1Point().getY());
-        }
-        if (shipment.getWaypoint2Point() != null) {
-            waypoints.add(shipment.getWaypoint2Point().getX() + "," + shipment.getWaypoint2Point().getY());
-        }
-
-        log.info("Naver Directions API 호출 (남은 경로) - 출발지: {}, 목적지: {}, 경유지: {}", start, goal, waypoints);
-
-        Optional<NaverDirectionsResponse> directionsResponseOptional = naverDirectionsApiClient.getDirections(start, goal, waypoints);
-
-        directionsResponseOptional.ifPresentOrElse(
-                directionsResponse -> {
-                    if (directionsResponse.getRoute() != null && directionsResponse.getRoute().getTrafast() != null && !directionsResponse.getRoute().getTrafast().isEmpty()) {
-                        NaverDirectionsResponse.Summary summary = directionsResponse.getRoute().getTrafast().get(0).getSummary();
-                        if (summary != null) {
-                            response.setDistanceToDestination(String.format("%.1f", summary.getDistance() / 1000.0));
-                            long durationSeconds = summary.getDuration() / 1000;
-                            response.setEstimatedArrivalTime(LocalDateTime.now().plusSeconds(durationSeconds));
-                            log.info("남은 경로 ETA 계산 완료: 거리 {}, 소요시간 {}초", response.getDistanceToDestination(), durationSeconds);
-                        } else {
-                            log.warn("Naver Directions API (남은 경로) Summary 정보가 없습니다. (Shipment ID: {})", shipment.getShipmentId());
-                            response.setDistanceToDestination(null);
-                        }
-                    } else {
-                        log.warn("Naver Directions API (남은 경로) 경로 정보가 없습니다. (Shipment ID: {})", shipment.getShipmentId());
-                        response.setDistanceToDestination(null);
-                    }
-                },
-                () -> {
-                    log.error("Naver Directions API (남은 경로) 호출 실패 또는 응답 없음. (Shipment ID: {})", shipment.getShipmentId());
-                    response.setDistanceToDestination(null);
-                }
-        );
+        RemainingEta eta = remainingEta.get();
+        response.setDistanceToDestination(String.format("%.1f", eta.distanceKm()));
+        response.setEstimatedArrivalTime(eta.arrivalAt());
+        response.setEtaComputedAt(eta.computedAt());
+        response.setEtaAgeSeconds(eta.ageSeconds(LocalDateTime.now()));
     }
 }
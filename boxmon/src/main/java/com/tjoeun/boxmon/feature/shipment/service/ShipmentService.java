@@ -3,6 +3,7 @@ package com.tjoeun.boxmon.feature.shipment.service;
 import com.tjoeun.boxmon.feature.settlement.domain.SettlementStatus;
 import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
 import com.tjoeun.boxmon.feature.shipment.dto.*;
+import com.tjoeun.boxmon.global.dto.CursorPageResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -92,13 +93,29 @@ public interface ShipmentService {
      */
     ShipmentDetailResponse getSettlementShipmentDetail(Long userId, Long shipmentId);
 
-    List<UnassignedShipmentResponse> getUnassignedShipments();
+    /**
+     * 전체 미배차 화물을 최신 등록순 커서 페이지로 조회합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (미입력 시 기본값, 상한 적용)
+     * @return 미배차 화물 커서 페이지
+     */
+    CursorPageResponse<UnassignedShipmentResponse> getUnassignedShipments(String cursor, Integer size);
+
+    /**
+     * 차주 위치 기준 반경 내 미배차 화물을 가까운 순으로 조회합니다.
+     *
+     * @param driverId 운송 기사 ID
+     * @param request 기준 좌표, 반경, 차량 조건 및 커서
+     * @return 거리순 커서 페이지
+     */
+    CursorPageResponse<NearbyShipmentResponse> getNearbyUnassignedShipments(Long driverId, NearbyShipmentSearchRequest request);
 
-    List<MyUnassignedShipmentResponse> getMyUnassignedShipments(Long shipperId);
+    CursorPageResponse<MyUnassignedShipmentResponse> getMyUnassignedShipments(Long shipperId, String cursor, Integer size);
 
-    List<ShipperInventoryResponse> getMyShipperInventory(Long shipperId);
+    CursorPageResponse<ShipperInventoryResponse> getMyShipperInventory(Long shipperId, String cursor, Integer size);
 
-    List<DriverInventoryResponse> getMyDriverInventory(Long driverId);
+    CursorPageResponse<DriverInventoryResponse> getMyDriverInventory(Long driverId, String cursor, Integer size);
 
     DriverTodaySummaryResponse getMyDriverTodaySummary(Long driverId);
 
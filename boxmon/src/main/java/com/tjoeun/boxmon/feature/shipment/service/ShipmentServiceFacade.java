@@ -7,6 +7,8 @@ import com.tjoeun.boxmon.feature.shipment.dto.DriverSettlementListResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.DriverSettlementSummaryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.DriverTodaySummaryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.MyUnassignedShipmentResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.NearbyShipmentResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.NearbyShipmentSearchRequest;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentCreateRequest;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentDetailResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentPriceGuideRequest;
@@ -17,6 +19,7 @@ import com.tjoeun.boxmon.feature.shipment.dto.ShipperSettlementListResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipperSettlementSummaryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipperTodaySummaryResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.UnassignedShipmentResponse;
+import com.tjoeun.boxmon.global.dto.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -95,23 +98,28 @@ public class ShipmentServiceFacade implements ShipmentService {
     }
 
     @Override
-    public List<UnassignedShipmentResponse> getUnassignedShipments() {
-        return shipmentQueryService.getUnassignedShipments();
+    public CursorPageResponse<UnassignedShipmentResponse> getUnassignedShipments(String cursor, Integer size) {
+        return shipmentQueryService.getUnassignedShipments(cursor, size);
     }
 
     @Override
-    public List<MyUnassignedShipmentResponse> getMyUnassignedShipments(Long shipperId) {
-        return shipmentQueryService.getMyUnassignedShipments(shipperId);
+    public CursorPageResponse<NearbyShipmentResponse> getNearbyUnassignedShipments(Long driverId, NearbyShipmentSearchRequest request) {
+        return shipmentQueryService.getNearbyUnassignedShipments(driverId, request);
     }
 
     @Override
-    public List<ShipperInventoryResponse> getMyShipperInventory(Long shipperId) {
-        return shipmentQueryService.getMyShipperInventory(shipperId);
+    public CursorPageResponse<MyUnassignedShipmentResponse> getMyUnassignedShipments(Long shipperId, String cursor, Integer size) {
+        return shipmentQueryService.getMyUnassignedShipments(shipperId, cursor, size);
     }
 
     @Override
-    public List<DriverInventoryResponse> getMyDriverInventory(Long driverId) {
-        return shipmentQueryService.getMyDriverInventory(driverId);
+    public CursorPageResponse<ShipperInventoryResponse> getMyShipperInventory(Long shipperId, String cursor, Integer size) {
+        return shipmentQueryService.getMyShipperInventory(shipperId, cursor, size);
+    }
+
+    @Override
+    public CursorPageResponse<DriverInventoryResponse> getMyDriverInventory(Long driverId, String cursor, Integer size) {
+        return shipmentQueryService.getMyDriverInventory(driverId, cursor, size);
     }
 
     @Override
@@ -41,7 +41,7 @@ public class ShipmentSettlementService {
      * 정산 상세 조회: DONE 상태 + 화주/배정차주 본인만 허용.
      */
     public ShipmentDetailResponse getSettlementShipmentDetail(Long userId, Long shipmentId) {
-        Shipment shipment = shipmentRepository.findById(shipmentId)
+        Shipment shipment = shipmentRepository.findDetailById(shipmentId)
                 .orElseThrow(() -> new ShipmentNotFoundException("배송을 찾을 수 없습니다."));
 
         if (shipment.getShipmentStatus() != ShipmentStatus.DONE) {
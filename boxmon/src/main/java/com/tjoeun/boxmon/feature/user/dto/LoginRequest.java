@@ -15,4 +15,7 @@ public class LoginRequest {
     @NotBlank
     private String deviceToken;
 
+    // ANDROID / IOS / WEB (생략 시 UNKNOWN)
+    private String platform;
+
 }
@@ -2,10 +2,12 @@ package com.tjoeun.boxmon.feature.user.repository;
 
 import com.tjoeun.boxmon.feature.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -14,7 +16,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     Optional<User> findByUserId(Long userId);
+
+    @Query("SELECT u.isPushEnabled FROM User u WHERE u.userId = :userId")
+    Optional<Boolean> findPushEnabledByUserId(@Param("userId") Long userId);
     
     @Query("SELECT COUNT(u) FROM User u WHERE u.email LIKE '%@delete.com'")
     long countDeletedUsers();
+
+    // FCM이 무효로 판정한 기존 단일 토큰 컬럼 정리 (컬럼이 NOT NULL이라 빈 문자열로 비움)
+    @Modifying
+    @Query("UPDATE User u SET u.deviceToken = '' WHERE u.deviceToken IN :tokens")
+    int clearDeviceTokens(@Param("tokens") Collection<String> tokens);
+
+    // 기기 토큰이 다른 계정으로 옮겨가면 이전 소유자의 단일 토큰 컬럼에서도 지워 옮겨간 기기로 이전 소유자의 알림이 가지 않도록 함
+    @Modifying
+    @Query("UPDATE User u SET u.deviceToken = '' WHERE u.deviceToken = :token AND u.userId <> :userId")
+    int clearDeviceTokenOfOtherUsers(@Param("token") String token, @Param("userId") Long userId);
 }
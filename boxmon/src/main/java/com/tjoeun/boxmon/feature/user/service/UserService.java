@@ -3,6 +3,9 @@ package com.tjoeun.boxmon.feature.user.service;
 import com.tjoeun.boxmon.exception.DuplicateEmailException;
 import com.tjoeun.boxmon.exception.InvalidPasswordException;
 import com.tjoeun.boxmon.exception.UserNotFoundException;
+import com.tjoeun.boxmon.feature.notification.domain.DevicePlatform;
+import com.tjoeun.boxmon.feature.notification.service.DeviceTokenService;
+import com.tjoeun.boxmon.feature.notification.service.NotificationPreferenceService;
 import com.tjoeun.boxmon.feature.settlement.service.DriverRegisterUseCase;
 import com.tjoeun.boxmon.feature.user.domain.*;
 import com.tjoeun.boxmon.feature.user.dto.*;
@@ -32,6 +35,8 @@ public class UserService {
     private final JwtProvider jwtProvider;
     private final VehicleRepository vehicleRepository;
     private final DriverRegisterUseCase driverRegisterUsecase;
+    private final DeviceTokenService deviceTokenService;
+    private final NotificationPreferenceService notificationPreferenceService;
 
 
     //화주 회원가입
@@ -98,6 +103,8 @@ public class UserService {
 
         user.setDeviceToken(request.getDeviceToken());
         userRepository.save(user);
+        // 여러 기기 동시 로그인 시 모든 기기로 알림을 보내기 위해 기기 토큰 목록에도 등록
+        deviceTokenService.register(user.getUserId(), request.getDeviceToken(), DevicePlatform.from(request.getPlatform()));
 
         // Access Token 생성 (15분 만료)
         String accessToken = jwtProvider.createAccessToken(user.getUserId(), false);
@@ -120,6 +127,8 @@ public class UserService {
         user.setIsPushEnabled(request.getIsPushEnabled());
 
         userRepository.save(user);
+        // 푸시 수신 여부가 바뀌었을 수 있으므로 캐시된 수신 정책 무효화
+        notificationPreferenceService.evictAfterCommit(userId);
     }
 
     //차주 입금 계좌 정보 입력 및 수정
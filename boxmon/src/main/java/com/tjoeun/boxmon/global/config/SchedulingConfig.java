@@ -0,0 +1,30 @@
+package com.tjoeun.boxmon.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 설정.
+ * 도로 우회 계수 재보정 등 백그라운드 배치 작업에 사용합니다.
+ * <p>
+ * 기본 스케줄러는 스레드 1개를 모든 작업이 나눠 쓰므로, FCM 발송이나 야간 압축처럼 오래 걸리는 작업이
+ * 1초 주기의 위치 적재/채팅 알림 flush를 밀어내지 않도록 스레드 풀을 둡니다.
+ * (STOMP 브로커용 스케줄러와 구분되도록 @Scheduled가 찾는 이름인 taskScheduler로 등록)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -0,0 +1,46 @@
+package com.tjoeun.boxmon.global.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 목록 조회 공통 응답 DTO.
+ * 클라이언트는 hasNext가 true일 때 nextCursor를 다음 요청의 cursor 파라미터로 전달합니다.
+ */
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> items; // 현재 페이지 항목
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+
+    /**
+     * size + 1건으로 조회한 결과를 페이지 응답으로 변환합니다.
+     * 초과 1건이 있으면 잘라내고 마지막 항목 기준으로 다음 커서를 만듭니다.
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> cursorExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? List.copyOf(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext && !items.isEmpty() ? cursorExtractor.apply(items.get(items.size() - 1)) : null;
+
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 커서 정보는 유지한 채 항목만 다른 타입으로 변환합니다.
+     */
+    public <R> CursorPageResponse<R> map(Function<T, R> mapper) {
+        return CursorPageResponse.<R>builder()
+                .items(items.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
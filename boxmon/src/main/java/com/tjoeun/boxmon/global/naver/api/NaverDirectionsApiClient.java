@@ -4,9 +4,12 @@ import com.google.gson.Gson;
 import com.tjoeun.boxmon.global.naver.dto.NaverDirectionsResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value; // @Value import 추가
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,22 +21,33 @@ public class NaverDirectionsApiClient {
     private final String clientSecret;
     private final RestClient restClient;
     private final Gson gson;
-
-    private static final String NAVER_DIRECTIONS_API_URL = "https://maps.apigw.ntruss.com/map-direction/v1/driving";
+    private final NaverDirectionsRouteCache routeCache;
+    private final String directionsApiUrl;
 
     public NaverDirectionsApiClient(
             @Value("${naver.maps.client-id}") String clientId,
             @Value("${naver.maps.client-secret}") String clientSecret,
+            @Value("${naver.directions.api-url:https://maps.apigw.ntruss.com/map-direction/v1/driving}") String directionsApiUrl,
+            @Value("${naver.directions.connect-timeout:PT1S}") Duration connectTimeout,
+            @Value("${naver.directions.read-timeout:PT2S}") Duration readTimeout,
             RestClient.Builder restClientBuilder,
-            Gson gson) {
+            Gson gson,
+            NaverDirectionsRouteCache routeCache) {
         this.clientId = clientId;
         this.clientSecret = clientSecret;
-        this.restClient = restClientBuilder.build(); // RestClient 인스턴스 생성
+        this.directionsApiUrl = directionsApiUrl;
+        // 공용 Builder를 오염시키지 않도록 복제 후 길찾기 전용 연결/응답 타임아웃을 적용
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(connectTimeout).build());
+        requestFactory.setReadTimeout(readTimeout);
+        this.restClient = restClientBuilder.clone().requestFactory(requestFactory).build(); // RestClient 인스턴스 생성
         this.gson = gson;
+        this.routeCache = routeCache;
     }
 
     /**
      * 출발지, 목적지, 경유지를 입력받아 최적 경로 정보를 조회합니다.
+     * 호출 실패 시 예외를 로그로 남기고 빈 Optional을 반환합니다.
      *
      * @param start 출발지 좌표 ("경도,위도")
      * @param goal 목적지 좌표 ("경도,위도")
@@ -45,46 +59,63 @@ public class NaverDirectionsApiClient {
             String goal,  // "경도,위도"
             List<String> waypoints) { // "경도,위도|경도,위도" 형식
         try {
-            // 경유지가 있는 경우 파이프(|) 문자로 연결하여 문자열 생성
-            StringBuilder waypointString = new StringBuilder();
-            if (waypoints != null && !waypoints.isEmpty()) {
-                for (int i = 0; i < waypoints.size(); i++) {
-                    waypointString.append(waypoints.get(i));
-                    if (i < waypoints.size() - 1) {
-                        waypointString.append("|");
-                    }
-                }
-            }
+            return Optional.ofNullable(fetchDirections(start, goal, waypoints));
+        } catch (Exception e) {
+            log.error("Naver Directions API 호출 중 오류 발생: {}", e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
 
-            // 기본 URI 구성 (최적 경로 탐색 옵션인 trafast 사용)
-            String uri = NAVER_DIRECTIONS_API_URL +
-                    "?start=" + start +
-                    "&goal=" + goal +
-                    "&option=trafast";
+    /**
+     * 최적 경로 정보를 조회하되, 타임아웃/HTTP 오류 등은 호출자에게 그대로 전달합니다.
+     * 격자 스냅 좌표 기준으로 캐시된 결과가 있으면 외부 API를 호출하지 않습니다.
+     * (서킷 브레이커 등 실패 집계가 필요한 호출자용)
+     */
+    public NaverDirectionsResponse fetchDirections(String start, String goal, List<String> waypoints) {
+        String cacheKey = routeCache.keyOf(start, goal, waypoints);
+        Optional<NaverDirectionsResponse> cached = routeCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.debug("Naver Directions 캐시 적중: {}", cacheKey);
+            return cached.get();
+        }
 
-            // 경유지 파라미터 추가
-            if (waypointString.length() > 0) {
-                uri += "&waypoints=" + waypointString.toString();
+        // 경유지가 있는 경우 파이프(|) 문자로 연결하여 문자열 생성
+        StringBuilder waypointString = new StringBuilder();
+        if (waypoints != null && !waypoints.isEmpty()) {
+            for (int i = 0; i < waypoints.size(); i++) {
+                waypointString.append(waypoints.get(i));
+                if (i < waypoints.size() - 1) {
+                    waypointString.append("|");
+                }
             }
+        }
 
-            log.info("Naver Directions API 호출 URI: {}", uri);
+        // 기본 URI 구성 (최적 경로 탐색 옵션인 trafast 사용)
+        String uri = directionsApiUrl +
+                "?start=" + start +
+                "&goal=" + goal +
+                "&option=trafast";
 
-            // API 호출 및 응답 수신
-            String responseBody = restClient.get()
-                    .uri(uri)
-                    .header("x-ncp-apigw-api-key-id", clientId)
-                    .header("x-ncp-apigw-api-key", clientSecret)
-                    .retrieve()
-                    .body(String.class);
+        // 경유지 파라미터 추가
+        if (waypointString.length() > 0) {
+            uri += "&waypoints=" + waypointString.toString();
+        }
 
-            log.debug("Naver Directions API 응답: {}", responseBody);
+        log.info("Naver Directions API 호출 URI: {}", uri);
 
-            // JSON 응답을 DTO 객체로 변환하여 반환
-            return Optional.ofNullable(gson.fromJson(responseBody, NaverDirectionsResponse.class));
+        // API 호출 및 응답 수신
+        String responseBody = restClient.get()
+                .uri(uri)
+                .header("x-ncp-apigw-api-key-id", clientId)
+                .header("x-ncp-apigw-api-key", clientSecret)
+                .retrieve()
+                .body(String.class);
 
-        } catch (Exception e) {
-            log.error("Naver Directions API 호출 중 오류 발생: {}", e.getMessage(), e);
-            return Optional.empty();
-        }
+        log.debug("Naver Directions API 응답: {}", responseBody);
+
+        // JSON 응답을 DTO 객체로 변환하여 반환 (정상 경로 응답만 캐시)
+        NaverDirectionsResponse response = gson.fromJson(responseBody, NaverDirectionsResponse.class);
+        routeCache.put(cacheKey, response);
+        return response;
     }
 }
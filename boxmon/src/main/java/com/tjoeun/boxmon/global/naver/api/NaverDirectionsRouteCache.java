@@ -0,0 +1,97 @@
+package com.tjoeun.boxmon.global.naver.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tjoeun.boxmon.global.naver.dto.NaverDirectionsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Naver Directions 경로 조회 결과 캐시.
+ * 출발지/경유지/도착지 좌표를 설정된 격자 크기로 스냅한 값을 키로 사용해,
+ * 같은 화물 상세를 반복 조회하거나 근접 좌표로 조회할 때 외부 API 호출을 생략합니다.
+ * 최대 건수와 TTL로 크기를 제한하며, 적중/미스/제거 지표는 naverDirections 캐시 이름으로 노출합니다.
+ */
+@Slf4j
+@Component
+public class NaverDirectionsRouteCache {
+    static final String CACHE_NAME = "naverDirections";
+
+    private final Cache<String, NaverDirectionsResponse> cache;
+    private final BigDecimal gridDegrees;
+
+    public NaverDirectionsRouteCache(
+            @Value("${naver.directions.cache.ttl:PT10M}") Duration ttl,
+            @Value("${naver.directions.cache.max-size:10000}") long maxSize,
+            @Value("${naver.directions.cache.grid-degrees:0.0005}") double gridDegrees,
+            MeterRegistry meterRegistry) {
+        if (gridDegrees <= 0) {
+            throw new IllegalArgumentException("naver.directions.cache.grid-degrees must be positive.");
+        }
+        this.gridDegrees = BigDecimal.valueOf(gridDegrees);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Naver Directions 경로 캐시 설정: ttl={}, maxSize={}, grid={}", ttl, maxSize, gridDegrees);
+    }
+
+    public Optional<NaverDirectionsResponse> get(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    /**
+     * 경로 요약이 포함된 정상 응답만 저장합니다. (실패/빈 응답은 캐시하지 않음)
+     */
+    public void put(String key, NaverDirectionsResponse response) {
+        if (response == null
+                || response.getRoute() == null
+                || response.getRoute().getTrafast() == null
+                || response.getRoute().getTrafast().isEmpty()
+                || response.getRoute().getTrafast().get(0).getSummary() == null) {
+            return;
+        }
+        cache.put(key, response);
+    }
+
+    /**
+     * "경도,위도" 좌표들을 격자에 스냅해 캐시 키를 만듭니다.
+     */
+    public String keyOf(String start, String goal, List<String> waypoints) {
+        StringBuilder key = new StringBuilder(snap(start)).append('>').append(snap(goal));
+        if (waypoints != null) {
+            for (String waypoint : waypoints) {
+                key.append('|').append(snap(waypoint));
+            }
+        }
+        return key.toString();
+    }
+
+    private String snap(String coordinate) {
+        String[] parts = coordinate.split(",");
+        if (parts.length != 2) {
+            return coordinate;
+        }
+        try {
+            return snapValue(parts[0]) + "," + snapValue(parts[1]);
+        } catch (NumberFormatException e) {
+            return coordinate;
+        }
+    }
+
+    private String snapValue(String value) {
+        BigDecimal cells = new BigDecimal(value.trim()).divide(gridDegrees, 0, RoundingMode.HALF_UP);
+        return cells.multiply(gridDegrees).stripTrailingZeros().toPlainString();
+    }
+}
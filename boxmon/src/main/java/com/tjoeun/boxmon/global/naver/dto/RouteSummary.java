@@ -0,0 +1,47 @@
+package com.tjoeun.boxmon.global.naver.dto;
+
+import java.util.Optional;
+
+/**
+ * 길찾기 응답에서 서비스가 사용하는 경로 요약 값만 추린 값 객체.
+ *
+ * @param distanceKm 총 거리(km)
+ * @param durationSeconds 예상 소요 시간(초)
+ * @param tollFare 통행료(원), 응답에 없으면 null
+ * @param estimated 길찾기 API 대신 직선거리 기반으로 추정한 값인지 여부
+ */
+public record RouteSummary(double distanceKm, long durationSeconds, Integer tollFare, boolean estimated) {
+
+    public static RouteSummary estimate(double distanceKm, long durationSeconds) {
+        return new RouteSummary(distanceKm, durationSeconds, null, true);
+    }
+
+    public static Optional<RouteSummary> from(NaverDirectionsResponse response) {
+        if (response == null
+                || response.getRoute() == null
+                || response.getRoute().getTrafast() == null
+                || response.getRoute().getTrafast().isEmpty()
+                || response.getRoute().getTrafast().get(0).getSummary() == null) {
+            return Optional.empty();
+        }
+
+        NaverDirectionsResponse.Summary summary = response.getRoute().getTrafast().get(0).getSummary();
+        return Optional.of(new RouteSummary(
+                summary.getDistance() / 1000.0,
+                summary.getDuration() / 1000L,
+                parseTollFare(summary.getTollFare()),
+                false
+        ));
+    }
+
+    private static Integer parseTollFare(String tollFare) {
+        if (tollFare == null || tollFare.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(tollFare.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
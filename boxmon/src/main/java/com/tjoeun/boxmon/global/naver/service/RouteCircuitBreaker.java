@@ -0,0 +1,67 @@
+package com.tjoeun.boxmon.global.naver.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 외부 경로 API용 단순 서킷 브레이커.
+ * 연속 실패가 임계치에 도달하면 일정 시간 호출을 차단(OPEN)하고,
+ * 차단 시간이 지나면 시험 호출 1건만 허용(HALF_OPEN)해 성공 시 다시 닫습니다.
+ */
+class RouteCircuitBreaker {
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private Instant openedAt;
+
+    RouteCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        // OPEN 유지 중이거나 HALF_OPEN 시험 호출이 이미 진행 중
+        return false;
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+        }
+    }
+
+    /**
+     * 결과를 판단할 수 없는 호출(대기 중 인터럽트 등)을 실패로 집계하지 않고 종료합니다.
+     * HALF_OPEN 시험 호출이었다면 차단 시간이 이미 지난 OPEN으로 되돌려 다음 호출이 다시 시험할 수 있게 합니다.
+     */
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,15 @@
+package com.tjoeun.boxmon.global.naver.service;
+
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
+import org.locationtech.jts.geom.Point;
+
+import java.util.List;
+
+/**
+ * 길찾기 API 결과를 얻지 못했을 때 사용할 로컬 경로 추정기.
+ * 구현체는 estimated=true인 경로 요약을 반환해야 합니다.
+ */
+@FunctionalInterface
+public interface RouteFallbackEstimator {
+    RouteSummary estimate(Point start, Point goal, List<Point> waypoints);
+}
@@ -0,0 +1,141 @@
+package com.tjoeun.boxmon.global.naver.service;
+
+import com.tjoeun.boxmon.global.naver.api.NaverDirectionsApiClient;
+import com.tjoeun.boxmon.global.naver.dto.NaverDirectionsResponse;
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 경로(거리/소요 시간) 조회 서비스.
+ * 길찾기 API 호출을 전용 제한 스레드 풀에서 실행하고 전체 대기 시간을 제한합니다.
+ * 연속 실패 시 서킷 브레이커로 호출을 잠시 차단하며,
+ * 실패/차단/포화 시에는 {@link RouteFallbackEstimator}(보정된 우회 계수 기반 로컬 추정)로 대체해 항상 결과를 반환합니다.
+ */
+@Slf4j
+@Service
+public class RouteLookupService {
+    private final NaverDirectionsApiClient naverDirectionsApiClient;
+    private final RouteFallbackEstimator fallbackEstimator;
+    private final ThreadPoolExecutor executor;
+    private final RouteCircuitBreaker circuitBreaker;
+    private final Duration lookupTimeout;
+
+    public RouteLookupService(
+            NaverDirectionsApiClient naverDirectionsApiClient,
+            RouteFallbackEstimator fallbackEstimator,
+            @Value("${naver.directions.lookup.pool-size:8}") int poolSize,
+            @Value("${naver.directions.lookup.queue-capacity:32}") int queueCapacity,
+            @Value("${naver.directions.lookup.timeout:PT3S}") Duration lookupTimeout,
+            @Value("${naver.directions.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${naver.directions.circuit.open-duration:PT30S}") Duration openDuration) {
+        this.naverDirectionsApiClient = naverDirectionsApiClient;
+        this.fallbackEstimator = fallbackEstimator;
+        this.lookupTimeout = lookupTimeout;
+        this.circuitBreaker = new RouteCircuitBreaker(failureThreshold, openDuration, Clock.systemUTC());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "route-lookup-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 출발지 → 경유지 → 도착지 경로 요약을 조회합니다.
+     * 길찾기 결과를 얻지 못하면 estimated=true인 추정값을 반환합니다.
+     */
+    public RouteSummary lookup(Point start, Point goal, List<Point> waypoints) {
+        if (start == null || goal == null) {
+            throw new IllegalArgumentException("출발지와 도착지 좌표는 필수입니다.");
+        }
+        List<Point> stops = waypoints == null
+                ? List.of()
+                : waypoints.stream().filter(Objects::nonNull).toList();
+
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("길찾기 서킷 OPEN 상태로 직선거리 추정값을 사용합니다.");
+            return estimate(start, goal, stops);
+        }
+
+        String startParam = toParam(start);
+        String goalParam = toParam(goal);
+        List<String> waypointParams = stops.stream().map(this::toParam).toList();
+
+        CompletableFuture<NaverDirectionsResponse> future;
+        try {
+            future = CompletableFuture.supplyAsync(
+                    () -> naverDirectionsApiClient.fetchDirections(startParam, goalParam, waypointParams), executor);
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.onFailure();
+            log.warn("길찾기 호출 풀이 포화 상태라 직선거리 추정값을 사용합니다.");
+            return estimate(start, goal, stops);
+        }
+
+        try {
+            NaverDirectionsResponse response = future.get(lookupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            Optional<RouteSummary> summary = RouteSummary.from(response);
+            if (summary.isEmpty()) {
+                log.warn("길찾기 응답에 경로 요약이 없어 직선거리 추정값을 사용합니다. code={}",
+                        response == null ? null : response.getCode());
+            }
+            return summary.orElseGet(() -> estimate(start, goal, stops));
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            log.warn("길찾기 호출이 {}ms 내에 끝나지 않아 직선거리 추정값을 사용합니다.", lookupTimeout.toMillis());
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            log.warn("길찾기 호출 실패로 직선거리 추정값을 사용합니다. 원인: {}", e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            // 호출한 쪽의 종료/취소이지 API 장애가 아니므로 실패로 집계하지 않고 HALF_OPEN 시험 슬롯만 반환
+            circuitBreaker.onIgnored();
+            log.warn("길찾기 호출 대기 중 인터럽트되어 직선거리 추정값을 사용합니다.");
+        }
+        return estimate(start, goal, stops);
+    }
+
+    RouteCircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private RouteSummary estimate(Point start, Point goal, List<Point> stops) {
+        return fallbackEstimator.estimate(start, goal, stops);
+    }
+
+    private String toParam(Point point) {
+        return point.getX() + "," + point.getY();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
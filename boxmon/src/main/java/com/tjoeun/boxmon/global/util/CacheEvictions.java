@@ -0,0 +1,26 @@
+package com.tjoeun.boxmon.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 안에서 변경한 데이터의 로컬 캐시 무효화 유틸.
+ */
+public class CacheEvictions {
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안이라면 커밋/롤백 이후에도 한 번 더 무효화합니다.
+     * 커밋 전에 다른 요청이 이전 값을 다시 적재하더라도 트랜잭션 종료 시점에 정리됩니다.
+     */
+    public static void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
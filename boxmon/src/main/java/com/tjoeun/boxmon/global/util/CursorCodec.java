@@ -0,0 +1,36 @@
+package com.tjoeun.boxmon.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록 조회용 커서 토큰 인코딩/디코딩 유틸.
+ * 정렬 키 값들을 '|'로 이어 붙인 뒤 URL-safe Base64로 감싸 클라이언트에는 불투명한 문자열로 노출합니다.
+ */
+public class CursorCodec {
+    private static final String DELIMITER = "|";
+
+    public static String encode(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                raw.append(DELIMITER);
+            }
+            raw.append(parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다.");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서 값입니다.", e);
+        }
+    }
+}
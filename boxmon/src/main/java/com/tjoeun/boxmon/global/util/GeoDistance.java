@@ -0,0 +1,49 @@
+package com.tjoeun.boxmon.global.util;
+
+import org.locationtech.jts.geom.Point;
+
+import java.util.List;
+
+/**
+ * 경위도 좌표 간 대원(haversine) 거리 계산 유틸.
+ * JTS Point는 SRID 4326 기준 x=경도, y=위도로 사용합니다.
+ */
+public class GeoDistance {
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public static double haversineKm(Point from, Point to) {
+        return haversineKm(from.getY(), from.getX(), to.getY(), to.getX());
+    }
+
+    /**
+     * 시작점에서 끝점을 향하는 초기 방위각(도, 북쪽 0 기준 시계 방향 0~360).
+     */
+    public static double initialBearingDegrees(double lat1, double lng1, double lat2, double lng2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double y = Math.sin(dLng) * Math.cos(phi2);
+        double x = Math.cos(phi1) * Math.sin(phi2) - Math.sin(phi1) * Math.cos(phi2) * Math.cos(dLng);
+        return (Math.toDegrees(Math.atan2(y, x)) + 360.0) % 360.0;
+    }
+
+    /**
+     * 순서대로 이어진 좌표들의 구간별 직선 거리 합(km).
+     */
+    public static double pathKm(List<Point> points) {
+        double total = 0.0;
+        for (int i = 1; i < points.size(); i++) {
+            total += haversineKm(points.get(i - 1), points.get(i));
+        }
+        return total;
+    }
+}
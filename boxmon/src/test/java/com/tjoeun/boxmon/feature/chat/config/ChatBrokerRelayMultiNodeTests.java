@@ -0,0 +1,166 @@
+package com.tjoeun.boxmon.feature.chat.config;
+
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * chat.broker.mode=relay 구성에서 한 노드가 발행한 /sub/chat.room.* 메시지가
+ * 브로커 목적지(/topic/...)로 중계되어 다른 노드에 연결된 구독자에게 전달되는지 내장 STOMP 브로커(Artemis)로 검증합니다.
+ * 외부 설치 없이 로컬에서 실행됩니다.
+ */
+class ChatBrokerRelayMultiNodeTests {
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final String RELAY_PREFIX = "/topic";
+
+    private static EmbeddedActiveMQ broker;
+    private static int brokerPort;
+
+    @BeforeAll
+    static void startBroker() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            brokerPort = socket.getLocalPort();
+        }
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                // /topic/ 목적지는 발행/구독(multicast)으로 처리
+                .addAcceptorConfiguration("stomp",
+                        "tcp://127.0.0.1:" + brokerPort + "?protocols=STOMP&multicastPrefix=" + RELAY_PREFIX + "/"));
+        broker.start();
+    }
+
+    @AfterAll
+    static void stopBroker() throws Exception {
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("노드 A에서 발행한 채팅 메시지를 노드 B에 연결된 구독자가 받는다")
+    void chatMessage_reachesSubscriberOnAnotherNode() throws Exception {
+        RelayNode nodeA = new RelayNode(brokerPort);
+        RelayNode nodeB = new RelayNode(brokerPort);
+        try {
+            nodeA.start();
+            nodeB.start();
+
+            nodeB.connect("session-b");
+            nodeB.subscribe("session-b", "sub-0", "/sub/chat.room.42");
+
+            nodeA.messagingTemplate.convertAndSend("/sub/chat.room.42", "{\"chatId\":1,\"content\":\"hello\"}");
+
+            Message<?> delivered = nodeB.await(StompCommand.MESSAGE);
+            StompHeaderAccessor headers = StompHeaderAccessor.wrap(delivered);
+            assertEquals("session-b", headers.getSessionId());
+            assertEquals("sub-0", headers.getSubscriptionId());
+            assertEquals("/sub/chat.room.42", headers.getDestination());
+            assertEquals("{\"chatId\":1,\"content\":\"hello\"}",
+                    new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8));
+        } finally {
+            nodeA.stop();
+            nodeB.stop();
+        }
+    }
+
+    /**
+     * 애플리케이션 인스턴스 하나의 브로커 릴레이 구성.
+     * WebSocketConfig의 relay 모드가 만드는 채널/핸들러 구조를 서블릿 컨테이너 없이 재현합니다.
+     */
+    private static final class RelayNode {
+        private final ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+        private final ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        private final BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+        private final StompBrokerRelayMessageHandler relay;
+        private final SimpMessagingTemplate messagingTemplate;
+
+        RelayNode(int brokerPort) {
+            relay = new StompBrokerRelayMessageHandler(
+                    clientInboundChannel, clientOutboundChannel, brokerChannel, List.of(RELAY_PREFIX));
+            relay.setRelayHost("127.0.0.1");
+            relay.setRelayPort(brokerPort);
+            clientInboundChannel.addInterceptor(
+                    new RelayDestinationPrefixInterceptor(WebSocketConfig.BROKER_PREFIX, RELAY_PREFIX));
+            brokerChannel.addInterceptor(
+                    new RelayDestinationPrefixInterceptor(WebSocketConfig.BROKER_PREFIX, RELAY_PREFIX));
+            clientOutboundChannel.addInterceptor(
+                    new RelayDestinationPrefixInterceptor(RELAY_PREFIX, WebSocketConfig.BROKER_PREFIX));
+            clientOutboundChannel.subscribe(outbound::add);
+
+            messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+            messagingTemplate.setMessageConverter(new StringMessageConverter());
+        }
+
+        void start() throws InterruptedException {
+            relay.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (!relay.isBrokerAvailable()) {
+                if (System.nanoTime() > deadline) {
+                    fail("브로커 시스템 세션이 연결되지 않았습니다.");
+                }
+                Thread.sleep(50);
+            }
+        }
+
+        void stop() {
+            relay.stop();
+        }
+
+        void connect(String sessionId) throws InterruptedException {
+            StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+            connect.setSessionId(sessionId);
+            connect.setAcceptVersion("1.2");
+            connect.setHeartbeat(0, 0);
+            clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+            await(StompCommand.CONNECTED);
+        }
+
+        void subscribe(String sessionId, String subscriptionId, String destination) throws InterruptedException {
+            StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            subscribe.setSessionId(sessionId);
+            subscribe.setSubscriptionId(subscriptionId);
+            subscribe.setDestination(destination);
+            subscribe.setReceipt("subscribed-" + subscriptionId);
+            clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+            // 브로커가 구독을 등록한 뒤에 발행해야 하므로 RECEIPT까지 대기
+            await(StompCommand.RECEIPT);
+        }
+
+        Message<?> await(StompCommand command) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                Message<?> message = remaining > 0 ? outbound.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                assertTrue(message != null, command + " 프레임을 받지 못했습니다.");
+                if (command.equals(StompHeaderAccessor.wrap(message).getCommand())) {
+                    return message;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.tjoeun.boxmon.feature.chat.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ChatSendRateLimitInterceptorTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChatSendRateLimitInterceptor interceptor = new ChatSendRateLimitInterceptor(meterRegistry, 1, 3);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    @DisplayName("세션별 burst를 넘긴 SEND는 버리고, 다른 세션과 SEND 외 프레임은 통과시킨다")
+    void preSend_shouldDropSendsOverBurstPerSession() {
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(interceptor.preSend(frame(StompCommand.SEND, "s1"), channel));
+        }
+        assertNull(interceptor.preSend(frame(StompCommand.SEND, "s1"), channel));
+
+        assertNotNull(interceptor.preSend(frame(StompCommand.SEND, "s2"), channel));
+        assertNotNull(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "s1"), channel));
+        assertEquals(1.0, meterRegistry.counter("stomp.inbound.rate-limited").count());
+    }
+
+    @Test
+    @DisplayName("토큰은 경과 시간만큼 충전되고 burst를 넘지 않는다")
+    void tokenBucket_shouldRefillUpToCapacity() {
+        ChatSendRateLimitInterceptor.TokenBucket bucket = new ChatSendRateLimitInterceptor.TokenBucket(1, 0);
+
+        assertTrue(bucket.tryAcquire(0, 2, 2));
+        assertFalse(bucket.tryAcquire(100_000_000L, 2, 2));
+        assertTrue(bucket.tryAcquire(500_000_000L, 2, 2));
+        // 10초 대기 후에도 최대 2개까지만 연속 허용
+        assertTrue(bucket.tryAcquire(10_500_000_000L, 2, 2));
+        assertTrue(bucket.tryAcquire(10_500_000_000L, 2, 2));
+        assertFalse(bucket.tryAcquire(10_500_000_000L, 2, 2));
+    }
+
+    private Message<byte[]> frame(StompCommand command, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination("/pub/chat.send.1");
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,85 @@
+package com.tjoeun.boxmon.feature.chat.service;
+
+import com.tjoeun.boxmon.feature.notification.service.NotificationUseCase;
+import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.ShipmentParticipants;
+import com.tjoeun.boxmon.feature.shipment.service.ShipmentParticipantsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatNotificationDispatcherTests {
+
+    private static final Long SHIPMENT_ID = 1L;
+    private static final Long SHIPPER_ID = 10L;
+    private static final Long DRIVER_ID = 20L;
+
+    private final NotificationUseCase notificationUseCase = mock(NotificationUseCase.class);
+    private final ShipmentParticipantsCache participantsCache = mock(ShipmentParticipantsCache.class);
+    private final ChatRoomPresenceRegistry presenceRegistry = new ChatRoomPresenceRegistry(new SimpleMeterRegistry());
+    private final ChatNotificationDispatcher dispatcher = new ChatNotificationDispatcher(
+            notificationUseCase, participantsCache, presenceRegistry, new SimpleMeterRegistry(),
+            Duration.ofSeconds(5), Duration.ofSeconds(30), 1, 10);
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("연속 채팅은 조용한 구간이 지난 뒤 수신자에게 한 건의 알림으로 묶어 보낸다")
+    void burst_shouldCollapseIntoSinglePush() {
+        givenParticipants();
+
+        dispatcher.record(SHIPMENT_ID, SHIPPER_ID, 0);
+        dispatcher.record(SHIPMENT_ID, SHIPPER_ID, 1_000);
+        dispatcher.record(SHIPMENT_ID, SHIPPER_ID, 2_000);
+
+        dispatcher.flush(4_000);
+        dispatcher.flush(7_000);
+
+        verify(notificationUseCase, timeout(1_000).times(1)).notifyChatMessages(SHIPMENT_ID, DRIVER_ID, 3);
+    }
+
+    @Test
+    @DisplayName("수신자가 채팅방을 구독 중이면 알림을 보내지 않는다")
+    void presentRecipient_shouldSkipPush() {
+        givenParticipants();
+        presenceRegistry.subscribe("session-1", "sub-0", new ChatRoomPresenceRegistry.RoomMember(SHIPMENT_ID, DRIVER_ID));
+
+        dispatcher.record(SHIPMENT_ID, SHIPPER_ID, 0);
+        dispatcher.flush(60_000);
+
+        verify(notificationUseCase, after(200).never()).notifyChatMessages(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("구독을 해제한 뒤의 채팅은 다시 알림 대상이 된다")
+    void unsubscribedRecipient_shouldReceivePush() {
+        givenParticipants();
+        presenceRegistry.subscribe("session-1", "sub-0", new ChatRoomPresenceRegistry.RoomMember(SHIPMENT_ID, SHIPPER_ID));
+        presenceRegistry.unsubscribe("session-1", "sub-0");
+
+        dispatcher.record(SHIPMENT_ID, DRIVER_ID, 0);
+        dispatcher.flush(5_000);
+
+        verify(notificationUseCase, timeout(1_000).times(1)).notifyChatMessages(SHIPMENT_ID, SHIPPER_ID, 1);
+    }
+
+    private void givenParticipants() {
+        when(participantsCache.find(SHIPMENT_ID))
+                .thenReturn(Optional.of(new ShipmentParticipants(SHIPMENT_ID, SHIPPER_ID, DRIVER_ID, ShipmentStatus.IN_TRANSIT)));
+    }
+}
@@ -1,17 +1,19 @@
 package com.tjoeun.boxmon.feature.chat.service;
 
+import com.tjoeun.boxmon.exception.ChatValidationException;
+import com.tjoeun.boxmon.exception.InvalidChatAccessException;
 import com.tjoeun.boxmon.feature.chat.domain.Chat;
 import com.tjoeun.boxmon.feature.chat.domain.ChatContentType;
 import com.tjoeun.boxmon.feature.chat.domain.ChatSenderRole;
+import com.tjoeun.boxmon.feature.chat.dto.ChatHistoryResponse;
 import com.tjoeun.boxmon.feature.chat.dto.ChatMessageResponse;
 import com.tjoeun.boxmon.feature.chat.dto.ChatSendRequest;
 import com.tjoeun.boxmon.feature.chat.repository.ChatRepository;
-import com.tjoeun.boxmon.feature.notification.service.NotificationUseCase;
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
 import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
-import com.tjoeun.boxmon.feature.user.domain.Driver;
-import com.tjoeun.boxmon.feature.user.domain.Shipper;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.ShipmentParticipants;
+import com.tjoeun.boxmon.feature.shipment.service.ShipmentParticipantsCache;
 import com.tjoeun.boxmon.global.storage.ObjectStorageService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,15 +21,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,20 +54,26 @@ class ChatServiceTests {
     private ObjectStorageService objectStorageService;
 
     @Mock
-    private NotificationUseCase notificationUseCase;
+    private ShipmentParticipantsCache participantsCache;
+
+    @Mock
+    private ChatNotificationDispatcher notificationDispatcher;
 
     @Test
-    @DisplayName("TEXT 메시지 전송 시 채팅 저장 후 상대방 알림을 호출한다.")
+    @DisplayName("TEXT 메시지 전송 시 배송 참조만 연결해 저장하고 상대방 알림은 커밋 이후로 넘긴다.")
     void sendMessage_text_shouldNotifyOpponent() {
         Long shipmentId = 100L;
         Long senderId = 1L;
-        Shipment shipment = shipmentWithParticipants(1L, 2L, ShipmentStatus.ASSIGNED);
+        Shipment shipment = new Shipment();
+        shipment.setShipmentId(shipmentId);
 
         ChatSendRequest request = new ChatSendRequest();
         request.setContentType(ChatContentType.TEXT);
         request.setContent(" hello ");
 
-        when(shipmentRepository.findById(shipmentId)).thenReturn(Optional.of(shipment));
+        when(participantsCache.find(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, 2L, ShipmentStatus.ASSIGNED)));
+        when(shipmentRepository.getReferenceById(shipmentId)).thenReturn(shipment);
         when(chatRepository.save(any(Chat.class))).thenReturn(
                 Chat.builder()
                         .chatId(10L)
@@ -77,25 +90,26 @@ class ChatServiceTests {
 
         assertNotNull(response);
         assertEquals(shipmentId, response.getShipmentId());
-        verify(notificationUseCase).notifyChatMessage(shipmentId, senderId);
+        verify(shipmentRepository, never()).findById(any());
+        verify(notificationDispatcher).dispatchAfterCommit(shipmentId, senderId);
     }
 
     @Test
-    @DisplayName("IMG_URL 메시지 전송 시에도 알림 실패가 채팅 전송을 막지 않는다.")
-    void sendMessage_imgUrl_shouldIgnoreNotificationFailure() {
+    @DisplayName("IMG_URL 메시지 전송 시에도 캐시된 참여자 정보로 차주를 검증한다.")
+    void sendMessage_imgUrl_shouldUseCachedParticipants() {
         Long shipmentId = 200L;
         Long senderId = 2L;
-        Shipment shipment = shipmentWithParticipants(1L, 2L, ShipmentStatus.IN_TRANSIT);
 
         ChatSendRequest request = new ChatSendRequest();
         request.setContentType(ChatContentType.IMG_URL);
         request.setContent("https://example.com/chat/image.jpg");
 
-        when(shipmentRepository.findById(shipmentId)).thenReturn(Optional.of(shipment));
+        when(participantsCache.find(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, 2L, ShipmentStatus.IN_TRANSIT)));
         when(chatRepository.save(any(Chat.class))).thenReturn(
                 Chat.builder()
                         .chatId(11L)
-                        .shipment(shipment)
+                        .shipmentId(shipmentId)
                         .senderId(senderId)
                         .senderRole(ChatSenderRole.DRIVER)
                         .content(request.getContent())
@@ -103,26 +117,109 @@ class ChatServiceTests {
                         .createdAt(LocalDateTime.now())
                         .build()
         );
-        doThrow(new RuntimeException("fcm unavailable"))
-                .when(notificationUseCase).notifyChatMessage(shipmentId, senderId);
 
         ChatMessageResponse response = chatService.sendMessage(shipmentId, senderId, ChatSenderRole.DRIVER, request);
 
         assertNotNull(response);
         assertEquals(shipmentId, response.getShipmentId());
-        verify(notificationUseCase).notifyChatMessage(shipmentId, senderId);
+        verify(notificationDispatcher).dispatchAfterCommit(shipmentId, senderId);
+    }
+
+    @Test
+    @DisplayName("배차 전 상태에서는 메시지를 저장하지 않는다.")
+    void sendMessage_requested_shouldFailWithoutInsert() {
+        Long shipmentId = 250L;
+        ChatSendRequest request = new ChatSendRequest();
+        request.setContentType(ChatContentType.TEXT);
+        request.setContent("hello");
+
+        ShipmentParticipants requested = new ShipmentParticipants(shipmentId, 1L, null, ShipmentStatus.REQUESTED);
+        when(participantsCache.find(shipmentId)).thenReturn(Optional.of(requested));
+        when(participantsCache.reload(shipmentId)).thenReturn(Optional.of(requested));
+
+        assertThrows(ChatValidationException.class,
+                () -> chatService.sendMessage(shipmentId, 1L, ChatSenderRole.SHIPPER, request));
+        verify(chatRepository, never()).save(any(Chat.class));
+        verify(notificationDispatcher, never()).dispatchAfterCommit(any(), any());
     }
 
-    private Shipment shipmentWithParticipants(Long shipperId, Long driverId, ShipmentStatus status) {
-        Shipper shipper = mock(Shipper.class);
-        Driver driver = mock(Driver.class);
-        when(shipper.getShipperId()).thenReturn(shipperId);
-        when(driver.getDriverId()).thenReturn(driverId);
+    @Test
+    @DisplayName("위치 구독 검증은 참여자 식별자만 조회해 다른 차주의 접근을 거부한다.")
+    void validateParticipant_byShipmentId_shouldRejectOtherDriver() {
+        Long shipmentId = 300L;
+        ShipmentParticipants participants = new ShipmentParticipants(shipmentId, 1L, 2L, ShipmentStatus.IN_TRANSIT);
+        when(participantsCache.find(shipmentId)).thenReturn(Optional.of(participants));
+        when(participantsCache.reload(shipmentId)).thenReturn(Optional.of(participants));
+
+        chatService.validateParticipant(shipmentId, 1L, ChatSenderRole.SHIPPER);
+        verify(participantsCache, never()).reload(shipmentId);
+        assertThrows(InvalidChatAccessException.class,
+                () -> chatService.validateParticipant(shipmentId, 3L, ChatSenderRole.DRIVER));
+    }
 
-        Shipment shipment = new Shipment();
-        shipment.setShipper(shipper);
-        shipment.setDriver(driver);
-        shipment.setShipmentStatus(status);
-        return shipment;
+    @Test
+    @DisplayName("캐시 값으로는 거부되더라도 다른 인스턴스에서 배차된 경우 DB를 다시 읽어 허용한다.")
+    void validateParticipant_staleCachedDeny_shouldRecheckDatabase() {
+        Long shipmentId = 350L;
+        when(participantsCache.find(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, null, ShipmentStatus.REQUESTED)));
+        when(participantsCache.reload(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, 2L, ShipmentStatus.ASSIGNED)));
+
+        chatService.validateParticipant(shipmentId, 2L, ChatSenderRole.DRIVER);
+
+        verify(participantsCache).reload(shipmentId);
+    }
+
+    @Test
+    @DisplayName("before 커서 조회는 과거 메시지를 오름차순으로 돌려주고 더 남았는지 알려준다.")
+    void getMessages_before_shouldReturnAscendingPageWithHasMore() {
+        Long shipmentId = 400L;
+        when(participantsCache.find(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, 2L, ShipmentStatus.IN_TRANSIT)));
+        when(chatRepository.findByShipment_ShipmentIdAndChatIdLessThanOrderByChatIdDesc(eq(shipmentId), eq(50L), any(Pageable.class)))
+                .thenReturn(List.of(chat(49L, shipmentId), chat(48L, shipmentId), chat(47L, shipmentId)));
+
+        ChatHistoryResponse response = chatService.getMessages(shipmentId, 1L, ChatSenderRole.SHIPPER, 50L, null, 2);
+
+        assertTrue(response.isHasMore());
+        assertEquals(List.of(48L, 49L), response.getMessages().stream().map(ChatMessageResponse::getChatId).toList());
+        assertEquals(shipmentId, response.getMessages().get(0).getShipmentId());
+    }
+
+    @Test
+    @DisplayName("before와 after를 함께 보내면 거부한다.")
+    void getMessages_bothCursors_shouldFail() {
+        assertThrows(ChatValidationException.class,
+                () -> chatService.getMessages(1L, 1L, ChatSenderRole.SHIPPER, 10L, 5L, null));
+    }
+
+    @Test
+    @DisplayName("limit이 상한을 넘으면 상한(100건)으로 줄여 조회하고, 1 미만이면 거부한다.")
+    void getMessages_limit_shouldClampToMaximum() {
+        Long shipmentId = 500L;
+        when(participantsCache.find(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, 2L, ShipmentStatus.IN_TRANSIT)));
+        when(chatRepository.findByShipment_ShipmentIdOrderByChatIdDesc(eq(shipmentId), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        chatService.getMessages(shipmentId, 1L, ChatSenderRole.SHIPPER, null, null, 500);
+
+        // hasMore 판단용 1건을 더해 조회
+        verify(chatRepository).findByShipment_ShipmentIdOrderByChatIdDesc(shipmentId, PageRequest.ofSize(101));
+        assertThrows(ChatValidationException.class,
+                () -> chatService.getMessages(shipmentId, 1L, ChatSenderRole.SHIPPER, null, null, 0));
+    }
+
+    private Chat chat(Long chatId, Long shipmentId) {
+        return Chat.builder()
+                .chatId(chatId)
+                .shipmentId(shipmentId)
+                .senderId(1L)
+                .senderRole(ChatSenderRole.SHIPPER)
+                .content("m" + chatId)
+                .contentType(ChatContentType.TEXT)
+                .createdAt(LocalDateTime.now())
+                .build();
     }
 }
@@ -0,0 +1,92 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import com.tjoeun.boxmon.feature.location.util.LocationChunk;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class LiveLocationRegistryTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final LiveLocationRegistry registry = new LiveLocationRegistry(
+            jdbcTemplate, new SimpleMeterRegistry(), Duration.ofMinutes(30));
+
+    @Test
+    @DisplayName("청크의 마지막 두 좌표로 방위각과 속도를 계산한다")
+    void update_derivesHeadingAndSpeedFromChunk() {
+        long start = Instant.parse("2025-03-01T01:00:00Z").toEpochMilli();
+        // 북쪽으로 위도 0.01도(약 1.11km)를 60초에 이동
+        LocationChunk chunk = new LocationChunk(
+                new double[]{37.50, 37.51},
+                new double[]{127.0, 127.0},
+                new long[]{start, start + 60_000});
+
+        registry.update(1L, chunk);
+
+        LivePosition position = registry.find(1L).orElseThrow();
+        assertEquals(37.51, position.lat(), 1e-9);
+        assertEquals(0.0, position.headingDegrees(), 0.01);
+        assertEquals(66.7, position.speedKmh(), 0.5);
+    }
+
+    @Test
+    @DisplayName("단일 좌표 청크는 저장된 이전 위치와 비교하고, 늦게 도착한 과거 청크는 무시한다")
+    void update_usesPreviousPositionAndIgnoresStaleChunk() {
+        long start = Instant.parse("2025-03-01T01:00:00Z").toEpochMilli();
+        registry.update(2L, new LocationChunk(new double[]{37.5}, new double[]{127.0}, new long[]{start}));
+        assertNull(registry.find(2L).orElseThrow().speedKmh());
+
+        registry.update(2L, new LocationChunk(new double[]{37.5}, new double[]{127.01}, new long[]{start + 60_000}));
+        LivePosition moved = registry.find(2L).orElseThrow();
+        assertNotNull(moved.speedKmh());
+        assertEquals(90.0, moved.headingDegrees(), 0.1);
+
+        registry.update(2L, new LocationChunk(new double[]{37.0}, new double[]{126.0}, new long[]{start + 30_000}));
+        assertEquals(127.01, registry.find(2L).orElseThrow().lng(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("종료된 배송은 항목을 정리하되 반영 전이던 마지막 위치는 측정 시각 조건과 함께 반영한다")
+    @SuppressWarnings("unchecked")
+    void remove_flushesPendingPositionWithRecordedAtGuard() {
+        long start = Instant.parse("2025-03-01T01:00:00Z").toEpochMilli();
+        registry.update(3L, new LocationChunk(new double[]{37.5}, new double[]{127.0}, new long[]{start}));
+
+        registry.remove(3L);
+        assertTrue(registry.find(3L).isEmpty());
+
+        registry.persist();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Collection<Map.Entry<Long, LivePosition>>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), batch.capture(), eq(1), any(ParameterizedPreparedStatementSetter.class));
+        assertTrue(sql.getValue().contains("current_location_at < ?"));
+        Map.Entry<Long, LivePosition> entry = batch.getValue().iterator().next();
+        assertEquals(3L, entry.getKey());
+        // 오프셋 없는 시각과 같은 기준(Asia/Seoul)으로 해석
+        assertEquals(LocalDateTime.of(2025, 3, 1, 10, 0), entry.getValue().recordedAt());
+
+        registry.persist();
+        verify(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+}
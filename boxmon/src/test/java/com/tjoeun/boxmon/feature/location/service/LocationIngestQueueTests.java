@@ -0,0 +1,75 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocationIngestQueueTests {
+
+    private static final long POISON_SHIPMENT_ID = 99L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LocationIngestQueue queue = new LocationIngestQueue(
+            jdbcTemplate, mock(PlatformTransactionManager.class), meterRegistry, 100, 10);
+    private final List<Long> written = new ArrayList<>();
+
+    @Test
+    @DisplayName("배치에 적재할 수 없는 행이 섞이면 행 단위로 다시 적재해 해당 행만 버린다")
+    void flush_poisonRow_shouldOnlyRejectThatRow() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<PendingLocationChunk> chunks = invocation.getArgument(1);
+                    if (chunks.stream().anyMatch(chunk -> chunk.shipmentId() == POISON_SHIPMENT_ID)) {
+                        throw new DataIntegrityViolationException("FK violation");
+                    }
+                    chunks.forEach(chunk -> written.add(chunk.shipmentId()));
+                    return new int[0][];
+                });
+
+        queue.enqueue(chunk(1L));
+        queue.enqueue(chunk(POISON_SHIPMENT_ID));
+        queue.enqueue(chunk(2L));
+        queue.flush();
+
+        assertEquals(List.of(1L, 2L), written);
+        assertEquals(1.0, meterRegistry.get("location.ingest.rejected").counter().count());
+        assertEquals(0.0, meterRegistry.get("location.ingest.queue.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("연결 실패처럼 일시적인 오류는 행을 버리지 않고 다음 주기에 재시도한다")
+    void flush_transientFailure_shouldRequeueBatch() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        queue.enqueue(chunk(1L));
+        queue.enqueue(chunk(2L));
+        queue.flush();
+
+        assertEquals(0.0, meterRegistry.get("location.ingest.rejected").counter().count());
+        assertEquals(2.0, meterRegistry.get("location.ingest.queue.size").gauge().value());
+    }
+
+    private PendingLocationChunk chunk(Long shipmentId) {
+        return new PendingLocationChunk(shipmentId, 10L, 20L, "[]", null, LocalDateTime.of(2026, 3, 1, 9, 0), 0);
+    }
+}
@@ -0,0 +1,98 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import com.tjoeun.boxmon.feature.location.repository.LocationLogRepository;
+import com.tjoeun.boxmon.feature.location.repository.projection.LocationChunkRow;
+import com.tjoeun.boxmon.feature.location.repository.projection.LocationCompactionCandidate;
+import com.tjoeun.boxmon.feature.location.util.LocationChunk;
+import com.tjoeun.boxmon.feature.location.util.LocationChunkCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationLogCompactorTests {
+
+    @InjectMocks
+    private LocationLogCompactor compactor;
+
+    @Mock
+    private LocationLogRepository locationLogRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("직선 위의 중간 점을 제거한 보관 행 1개로 합치고 원본 청크를 삭제한다")
+    void compact_replacesChunksWithSimplifiedArchive() {
+        long shipmentId = 7L;
+        LocalDateTime firstCreatedAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        LocationCompactionCandidate candidate = candidate(shipmentId, firstCreatedAt, 20L);
+        byte[] first = LocationChunkCodec.encode(new LocationChunk(
+                new double[]{37.50, 37.51}, new double[]{127.0, 127.0}, new long[]{1_000L, 2_000L}));
+        byte[] second = LocationChunkCodec.encode(new LocationChunk(
+                new double[]{37.52}, new double[]{127.0}, new long[]{3_000L}));
+
+        when(locationLogRepository.streamChunksByShipmentId(shipmentId)).thenReturn(Stream.of(
+                new LocationChunkRow(10L, null, first),
+                new LocationChunkRow(20L, null, second),
+                new LocationChunkRow(21L, null, second)
+        ));
+
+        int[] result = compactor.compact(candidate, 10.0);
+
+        assertArrayEquals(new int[]{3, 2}, result);
+        verify(locationLogRepository).deleteChunksUpTo(shipmentId, 20L);
+        ArgumentCaptor<byte[]> archive = ArgumentCaptor.forClass(byte[].class);
+        verify(jdbcTemplate).update(anyString(), eq(shipmentId), eq(70L), eq(700L), archive.capture(),
+                eq(Timestamp.valueOf(firstCreatedAt)));
+        LocationChunk archived = LocationChunkCodec.decode(archive.getValue());
+        assertEquals(2, archived.size());
+        assertEquals(3_000L, archived.epochMillisAt(1));
+    }
+
+    @Test
+    @DisplayName("바이너리로 변환되지 않은 청크가 남아 있으면 원본을 유지한다")
+    void compact_skipsShipmentWithLegacyChunk() {
+        long shipmentId = 8L;
+        LocationCompactionCandidate candidate = candidate(shipmentId, LocalDateTime.of(2025, 1, 1, 9, 0), 30L);
+        when(locationLogRepository.streamChunksByShipmentId(shipmentId)).thenReturn(Stream.of(
+                new LocationChunkRow(30L, "[{\"lat\":37.5,\"lng\":127.0,\"at\":\"bad\"}]", null)
+        ));
+
+        assertNull(compactor.compact(candidate, 10.0));
+        verify(locationLogRepository, never()).deleteChunksUpTo(anyLong(), anyLong());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    private LocationCompactionCandidate candidate(long shipmentId, LocalDateTime firstCreatedAt, long lastLocationId) {
+        LocationCompactionCandidate candidate = mock(LocationCompactionCandidate.class);
+        lenient().when(candidate.getShipmentId()).thenReturn(shipmentId);
+        lenient().when(candidate.getShipperId()).thenReturn(shipmentId * 10);
+        lenient().when(candidate.getDriverId()).thenReturn(shipmentId * 100);
+        lenient().when(candidate.getFirstCreatedAt()).thenReturn(firstCreatedAt);
+        lenient().when(candidate.getLastLocationId()).thenReturn(lastLocationId);
+        return candidate;
+    }
+}
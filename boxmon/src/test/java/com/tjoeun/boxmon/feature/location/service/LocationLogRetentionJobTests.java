@@ -0,0 +1,49 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import com.tjoeun.boxmon.feature.location.repository.LocationLogRepository;
+import com.tjoeun.boxmon.feature.location.repository.projection.LocationCompactionCandidate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocationLogRetentionJobTests {
+
+    private final LocationLogRepository locationLogRepository = mock(LocationLogRepository.class);
+    private final LocationLogCompactor locationLogCompactor = mock(LocationLogCompactor.class);
+    private final SimplifiedRouteCache simplifiedRouteCache = mock(SimplifiedRouteCache.class);
+    private final LocationLogRetentionJob job = new LocationLogRetentionJob(
+            locationLogRepository, locationLogCompactor, simplifiedRouteCache, true, Duration.ofDays(30), 10.0, 2);
+
+    @Test
+    @DisplayName("압축하지 못하고 건너뛴 건이 한 배치를 채워도 다음 shipment_id부터 이어서 처리한다")
+    void compactExpired_skippedCandidates_shouldNotBlockLaterShipments() {
+        LocationCompactionCandidate legacy1 = candidate(1L);
+        LocationCompactionCandidate legacy2 = candidate(2L);
+        LocationCompactionCandidate convertible = candidate(3L);
+        when(locationLogRepository.findCompactionCandidates(eq(0L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(legacy1, legacy2));
+        when(locationLogRepository.findCompactionCandidates(eq(2L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(convertible));
+        when(locationLogCompactor.compact(eq(convertible), anyDouble())).thenReturn(new int[]{10, 2});
+
+        job.compactExpired();
+
+        verify(simplifiedRouteCache).evict(3L);
+    }
+
+    private LocationCompactionCandidate candidate(Long shipmentId) {
+        LocationCompactionCandidate candidate = mock(LocationCompactionCandidate.class);
+        when(candidate.getShipmentId()).thenReturn(shipmentId);
+        return candidate;
+    }
+}
@@ -0,0 +1,225 @@
+package com.tjoeun.boxmon.feature.location.service;
+
+import com.tjoeun.boxmon.exception.LocationDataCorruptedException;
+import com.tjoeun.boxmon.exception.RoleAccessDeniedException;
+import com.tjoeun.boxmon.feature.admin.repository.AdminRepository;
+import com.tjoeun.boxmon.feature.location.dto.LocationLogRequest;
+import com.tjoeun.boxmon.feature.location.dto.LocationRouteResponse;
+import com.tjoeun.boxmon.feature.location.repository.LocationLogRepository;
+import com.tjoeun.boxmon.feature.location.repository.projection.LocationChunkRow;
+import com.tjoeun.boxmon.feature.location.util.LocationChunk;
+import com.tjoeun.boxmon.feature.location.util.LocationChunkCodec;
+import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
+import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
+import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.ShipmentParticipants;
+import com.tjoeun.boxmon.feature.shipment.service.RemainingEtaService;
+import com.tjoeun.boxmon.feature.user.domain.Shipper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationLogServiceImplTests {
+
+    @InjectMocks
+    private LocationLogServiceImpl locationLogService;
+
+    @Mock
+    private LocationLogRepository locationLogRepository;
+
+    @Mock
+    private ShipmentRepository shipmentRepository;
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    @Mock
+    private SimplifiedRouteCache simplifiedRouteCache;
+
+    @Mock
+    private LocationIngestQueue locationIngestQueue;
+
+    @Mock
+    private LiveLocationRegistry liveLocationRegistry;
+
+    @Mock
+    private LiveLocationPublisher liveLocationPublisher;
+
+    @Mock
+    private RemainingEtaService remainingEtaService;
+
+    @Test
+    @DisplayName("경로 스트리밍은 바이너리/JSON 청크를 한 줄에 한 점씩 NDJSON으로 쓰고 maxPoints에서 끊는다")
+    void streamRoute_writesNdjsonAndTruncates() throws Exception {
+        long shipmentId = 1L;
+        long shipperId = 10L;
+        Shipper shipper = mock(Shipper.class);
+        when(shipper.getShipperId()).thenReturn(shipperId);
+        Shipment shipment = new Shipment();
+        shipment.setShipper(shipper);
+
+        byte[] binary = LocationChunkCodec.encode(new LocationChunk(
+                new double[]{37.5, 37.6},
+                new double[]{127.0, 127.1},
+                new long[]{0L, 1_000L}));
+        String json = "[{\"lat\":37.7,\"lng\":127.2,\"at\":\"1970-01-01T00:00:02Z\"}," +
+                "{\"lat\":37.8,\"lng\":127.3,\"at\":\"1970-01-01T00:00:03Z\"}]";
+
+        when(shipmentRepository.findById(shipmentId)).thenReturn(Optional.of(shipment));
+        when(locationLogRepository.streamChunksByShipmentId(shipmentId)).thenReturn(Stream.of(
+                new LocationChunkRow(100L, null, binary),
+                new LocationChunkRow(101L, json, null)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        locationLogService.streamRoute(shipperId, shipmentId, null, null, 3, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("{\"type\":\"point\",\"lat\":37.5,\"lng\":127.0,\"at\":\"1970-01-01T00:00:00Z\"}", lines[0]);
+        assertTrue(lines[2].contains("\"lat\":37.7"));
+        assertEquals("{\"type\":\"end\",\"shipmentId\":1,\"pointCount\":3,\"truncated\":true}", lines[3]);
+    }
+
+    @Test
+    @DisplayName("위치 저장은 배차된 차주인지 확인한 뒤 실시간 위치를 갱신·전파하고 바이너리 청크를 적재 큐에 넣는다")
+    void saveLocationLog_enqueuesEncodedChunk() {
+        long shipmentId = 3L;
+        long driverId = 30L;
+        LocationLogRequest request = LocationLogRequest.builder()
+                .shipmentId(shipmentId)
+                .locationChunk("[{\"lat\":37.5,\"lng\":127.0,\"at\":\"2025-03-01T01:00:00Z\"}," +
+                        "{\"lat\":37.6,\"lng\":127.1,\"at\":\"2025-03-01T01:00:05Z\"}]")
+                .build();
+        ArgumentCaptor<PendingLocationChunk> captor = ArgumentCaptor.forClass(PendingLocationChunk.class);
+        LivePosition position = new LivePosition(37.6, 127.1, LocalDateTime.of(2025, 3, 1, 10, 0, 5), 40.0, 30.0);
+
+        when(shipmentRepository.findParticipantsById(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 300L, driverId, ShipmentStatus.IN_TRANSIT)));
+        when(liveLocationRegistry.update(eq(shipmentId), any(LocationChunk.class))).thenReturn(Optional.of(position));
+
+        locationLogService.saveLocationLog(driverId, request);
+
+        verify(locationIngestQueue).enqueue(captor.capture());
+        PendingLocationChunk pending = captor.getValue();
+        assertEquals(300L, pending.shipperId());
+        assertNull(pending.locationData());
+        assertEquals(2, LocationChunkCodec.decode(pending.locationBinary()).size());
+        verify(liveLocationPublisher).publish(shipmentId, position);
+        verify(remainingEtaService).onLocationUpdate(shipmentId, 37.6, 127.1);
+    }
+
+    @Test
+    @DisplayName("바이너리로 나타낼 수 없는 1970년 이전 시각이 있으면 업로드를 거부하지 않고 원본 JSON으로 적재한다")
+    void saveLocationLog_preEpochTime_fallsBackToJson() {
+        long shipmentId = 5L;
+        long driverId = 50L;
+        String json = "[{\"lat\":37.5,\"lng\":127.0,\"at\":\"1969-12-31T23:59:59Z\"}]";
+        LocationLogRequest request = LocationLogRequest.builder()
+                .shipmentId(shipmentId)
+                .locationChunk(json)
+                .build();
+        ArgumentCaptor<PendingLocationChunk> captor = ArgumentCaptor.forClass(PendingLocationChunk.class);
+
+        when(shipmentRepository.findParticipantsById(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 500L, driverId, ShipmentStatus.IN_TRANSIT)));
+
+        locationLogService.saveLocationLog(driverId, request);
+
+        verify(locationIngestQueue).enqueue(captor.capture());
+        assertEquals(json, captor.getValue().locationData());
+        assertNull(captor.getValue().locationBinary());
+    }
+
+    @Test
+    @DisplayName("손상된 바이너리 청크는 빈 경로로 대신하지 않고 오류로 알린다")
+    void getRoute_corruptedBinary_shouldFail() {
+        long shipmentId = 6L;
+        long shipperId = 60L;
+        Shipper shipper = mock(Shipper.class);
+        when(shipper.getShipperId()).thenReturn(shipperId);
+        Shipment shipment = new Shipment();
+        shipment.setShipper(shipper);
+
+        when(shipmentRepository.findById(shipmentId)).thenReturn(Optional.of(shipment));
+        when(locationLogRepository.streamChunksByShipmentId(shipmentId))
+                .thenReturn(Stream.of(new LocationChunkRow(600L, null, new byte[]{LocationChunkCodec.VERSION, 5})));
+
+        assertThrows(LocationDataCorruptedException.class,
+                () -> locationLogService.getRoute(shipperId, shipmentId, null, null, 10, null));
+    }
+
+    @Test
+    @DisplayName("배차되지 않은 차주의 위치 전송은 거부한다")
+    void saveLocationLog_rejectsOtherDriver() {
+        long shipmentId = 4L;
+        LocationLogRequest request = LocationLogRequest.builder()
+                .shipmentId(shipmentId)
+                .locationChunk("[]")
+                .build();
+
+        when(shipmentRepository.findParticipantsById(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 300L, 31L, ShipmentStatus.IN_TRANSIT)));
+
+        assertThrows(RoleAccessDeniedException.class, () -> locationLogService.saveLocationLog(30L, request));
+        verifyNoInteractions(locationIngestQueue, liveLocationRegistry, liveLocationPublisher);
+    }
+
+    @Test
+    @DisplayName("경로 조회 시 maxPoints를 넘으면 끝을 자르지 않고 단순화하며 완료 건은 캐시에 저장한다")
+    void getRoute_simplifiesInsteadOfTruncating() {
+        long shipmentId = 2L;
+        long shipperId = 20L;
+        Shipper shipper = mock(Shipper.class);
+        when(shipper.getShipperId()).thenReturn(shipperId);
+        Shipment shipment = new Shipment();
+        shipment.setShipper(shipper);
+        shipment.setShipmentStatus(ShipmentStatus.DONE);
+
+        int size = 100;
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        long[] times = new long[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = 37.5 + i * 0.0001;
+            lngs[i] = 127.0 + (i % 2) * 0.00001;
+            times[i] = i * 1_000L;
+        }
+        byte[] binary = LocationChunkCodec.encode(new LocationChunk(lats, lngs, times));
+
+        when(shipmentRepository.findById(shipmentId)).thenReturn(Optional.of(shipment));
+        when(simplifiedRouteCache.get(shipmentId, null, 10)).thenReturn(Optional.empty());
+        when(locationLogRepository.streamChunksByShipmentId(shipmentId))
+                .thenReturn(Stream.of(new LocationChunkRow(200L, null, binary)));
+
+        LocationRouteResponse response = locationLogService.getRoute(shipperId, shipmentId, null, null, 10, null);
+
+        assertEquals(10, response.getPointCount());
+        assertEquals(100, response.getOriginalPointCount());
+        assertTrue(response.isSimplified());
+        assertEquals(37.5, response.getPoints().get(0).getLat(), 1e-9);
+        assertEquals(lats[size - 1], response.getPoints().get(9).getLat(), 1e-9);
+        verify(simplifiedRouteCache).put(shipmentId, null, 10, response);
+    }
+}
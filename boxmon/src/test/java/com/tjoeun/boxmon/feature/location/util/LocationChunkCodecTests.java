@@ -0,0 +1,107 @@
+package com.tjoeun.boxmon.feature.location.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocationChunkCodecTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("바이너리 인코딩 후 디코딩하면 좌표(1e-7도)와 시각이 그대로 복원된다")
+    void encodeDecode_roundTrip() {
+        long base = Instant.parse("2025-03-01T01:00:00Z").toEpochMilli();
+        LocationChunk original = new LocationChunk(
+                new double[]{37.5665123, 37.5664001, -33.8688197},
+                new double[]{126.9780456, 126.9781999, 151.2092955},
+                new long[]{base, base + 1_000, base + 500}
+        );
+
+        byte[] encoded = LocationChunkCodec.encode(original);
+        LocationChunk decoded = LocationChunkCodec.decode(encoded);
+
+        assertEquals(3, decoded.size());
+        for (int i = 0; i < original.size(); i++) {
+            assertEquals(original.latAt(i), decoded.latAt(i), 1e-7);
+            assertEquals(original.lngAt(i), decoded.lngAt(i), 1e-7);
+            assertEquals(original.epochMillisAt(i), decoded.epochMillisAt(i));
+        }
+    }
+
+    @Test
+    @DisplayName("빈 청크도 인코딩/디코딩할 수 있다")
+    void encodeDecode_empty() {
+        LocationChunk decoded = LocationChunkCodec.decode(LocationChunkCodec.encode(LocationChunk.empty()));
+
+        assertTrue(decoded.isEmpty());
+    }
+
+    @Test
+    @DisplayName("JSON 청크의 ISO 시각/숫자 좌표를 배열로 변환하고 좌표 없는 점은 건너뛴다")
+    void parseJson_convertsPoints() throws Exception {
+        String json = "[{\"lat\":37.5,\"lng\":127.0,\"at\":\"2025-03-01T10:00:00+09:00\"}," +
+                "{\"lat\":\"37.6\",\"lng\":127.1,\"at\":\"2025-03-01T01:00:05Z\"}," +
+                "{\"lng\":127.2,\"at\":\"2025-03-01T01:00:10Z\"}]";
+
+        LocationChunk chunk = LocationChunkJsonParser.parse(objectMapper, json).orElseThrow();
+
+        assertEquals(2, chunk.size());
+        assertEquals(37.6, chunk.latAt(1), 1e-9);
+        assertEquals(Instant.parse("2025-03-01T01:00:00Z").toEpochMilli(), chunk.epochMillisAt(0));
+        assertEquals("2025-03-01T01:00:05Z", LocationChunkJsonParser.formatEpochMillis(chunk.epochMillisAt(1), false));
+    }
+
+    @Test
+    @DisplayName("시각을 해석할 수 없는 점이 있으면 변환하지 않는다")
+    void parseJson_returnsEmptyWhenTimestampUnknown() throws Exception {
+        Optional<LocationChunk> chunk = LocationChunkJsonParser.parse(objectMapper,
+                "[{\"lat\":37.5,\"lng\":127.0,\"at\":\"어제 오후\"}]");
+
+        assertTrue(chunk.isEmpty());
+    }
+
+    @Test
+    @DisplayName("원문과 같게 복원되는 청크만 바이너리로 만들고, 밀리초 3자리 시각 표기도 그대로 복원한다")
+    void encodeLossless_roundTripsExactJson() throws Exception {
+        String json = "[{\"lat\":37.5665123,\"lng\":126.978,\"at\":\"2025-03-01T01:00:00.000Z\"}," +
+                "{\"lat\":37.5664,\"lng\":126.9781999,\"at\":\"2025-03-01T01:00:01.250Z\"}]";
+
+        LocationChunk chunk = LocationChunkJsonParser.parse(objectMapper, json).orElseThrow();
+        byte[] binary = LocationChunkJsonParser.encodeLossless(chunk, json).orElseThrow();
+
+        assertEquals(json, LocationChunkJsonParser.render(LocationChunkCodec.decode(binary)));
+    }
+
+    @Test
+    @DisplayName("추가 필드, 오프셋 시각, 정수 시각이 있으면 원문을 복원할 수 없으므로 바이너리로 만들지 않는다")
+    void encodeLossless_rejectsLossyChunks() throws Exception {
+        for (String json : new String[]{
+                "[{\"lat\":37.5,\"lng\":127.0,\"at\":\"2025-03-01T01:00:00Z\",\"speed\":12.5}]",
+                "[{\"lat\":37.5,\"lng\":127.0,\"at\":\"2025-03-01T10:00:00+09:00\"}]",
+                "[{\"lat\":37.5,\"lng\":127.0,\"at\":1740790800000}]",
+                "[{\"lat\":37.5,\"lng\":127.0,\"at\":\"1969-12-31T23:59:59Z\"}]"}) {
+            LocationChunk chunk = LocationChunkJsonParser.parse(objectMapper, json).orElseThrow();
+
+            assertTrue(LocationChunkJsonParser.encodeLossless(chunk, json).isEmpty(), json);
+        }
+    }
+
+    @Test
+    @DisplayName("이전 버전(1) 바이너리 청크도 디코딩한다")
+    void decode_version1() {
+        // version=1, count=1, time=1000, lat=1e-7도, lng=2e-7도
+        LocationChunk decoded = LocationChunkCodec.decode(new byte[]{1, 1, (byte) 0xE8, 0x07, 2, 4});
+
+        assertEquals(1_000L, decoded.epochMillisAt(0));
+        assertEquals(1e-7, decoded.latAt(0), 1e-12);
+        assertFalse(decoded.fixedMillis());
+    }
+}
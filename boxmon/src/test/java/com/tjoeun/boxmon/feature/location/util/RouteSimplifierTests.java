@@ -0,0 +1,38 @@
+package com.tjoeun.boxmon.feature.location.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RouteSimplifierTests {
+
+    // 직선 북상 후 동쪽으로 꺾이는 L자 경로 (꼭짓점 index 50)
+    private final double[] lats = new double[101];
+    private final double[] lngs = new double[101];
+
+    {
+        for (int i = 0; i <= 100; i++) {
+            lats[i] = 37.5 + Math.min(i, 50) * 0.0001;
+            lngs[i] = 127.0 + Math.max(0, i - 50) * 0.0001;
+        }
+    }
+
+    @Test
+    @DisplayName("Douglas–Peucker는 직선 위의 점을 제거하고 시작/꺾임/끝 점만 남긴다")
+    void douglasPeucker_keepsCorners() {
+        int[] kept = RouteSimplifier.douglasPeucker(lats, lngs, RouteSimplifier.identity(101), 1.0);
+
+        assertArrayEquals(new int[]{0, 50, 100}, kept);
+    }
+
+    @Test
+    @DisplayName("Visvalingam은 목표 개수로 줄이면서 시작/꺾임/끝 점을 유지한다")
+    void visvalingam_reducesToTargetKeepingShape() {
+        int[] kept = RouteSimplifier.visvalingam(lats, lngs, RouteSimplifier.identity(101), 3);
+
+        assertEquals(3, kept.length);
+        assertArrayEquals(new int[]{0, 50, 100}, kept);
+    }
+}
@@ -0,0 +1,32 @@
+package com.tjoeun.boxmon.feature.notification.service;
+
+import com.tjoeun.boxmon.feature.notification.domain.DevicePlatform;
+import com.tjoeun.boxmon.feature.notification.repository.DeviceTokenRepository;
+import com.tjoeun.boxmon.feature.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+class DeviceTokenServiceTests {
+
+    private final DeviceTokenRepository deviceTokenRepository = mock(DeviceTokenRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final DeviceTokenService service = new DeviceTokenService(deviceTokenRepository, userRepository);
+
+    @Test
+    @DisplayName("다른 계정이 쓰던 기기 토큰을 등록하면 이전 소유자의 단일 토큰 컬럼에서도 지운다")
+    void register_tokenMovedBetweenAccounts_shouldClearPreviousOwnerLegacyToken() {
+        service.register(2L, " shared-token ", DevicePlatform.ANDROID);
+
+        InOrder order = inOrder(deviceTokenRepository, userRepository);
+        order.verify(deviceTokenRepository).upsert(eq(2L), eq("shared-token"), eq("ANDROID"), any(LocalDateTime.class));
+        order.verify(userRepository).clearDeviceTokenOfOtherUsers("shared-token", 2L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.tjoeun.boxmon.feature.notification.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import com.tjoeun.boxmon.feature.notification.service.NotificationOutboxStore.DeliveryResult;
+import com.tjoeun.boxmon.feature.notification.service.NotificationOutboxStore.OutboxMessage;
+import com.tjoeun.boxmon.feature.notification.service.NotificationOutboxStore.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationOutboxDispatcherTests {
+
+    private final DeviceTokenService deviceTokenService = mock(DeviceTokenService.class);
+    private final List<SendResponse> responses = new ArrayList<>();
+    private final NotificationOutboxDispatcher dispatcher = new NotificationOutboxDispatcher(
+            mock(NotificationOutboxStore.class), deviceTokenService, new SimpleMeterRegistry(), 10) {
+        @Override
+        BatchResponse sendEach(List<Message> messages) {
+            BatchResponse batchResponse = mock(BatchResponse.class);
+            when(batchResponse.getResponses()).thenReturn(responses.subList(0, messages.size()));
+            return batchResponse;
+        }
+    };
+
+    @Test
+    @DisplayName("한 기기라도 받으면 발송 성공으로 보고, 무효 토큰은 정리한다")
+    void send_anyDeviceSucceeded_shouldMarkSentAndPruneStaleToken() {
+        responses.add(failure(MessagingErrorCode.UNREGISTERED));
+        responses.add(success("projects/boxmon/messages/1"));
+
+        List<DeliveryResult> results = dispatcher.send(List.of(message(1L, "stale-token", "live-token")));
+
+        assertEquals(1, results.size());
+        assertEquals(Outcome.SENT, results.get(0).outcome());
+        assertEquals("projects/boxmon/messages/1", results.get(0).firebaseMessageId());
+        verify(deviceTokenService).prune(Set.of("stale-token"));
+    }
+
+    @Test
+    @DisplayName("모든 기기가 실패했을 때 일시적 오류가 있으면 재시도한다")
+    void send_allFailedWithTransientError_shouldRetry() {
+        responses.add(failure(MessagingErrorCode.UNAVAILABLE));
+        responses.add(failure(MessagingErrorCode.SENDER_ID_MISMATCH));
+
+        List<DeliveryResult> results = dispatcher.send(List.of(message(2L, "token-a", "token-b")));
+
+        assertEquals(Outcome.RETRY, results.get(0).outcome());
+        verify(deviceTokenService, never()).prune(any());
+    }
+
+    @Test
+    @DisplayName("등록된 기기가 없으면 FCM을 호출하지 않고 실패 처리한다")
+    void send_noDevice_shouldFail() {
+        List<DeliveryResult> results = dispatcher.send(List.of(message(3L)));
+
+        assertEquals(Outcome.FAILED, results.get(0).outcome());
+    }
+
+    private OutboxMessage message(Long notificationId, String... deviceTokens) {
+        return new OutboxMessage(notificationId, List.of(deviceTokens), "title", "body", Map.of("shipmentId", "100"));
+    }
+
+    private SendResponse success(String messageId) {
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(true);
+        when(response.getMessageId()).thenReturn(messageId);
+        return response;
+    }
+
+    private SendResponse failure(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
+    }
+}
@@ -0,0 +1,111 @@
+package com.tjoeun.boxmon.feature.notification.service;
+
+import com.tjoeun.boxmon.feature.notification.domain.NotificationDeliveryStatus;
+import com.tjoeun.boxmon.feature.notification.domain.NotificationLog;
+import com.tjoeun.boxmon.feature.notification.repository.NotificationRepository;
+import com.tjoeun.boxmon.feature.notification.service.NotificationOutboxStore.DeliveryResult;
+import com.tjoeun.boxmon.feature.notification.service.NotificationOutboxStore.OutboxMessage;
+import com.tjoeun.boxmon.feature.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NotificationOutboxStoreTests {
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final DeviceTokenService deviceTokenService = mock(DeviceTokenService.class);
+    private final NotificationOutboxStore store = new NotificationOutboxStore(
+            notificationRepository, deviceTokenService, Duration.ofMinutes(1), 3, Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("일시적 오류는 지수 백오프로 다시 예약하고, 재시도 한도에 도달하면 실패 처리한다")
+    void complete_retry_shouldBackOffThenFail() {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 10, 0);
+        NotificationLog notificationLog = pending(1L, now);
+        when(notificationRepository.findAllById(anyList())).thenReturn(List.of(notificationLog));
+
+        store.complete(List.of(DeliveryResult.retry(1L)), now);
+        assertEquals(now.plusSeconds(5), notificationLog.getNextAttemptAt());
+
+        store.complete(List.of(DeliveryResult.retry(1L)), now);
+        assertEquals(now.plusSeconds(10), notificationLog.getNextAttemptAt());
+        assertEquals(NotificationDeliveryStatus.PENDING, notificationLog.getDeliveryStatus());
+
+        store.complete(List.of(DeliveryResult.retry(1L)), now);
+        assertEquals(NotificationDeliveryStatus.FAILED, notificationLog.getDeliveryStatus());
+        assertEquals(3, notificationLog.getAttempts());
+        assertNull(notificationLog.getNextAttemptAt());
+    }
+
+    @Test
+    @DisplayName("발송 성공 시 FCM 메시지 ID와 발송 시각을 기록한다")
+    void complete_sent_shouldRecordMessageId() {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 10, 0);
+        NotificationLog notificationLog = pending(2L, now);
+        when(notificationRepository.findAllById(anyList())).thenReturn(List.of(notificationLog));
+
+        store.complete(List.of(DeliveryResult.sent(2L, "projects/boxmon/messages/1")), now);
+
+        assertEquals(NotificationDeliveryStatus.SENT, notificationLog.getDeliveryStatus());
+        assertEquals("projects/boxmon/messages/1", notificationLog.getFirebaseMessageId());
+        assertEquals(now, notificationLog.getDeliveredAt());
+    }
+
+    @Test
+    @DisplayName("다른 계정 기기로 옮겨 등록된 토큰은 이전 소유자의 단일 토큰으로 대체 발송하지 않는다")
+    void claim_legacyTokenMovedToOtherUser_shouldNotFallBack() {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 10, 0);
+        User previousOwner = mock(User.class);
+        when(previousOwner.getDeviceToken()).thenReturn("shared-token");
+        NotificationLog notificationLog = NotificationLog.builder()
+                .target(previousOwner)
+                .notificationTitle("title")
+                .notificationContent("body")
+                .extraData("{}")
+                .sentAt(now)
+                .deliveryStatus(NotificationDeliveryStatus.PENDING)
+                .nextAttemptAt(now)
+                .build();
+        ReflectionTestUtils.setField(notificationLog, "notificationId", 3L);
+        ReflectionTestUtils.setField(notificationLog, "targetId", 1L);
+        when(notificationRepository.lockDueOutboxIds(now, 10)).thenReturn(List.of(3L));
+        when(notificationRepository.findWithTargetByNotificationIdIn(List.of(3L))).thenReturn(List.of(notificationLog));
+        when(deviceTokenService.findOwnersByTokens(List.of("shared-token"))).thenReturn(Map.of("shared-token", 2L));
+
+        List<OutboxMessage> messages = store.claim(10, now);
+
+        assertTrue(messages.get(0).deviceTokens().isEmpty());
+    }
+
+    @Test
+    @DisplayName("백오프는 최대값을 넘지 않는다")
+    void backoff_shouldBeCapped() {
+        assertEquals(Duration.ofSeconds(5), store.backoff(1));
+        assertEquals(Duration.ofSeconds(20), store.backoff(3));
+        assertEquals(Duration.ofSeconds(30), store.backoff(10));
+    }
+
+    private NotificationLog pending(Long notificationId, LocalDateTime now) {
+        NotificationLog notificationLog = NotificationLog.builder()
+                .notificationTitle("title")
+                .notificationContent("body")
+                .sentAt(now)
+                .deliveryStatus(NotificationDeliveryStatus.PENDING)
+                .nextAttemptAt(now)
+                .build();
+        ReflectionTestUtils.setField(notificationLog, "notificationId", notificationId);
+        return notificationLog;
+    }
+}
@@ -0,0 +1,66 @@
+package com.tjoeun.boxmon.feature.notification.service;
+
+import com.tjoeun.boxmon.feature.notification.domain.NotificationType;
+import com.tjoeun.boxmon.feature.notification.repository.NotificationPreferenceRepository;
+import com.tjoeun.boxmon.feature.notification.service.NotificationPreferenceService.PushPolicy;
+import com.tjoeun.boxmon.feature.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationPreferenceServiceTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final NotificationPreferenceRepository preferenceRepository = mock(NotificationPreferenceRepository.class);
+    private final NotificationPreferenceService service = new NotificationPreferenceService(
+            userRepository, preferenceRepository, new SimpleMeterRegistry(), "simple",
+            Duration.ofMinutes(10), Duration.ofSeconds(30), 100);
+
+    @Test
+    @DisplayName("수신 정책은 캐시되고, 무효화 후에는 다시 조회한다")
+    void findPolicy_shouldCacheUntilEvicted() {
+        when(userRepository.findPushEnabledByUserId(1L)).thenReturn(Optional.of(true));
+        when(preferenceRepository.findById(1L)).thenReturn(Optional.empty());
+
+        service.findPolicy(1L);
+        service.findPolicy(1L);
+        verify(userRepository, times(1)).findPushEnabledByUserId(1L);
+
+        service.evict(1L);
+        service.findPolicy(1L);
+        verify(userRepository, times(2)).findPushEnabledByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 방해금지 시간에는 푸시하지 않는다")
+    void allowsPush_quietHoursAcrossMidnight() {
+        PushPolicy policy = new PushPolicy(true, Set.of(), LocalTime.of(22, 0), LocalTime.of(7, 0));
+
+        assertFalse(policy.allowsPush(NotificationType.CHAT_MESSAGE, LocalTime.of(23, 30)));
+        assertFalse(policy.allowsPush(NotificationType.CHAT_MESSAGE, LocalTime.of(6, 59)));
+        assertTrue(policy.allowsPush(NotificationType.CHAT_MESSAGE, LocalTime.of(7, 0)));
+    }
+
+    @Test
+    @DisplayName("전체 수신을 끄거나 해당 종류를 끈 사용자에게는 푸시하지 않는다")
+    void allowsPush_disabledOrMuted() {
+        PushPolicy muted = new PushPolicy(true, Set.of(NotificationType.CHAT_MESSAGE), null, null);
+        PushPolicy disabled = new PushPolicy(false, Set.of(), null, null);
+
+        assertFalse(muted.allowsPush(NotificationType.CHAT_MESSAGE, LocalTime.NOON));
+        assertTrue(muted.allowsPush(NotificationType.TRANSPORT_STARTED, LocalTime.NOON));
+        assertFalse(disabled.allowsPush(NotificationType.TRANSPORT_STARTED, LocalTime.NOON));
+    }
+}
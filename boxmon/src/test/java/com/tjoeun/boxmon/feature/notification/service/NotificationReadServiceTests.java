@@ -0,0 +1,103 @@
+package com.tjoeun.boxmon.feature.notification.service;
+
+import com.tjoeun.boxmon.feature.notification.domain.NotificationDeliveryStatus;
+import com.tjoeun.boxmon.feature.notification.domain.NotificationLog;
+import com.tjoeun.boxmon.feature.notification.dto.NotificationInboxResponse;
+import com.tjoeun.boxmon.feature.notification.dto.NotificationResponse;
+import com.tjoeun.boxmon.feature.notification.mapper.NotificationLogMapper;
+import com.tjoeun.boxmon.feature.notification.repository.NotificationRepository;
+import com.tjoeun.boxmon.feature.notification.repository.NotificationUnreadCounterRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationReadServiceTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationUnreadCounterRepository unreadCounterRepository = mock(NotificationUnreadCounterRepository.class);
+    private final NotificationReadService service = new NotificationReadService(
+            notificationRepository, unreadCounterRepository, new NotificationLogMapper());
+
+    @Test
+    @DisplayName("키셋 조회는 한 건을 더 읽어 다음 페이지 여부와 커서를 돌려준다")
+    void getInbox_shouldReturnCursorOfLastRow() {
+        when(notificationRepository.findInboxBefore(eq(1L), eq(BASE), eq(50L), any(Pageable.class)))
+                .thenReturn(List.of(log(49L, 0), log(48L, 1), log(47L, 2)));
+
+        NotificationInboxResponse response = service.getInbox(1L, BASE, 50L, 2);
+
+        assertTrue(response.isHasMore());
+        assertEquals(List.of(49L, 48L), response.getNotifications().stream().map(NotificationResponse::getNotificationId).toList());
+        assertEquals(48L, response.getNextCursorId());
+        assertEquals(BASE.minusMinutes(1), response.getNextCursorSentAt());
+        assertFalse(response.getNotifications().get(0).isRead());
+    }
+
+    @Test
+    @DisplayName("커서 값 중 하나만 보내면 거부한다")
+    void getInbox_partialCursor_shouldFail() {
+        assertThrows(IllegalArgumentException.class, () -> service.getInbox(1L, BASE, null, null));
+    }
+
+    @Test
+    @DisplayName("최대치를 넘는 size는 거부하지 않고 최대치로 줄여 조회한다")
+    void getInbox_oversizedPage_shouldClampToMax() {
+        service.getInbox(1L, null, null, 500);
+
+        verify(notificationRepository).findInbox(1L, PageRequest.ofSize(101));
+        assertThrows(IllegalArgumentException.class, () -> service.getInbox(1L, null, null, 0));
+    }
+
+    @Test
+    @DisplayName("읽음 처리는 실제로 바뀐 건수만큼만 카운터를 줄인다")
+    void markRead_shouldDecrementByUpdatedRows() {
+        when(notificationRepository.markRead(eq(1L), eq(List.of(10L, 11L, 12L)), any(LocalDateTime.class))).thenReturn(2);
+        when(unreadCounterRepository.findById(1L)).thenReturn(Optional.empty());
+
+        service.markRead(1L, List.of(10L, 11L, 12L));
+
+        verify(unreadCounterRepository).decrement(1L, 2);
+    }
+
+    @Test
+    @DisplayName("바뀐 알림이 없으면 카운터를 건드리지 않는다")
+    void markRead_nothingUpdated_shouldNotTouchCounter() {
+        when(notificationRepository.markRead(eq(1L), any(), any(LocalDateTime.class))).thenReturn(0);
+
+        service.markRead(1L, List.of(10L));
+
+        verify(unreadCounterRepository, never()).decrement(anyLong(), anyLong());
+    }
+
+    private NotificationLog log(Long notificationId, int minutesAgo) {
+        NotificationLog notificationLog = NotificationLog.builder()
+                .notificationTitle("title")
+                .notificationContent("body")
+                .sentAt(BASE.minusMinutes(minutesAgo))
+                .deliveryStatus(NotificationDeliveryStatus.SENT)
+                .build();
+        ReflectionTestUtils.setField(notificationLog, "notificationId", notificationId);
+        ReflectionTestUtils.setField(notificationLog, "shipmentId", 100L);
+        return notificationLog;
+    }
+}
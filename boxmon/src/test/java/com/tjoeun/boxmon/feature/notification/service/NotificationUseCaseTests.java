@@ -1,6 +1,8 @@
 package com.tjoeun.boxmon.feature.notification.service;
 
+import com.tjoeun.boxmon.feature.notification.domain.NotificationType;
 import com.tjoeun.boxmon.feature.notification.repository.NotificationRepository;
+import com.tjoeun.boxmon.feature.shipment.domain.CargoType;
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
 import com.tjoeun.boxmon.feature.user.domain.Shipper;
@@ -14,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Optional;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -59,4 +62,23 @@ class NotificationUseCaseTests {
                 org.mockito.ArgumentMatchers.any()
         );
     }
+
+    @Test
+    @DisplayName("운송건 스냅샷을 넘기면 운송건을 다시 조회하지 않고 화주에게 발송한다.")
+    void notifyTransportStarted_withSnapshot_shouldNotReloadShipment() {
+        ShipmentNotificationSnapshot snapshot = new ShipmentNotificationSnapshot(
+                1L, 10L, 20L, "서울특별시 강남구 테헤란로 1", "부산광역시 해운대구 우동 1", CargoType.GENERAL);
+
+        notificationUseCase.notifyTransportStarted(snapshot);
+
+        verifyNoInteractions(shipmentRepository);
+        verify(notificationSender).send(
+                10L,
+                1L,
+                NotificationType.TRANSPORT_STARTED,
+                "운송이 시작되었습니다.",
+                "강남구 → 해운대구 일반 화물 운송이 시작되었습니다.",
+                null
+        );
+    }
 }
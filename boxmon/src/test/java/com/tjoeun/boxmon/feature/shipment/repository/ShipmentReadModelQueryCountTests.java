@@ -0,0 +1,138 @@
+package com.tjoeun.boxmon.feature.shipment.repository;
+
+import com.tjoeun.boxmon.feature.shipment.domain.CargoType;
+import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
+import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
+import com.tjoeun.boxmon.feature.shipment.dto.ShipmentListCursor;
+import com.tjoeun.boxmon.feature.shipment.mapper.ShipmentMapper;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.AdminShipmentListRow;
+import com.tjoeun.boxmon.feature.user.domain.Driver;
+import com.tjoeun.boxmon.feature.user.domain.Shipper;
+import com.tjoeun.boxmon.feature.user.domain.User;
+import com.tjoeun.boxmon.feature.user.domain.UserType;
+import com.tjoeun.boxmon.feature.user.domain.VehicleType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 목록/상세 읽기 모델 조회가 행 수와 무관하게 고정된 쿼리 수로 끝나는지 Hibernate 통계로 검증합니다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ShipmentReadModelQueryCountTests {
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+    private static final int SHIPMENT_COUNT = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ShipmentRepository shipmentRepository;
+
+    @Autowired
+    private ShipmentMapper shipmentMapper;
+
+    private Statistics statistics;
+    private Long lastShipmentId;
+
+    @BeforeEach
+    void setUp() {
+        Shipper shipper = new Shipper(persistUser("shipper", UserType.SHIPPER));
+        entityManager.persist(shipper);
+        Driver driver = new Driver(persistUser("driver", UserType.DRIVER));
+        entityManager.persist(driver);
+
+        for (int i = 0; i < SHIPMENT_COUNT; i++) {
+            Shipment shipment = baseShipment(shipper);
+            shipment.setShipmentStatus(ShipmentStatus.ASSIGNED);
+            shipment.setDriver(driver);
+            entityManager.persist(shipment);
+            lastShipmentId = shipment.getShipmentId();
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("관리자 배차 목록 한 페이지는 화주/기사 이름을 포함해 쿼리 1회로 조회된다")
+    void adminListPage_isSingleStatement() {
+        ShipmentListCursor cursor = ShipmentListCursor.from(null);
+
+        List<AdminShipmentListRow> rows = shipmentRepository.findAdminListPageByShipmentStatusNot(
+                ShipmentStatus.REQUESTED, cursor.createdAt(), cursor.shipmentId(), PageRequest.ofSize(21));
+        rows.forEach(row -> assertEquals("driver", row.driverName()));
+
+        assertTrue(rows.size() >= SHIPMENT_COUNT);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("상세 조회 매핑은 화주/기사 이름 접근 시 추가 지연 로딩이 발생하지 않는다")
+    void detailMapping_doesNotTriggerLazyLoads() {
+        Shipment shipment = shipmentRepository.findDetailById(lastShipmentId).orElseThrow();
+        var response = shipmentMapper.toDetailResponse(shipment, true, true);
+
+        assertEquals("shipper", response.getShipperName());
+        assertEquals("driver", response.getDriverName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private User persistUser(String name, UserType userType) {
+        User user = new User(
+                UUID.randomUUID() + "@boxmon.test", "password", name, "010-0000-0000",
+                LocalDate.of(1990, 1, 1), false, userType, null, "test-device-token", true, false
+        );
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Shipment baseShipment(Shipper shipper) {
+        return Shipment.builder()
+                .shipper(shipper)
+                .pickupAddress("서울특별시 중구 세종대로 110")
+                .pickupDesiredAt(LocalDateTime.now().plusDays(1))
+                .dropoffAddress("부산광역시 중구 중앙대로 120")
+                .dropoffDesiredAt(LocalDateTime.now().plusDays(2))
+                .price(BigDecimal.valueOf(100000))
+                .platformFee(BigDecimal.valueOf(10000))
+                .profit(BigDecimal.valueOf(90000))
+                .cargoType(CargoType.values()[0])
+                .cargoWeight(100.0)
+                .vehicleType(VehicleType.CARGO)
+                .pickupPoint(GEOMETRY_FACTORY.createPoint(new Coordinate(126.9780, 37.5665)))
+                .dropoffPoint(GEOMETRY_FACTORY.createPoint(new Coordinate(129.0756, 35.1796)))
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.tjoeun.boxmon.feature.shipment.service;
+
+import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
+import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
+import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
+import com.tjoeun.boxmon.global.naver.service.RouteLookupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RemainingEtaServiceTests {
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private final ShipmentRepository shipmentRepository = mock(ShipmentRepository.class);
+    private final RouteLookupService routeLookupService = mock(RouteLookupService.class);
+    private final ShipmentDistanceEstimator distanceEstimator = mock(ShipmentDistanceEstimator.class);
+    private final RemainingEtaService service = new RemainingEtaService(
+            shipmentRepository,
+            routeLookupService,
+            distanceEstimator,
+            Duration.ofMinutes(3),
+            Duration.ofSeconds(30),
+            500.0,
+            16,
+            Duration.ofHours(6),
+            1000L
+    );
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("마지막 계산 이후 시간이 충분히 지나거나 일정 거리 이상 이동해야 다시 계산한다")
+    void isFresh_throttlesByTimeAndDistance() {
+        LocalDateTime computedAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+        RemainingEta eta = new RemainingEta(12.0, computedAt.plusMinutes(20), computedAt, 37.5, 127.0, false);
+
+        // 1분 경과, 약 110m 이동 → 유지
+        assertTrue(service.isFresh(eta, 37.501, 127.0, computedAt.plusMinutes(1)));
+        // 약 1.1km 이동 → 재계산
+        assertFalse(service.isFresh(eta, 37.51, 127.0, computedAt.plusMinutes(1)));
+        // 3분 경과 → 재계산
+        assertFalse(service.isFresh(eta, 37.5, 127.0, computedAt.plusMinutes(3)));
+        assertFalse(service.isFresh(null, 37.5, 127.0, computedAt));
+    }
+
+    @Test
+    @DisplayName("직선거리 추정값은 짧은 주기로 다시 시도한다")
+    void isFresh_retriesEstimatedSooner() {
+        LocalDateTime computedAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+        RemainingEta estimated = new RemainingEta(12.0, computedAt.plusMinutes(20), computedAt, 37.5, 127.0, true);
+
+        assertTrue(service.isFresh(estimated, 37.5, 127.0, computedAt.plusSeconds(10)));
+        assertFalse(service.isFresh(estimated, 37.5, 127.0, computedAt.plusSeconds(31)));
+    }
+
+    @Test
+    @DisplayName("보관된 ETA가 오래되었으면 그대로 반환하고 갱신은 백그라운드로 예약한다")
+    void getOrCompute_staleEta_shouldReturnStoredAndRefreshInBackground() {
+        Shipment shipment = inTransitShipment();
+        when(routeLookupService.lookup(any(), any(), anyList())).thenReturn(new RouteSummary(12.0, 1200, null, false));
+        when(shipmentRepository.findById(1L)).thenReturn(Optional.empty());
+
+        RemainingEta first = service.getOrCompute(shipment, point(127.0, 37.5)).orElseThrow();
+        // 약 1.1km 이동해 갱신 조건을 만족해도 조회 스레드에서는 다시 계산하지 않음
+        RemainingEta second = service.getOrCompute(shipment, point(127.0, 37.51)).orElseThrow();
+
+        assertEquals(first, second);
+        verify(routeLookupService, times(1)).lookup(any(), any(), anyList());
+        verify(shipmentRepository, timeout(1_000)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 보관된 ETA가 없으면 길찾기 대신 로컬 추정값을 반환한다")
+    void getOrCompute_insideTransaction_shouldNotCallDirections() {
+        Shipment shipment = inTransitShipment();
+        when(distanceEstimator.estimate(any(), any(), anyList())).thenReturn(RouteSummary.estimate(15.0, 900));
+        when(shipmentRepository.findById(1L)).thenReturn(Optional.empty());
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            RemainingEta eta = service.getOrCompute(shipment, point(127.0, 37.5)).orElseThrow();
+
+            assertTrue(eta.estimated());
+            assertEquals(15.0, eta.distanceKm());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verify(routeLookupService, never()).lookup(any(), any(), anyList());
+        verify(shipmentRepository, timeout(1_000)).findById(1L);
+    }
+
+    private Shipment inTransitShipment() {
+        return Shipment.builder()
+                .shipmentId(1L)
+                .shipmentStatus(ShipmentStatus.IN_TRANSIT)
+                .dropoffPoint(point(128.1, 37.6))
+                .build();
+    }
+
+    private Point point(double lng, double lat) {
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(lng, lat));
+    }
+}
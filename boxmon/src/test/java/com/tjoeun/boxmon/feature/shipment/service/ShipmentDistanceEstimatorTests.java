@@ -0,0 +1,50 @@
+package com.tjoeun.boxmon.feature.shipment.service;
+
+import com.tjoeun.boxmon.feature.shipment.repository.projection.RouteDistanceSampleProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ShipmentDistanceEstimatorTests {
+
+    @Test
+    @DisplayName("우회 계수는 유효 표본 비율의 중앙값이며 짧은 구간과 이상치는 제외한다")
+    void calibrateRoadFactor_usesMedianOfValidRatios() {
+        List<RouteDistanceSampleProjection> samples = List.of(
+                sample(12.0, 10_000),   // 1.2
+                sample(13.0, 10_000),   // 1.3
+                sample(14.0, 10_000),   // 1.4
+                sample(50.0, 10_000),   // 5.0 이상치 제외
+                sample(3.0, 500),       // 직선 1km 미만 제외
+                sample(null, 10_000)    // 거리 누락 제외
+        );
+
+        assertEquals(1.3, ShipmentDistanceEstimator.calibrateRoadFactor(samples, 3), 0.0001);
+    }
+
+    @Test
+    @DisplayName("유효 표본이 최소 개수보다 적으면 보정하지 않는다")
+    void calibrateRoadFactor_returnsNullWhenNotEnoughSamples() {
+        List<RouteDistanceSampleProjection> samples = List.of(sample(12.0, 10_000), sample(14.0, 10_000));
+
+        assertNull(ShipmentDistanceEstimator.calibrateRoadFactor(samples, 3));
+    }
+
+    private RouteDistanceSampleProjection sample(Double routeKm, double straightMeters) {
+        return new RouteDistanceSampleProjection() {
+            @Override
+            public Double getRouteKm() {
+                return routeKm;
+            }
+
+            @Override
+            public Double getStraightMeters() {
+                return straightMeters;
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.tjoeun.boxmon.feature.shipment.service;
+
+import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
+import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.ShipmentParticipants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShipmentParticipantsCacheTests {
+
+    private final ShipmentRepository shipmentRepository = mock(ShipmentRepository.class);
+    private final ShipmentParticipantsCache cache = new ShipmentParticipantsCache(
+            shipmentRepository, new SimpleMeterRegistry(), "simple", Duration.ofMinutes(10), Duration.ofSeconds(30), 100);
+
+    @Test
+    @DisplayName("같은 배송은 한 번만 조회하고, 무효화 후에는 바뀐 상태를 다시 읽는다.")
+    void find_shouldCacheUntilEvicted() {
+        Long shipmentId = 1L;
+        when(shipmentRepository.findParticipantsById(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, null, ShipmentStatus.REQUESTED)))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, 2L, ShipmentStatus.ASSIGNED)));
+
+        cache.find(shipmentId);
+        assertEquals(ShipmentStatus.REQUESTED, cache.find(shipmentId).orElseThrow().shipmentStatus());
+        verify(shipmentRepository, times(1)).findParticipantsById(shipmentId);
+
+        cache.evictAfterCommit(shipmentId);
+
+        ShipmentParticipants reloaded = cache.find(shipmentId).orElseThrow();
+        assertEquals(ShipmentStatus.ASSIGNED, reloaded.shipmentStatus());
+        assertEquals(2L, reloaded.driverId());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 배송은 캐시하지 않는다.")
+    void find_missingShipment_shouldNotCache() {
+        when(shipmentRepository.findParticipantsById(9L)).thenReturn(Optional.empty());
+
+        assertTrue(cache.find(9L).isEmpty());
+        assertTrue(cache.find(9L).isEmpty());
+        verify(shipmentRepository, times(2)).findParticipantsById(9L);
+    }
+
+    @Test
+    @DisplayName("다시 읽기는 캐시를 거치지 않고 DB 값으로 캐시를 교체한다.")
+    void reload_shouldBypassAndReplaceCachedValue() {
+        Long shipmentId = 2L;
+        when(shipmentRepository.findParticipantsById(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, null, ShipmentStatus.REQUESTED)))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, 2L, ShipmentStatus.ASSIGNED)));
+
+        cache.find(shipmentId);
+        assertEquals(2L, cache.reload(shipmentId).orElseThrow().driverId());
+        assertEquals(ShipmentStatus.ASSIGNED, cache.find(shipmentId).orElseThrow().shipmentStatus());
+        verify(shipmentRepository, times(2)).findParticipantsById(shipmentId);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 전에 다시 적재된 이전 값도 트랜잭션 종료 시 정리한다.")
+    void evictAfterCommit_insideTransaction_shouldEvictAgainAfterCompletion() {
+        Long shipmentId = 3L;
+        when(shipmentRepository.findParticipantsById(shipmentId))
+                .thenReturn(Optional.of(new ShipmentParticipants(shipmentId, 1L, null, ShipmentStatus.REQUESTED)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evictAfterCommit(shipmentId);
+            // 커밋 전 다른 요청이 이전 상태를 다시 적재
+            cache.find(shipmentId);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.find(shipmentId);
+        verify(shipmentRepository, times(2)).findParticipantsById(shipmentId);
+    }
+}
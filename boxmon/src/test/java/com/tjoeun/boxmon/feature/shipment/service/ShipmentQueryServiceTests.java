@@ -1,16 +1,23 @@
 package com.tjoeun.boxmon.feature.shipment.service;
 
-import com.tjoeun.boxmon.exception.ExternalServiceException;
+import com.tjoeun.boxmon.feature.location.service.LiveLocationRegistry;
 import com.tjoeun.boxmon.feature.shipment.domain.Shipment;
 import com.tjoeun.boxmon.feature.shipment.domain.ShipmentStatus;
 import com.tjoeun.boxmon.feature.shipment.dto.DriverTodaySummaryResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.NearbyShipmentResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.NearbyShipmentSearchRequest;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentDetailResponse;
+import com.tjoeun.boxmon.feature.shipment.dto.ShipmentListCursor;
+import com.tjoeun.boxmon.feature.shipment.dto.UnassignedShipmentResponse;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentPriceGuideRequest;
 import com.tjoeun.boxmon.feature.shipment.dto.ShipmentPriceGuideResponse;
 import com.tjoeun.boxmon.feature.shipment.mapper.ShipmentMapper;
 import com.tjoeun.boxmon.feature.shipment.repository.ShipmentRepository;
-import com.tjoeun.boxmon.global.naver.api.NaverDirectionsApiClient;
-import com.tjoeun.boxmon.global.naver.dto.NaverDirectionsResponse;
+import com.tjoeun.boxmon.feature.shipment.repository.projection.NearbyShipmentProjection;
+import com.tjoeun.boxmon.global.dto.CursorPageResponse;
+import com.tjoeun.boxmon.global.util.CursorCodec;
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
+import com.tjoeun.boxmon.global.naver.service.RouteLookupService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,22 +28,29 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.geo.Point;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -48,7 +62,10 @@ class ShipmentQueryServiceTests {
     private ShipmentRepository shipmentRepository;
 
     @Mock
-    private NaverDirectionsApiClient naverDirectionsApiClient;
+    private RouteLookupService routeLookupService;
+
+    @Mock
+    private ShipmentDistanceEstimator distanceEstimator;
 
     @Mock
     private ShipmentDomainSupport support;
@@ -56,6 +73,12 @@ class ShipmentQueryServiceTests {
     @Mock
     private ShipmentMapper shipmentMapper;
 
+    @Mock
+    private LiveLocationRegistry liveLocationRegistry;
+
+    @Mock
+    private RemainingEtaService remainingEtaService;
+
     @InjectMocks
     private ShipmentQueryService shipmentQueryService;
 
@@ -148,87 +171,86 @@ class ShipmentQueryServiceTests {
     }
 
     @Test
-    @DisplayName("배차 수락 상세 조회 시 전체 경로 기반 예상 거리와 도착 시간을 반환한다")
-    void getShipmentAcceptDetail_returnsDistanceAndEstimatedArrivalTime() {
-        Long shipmentId = 10L;
+    @DisplayName("배차 수락 상세 조회 시 등록 시점에 저장된 경로 요약으로 예상 거리와 도착 시간을 반환한다")
+    void getShipmentAcceptDetail_usesStoredRouteSummary() {
+        Long shipmentId = 13L;
         LocalDateTime pickupDesiredAt = LocalDateTime.of(2026, 3, 11, 9, 0);
         Shipment shipment = Shipment.builder()
                 .shipmentId(shipmentId)
                 .pickupDesiredAt(pickupDesiredAt)
+                .estimatedDistance(12.5)
+                .estimatedDurationSeconds(5400L)
                 .pickupPoint(GEOMETRY_FACTORY.createPoint(new Coordinate(127.1000, 37.5000)))
                 .dropoffPoint(GEOMETRY_FACTORY.createPoint(new Coordinate(128.1000, 37.6000)))
-                .waypoint1Point(GEOMETRY_FACTORY.createPoint(new Coordinate(127.5000, 37.5500)))
-                .waypoint2Point(GEOMETRY_FACTORY.createPoint(new Coordinate(127.8000, 37.5800)))
                 .build();
         ShipmentDetailResponse mappedResponse = new ShipmentDetailResponse();
-        NaverDirectionsResponse directionsResponse = createDirectionsResponse(12500, 5400000);
 
-        when(shipmentRepository.findById(shipmentId)).thenReturn(Optional.of(shipment));
+        when(shipmentRepository.findDetailById(shipmentId)).thenReturn(Optional.of(shipment));
         when(shipmentMapper.toDetailResponse(shipment, true, true)).thenReturn(mappedResponse);
-        when(naverDirectionsApiClient.getDirections(
-                "127.1,37.5",
-                "128.1,37.6",
-                List.of("127.5,37.55", "127.8,37.58")))
-                .thenReturn(Optional.of(directionsResponse));
 
         ShipmentDetailResponse response = shipmentQueryService.getShipmentAcceptDetail(shipmentId);
 
         assertEquals(mappedResponse, response);
         assertEquals("12.5", response.getDistanceToDestination());
-        assertEquals(pickupDesiredAt.plus(Duration.ofMillis(5400000)), response.getEstimatedArrivalTime());
+        assertEquals(pickupDesiredAt.plusSeconds(5400), response.getEstimatedArrivalTime());
+        org.mockito.Mockito.verifyNoInteractions(routeLookupService, distanceEstimator);
     }
 
     @Test
-    @DisplayName("배차 수락 상세 조회 시 길찾기 응답이 없으면 예상 거리와 도착 시간은 null이다")
-    void getShipmentAcceptDetail_returnsNullWhenDirectionsUnavailable() {
-        Long shipmentId = 11L;
+    @DisplayName("배차 수락 상세 조회 시 소요 시간이 저장되지 않았으면 저장된 거리로 ETA를 추정하고 길찾기 API를 호출하지 않는다")
+    void getShipmentAcceptDetail_estimatesDurationFromStoredDistance() {
+        Long shipmentId = 10L;
+        LocalDateTime pickupDesiredAt = LocalDateTime.of(2026, 3, 11, 9, 0);
         Shipment shipment = Shipment.builder()
                 .shipmentId(shipmentId)
-                .pickupDesiredAt(LocalDateTime.of(2026, 3, 11, 9, 0))
+                .pickupDesiredAt(pickupDesiredAt)
+                .estimatedDistance(60.0)
                 .pickupPoint(GEOMETRY_FACTORY.createPoint(new Coordinate(127.1000, 37.5000)))
                 .dropoffPoint(GEOMETRY_FACTORY.createPoint(new Coordinate(128.1000, 37.6000)))
                 .build();
         ShipmentDetailResponse mappedResponse = new ShipmentDetailResponse();
 
-        when(shipmentRepository.findById(shipmentId)).thenReturn(Optional.of(shipment));
+        when(shipmentRepository.findDetailById(shipmentId)).thenReturn(Optional.of(shipment));
         when(shipmentMapper.toDetailResponse(shipment, true, true)).thenReturn(mappedResponse);
-        when(naverDirectionsApiClient.getDirections("127.1,37.5", "128.1,37.6", List.of()))
-                .thenReturn(Optional.empty());
+        when(distanceEstimator.estimateDurationSeconds(60.0)).thenReturn(3600L);
 
         ShipmentDetailResponse response = shipmentQueryService.getShipmentAcceptDetail(shipmentId);
 
-        assertEquals(mappedResponse, response);
-        assertNull(response.getDistanceToDestination());
-        assertNull(response.getEstimatedArrivalTime());
+        assertEquals("60.0", response.getDistanceToDestination());
+        assertEquals(pickupDesiredAt.plusHours(1), response.getEstimatedArrivalTime());
+        org.mockito.Mockito.verifyNoInteractions(routeLookupService);
     }
 
     @Test
-    @DisplayName("배차 수락 상세 조회 시 경유지 좌표를 길찾기 API에 그대로 전달한다")
-    void getShipmentAcceptDetail_passesWaypointsToDirectionsApi() {
+    @DisplayName("배차 수락 상세 조회 시 경로 요약이 없는 기존 데이터는 경유지를 포함해 로컬 추정한다")
+    void getShipmentAcceptDetail_estimatesLegacyShipmentLocally() {
         Long shipmentId = 12L;
+        LocalDateTime pickupDesiredAt = LocalDateTime.of(2026, 3, 11, 9, 0);
+        org.locationtech.jts.geom.Point waypoint1 = GEOMETRY_FACTORY.createPoint(new Coordinate(127.5000, 37.5500));
         Shipment shipment = Shipment.builder()
                 .shipmentId(shipmentId)
-                .pickupDesiredAt(LocalDateTime.of(2026, 3, 11, 9, 0))
+                .pickupDesiredAt(pickupDesiredAt)
                 .pickupPoint(GEOMETRY_FACTORY.createPoint(new Coordinate(127.1000, 37.5000)))
                 .dropoffPoint(GEOMETRY_FACTORY.createPoint(new Coordinate(128.1000, 37.6000)))
-                .waypoint1Point(GEOMETRY_FACTORY.createPoint(new Coordinate(127.5000, 37.5500)))
+                .waypoint1Point(waypoint1)
                 .build();
         ShipmentDetailResponse mappedResponse = new ShipmentDetailResponse();
-        ArgumentCaptor<List<String>> waypointsCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<org.locationtech.jts.geom.Point>> waypointsCaptor = ArgumentCaptor.forClass(List.class);
 
-        when(shipmentRepository.findById(shipmentId)).thenReturn(Optional.of(shipment));
+        when(shipmentRepository.findDetailById(shipmentId)).thenReturn(Optional.of(shipment));
         when(shipmentMapper.toDetailResponse(shipment, true, true)).thenReturn(mappedResponse);
-        when(naverDirectionsApiClient.getDirections(any(), any(), anyList()))
-                .thenReturn(Optional.of(createDirectionsResponse(1000, 600000)));
+        when(distanceEstimator.estimate(any(), any(), anyList())).thenReturn(RouteSummary.estimate(12.5, 900));
 
-        shipmentQueryService.getShipmentAcceptDetail(shipmentId);
+        ShipmentDetailResponse response = shipmentQueryService.getShipmentAcceptDetail(shipmentId);
 
-        verify(naverDirectionsApiClient).getDirections(
-                org.mockito.ArgumentMatchers.eq("127.1,37.5"),
-                org.mockito.ArgumentMatchers.eq("128.1,37.6"),
+        verify(distanceEstimator).estimate(
+                org.mockito.ArgumentMatchers.eq(shipment.getPickupPoint()),
+                org.mockito.ArgumentMatchers.eq(shipment.getDropoffPoint()),
                 waypointsCaptor.capture());
-        assertEquals(List.of("127.5,37.55"), waypointsCaptor.getValue());
-        assertTrue(mappedResponse.getEstimatedArrivalTime() != null);
+        assertEquals(List.of(waypoint1), waypointsCaptor.getValue());
+        assertEquals("12.5", response.getDistanceToDestination());
+        assertEquals(pickupDesiredAt.plusSeconds(900), response.getEstimatedArrivalTime());
+        org.mockito.Mockito.verifyNoInteractions(routeLookupService);
     }
 
     @Test
@@ -237,13 +259,14 @@ class ShipmentQueryServiceTests {
         Long shipperId = 21L;
         ShipmentPriceGuideRequest request = basePriceGuideRequest();
 
-        when(naverDirectionsApiClient.getDirections("127.1,37.5", "128.1,37.6", List.of()))
-                .thenReturn(Optional.of(createDirectionsResponse(35200, 5400000)));
+        when(routeLookupService.lookup(any(), any(), anyList()))
+                .thenReturn(new RouteSummary(35.2, 5400, null, false));
 
         ShipmentPriceGuideResponse response = shipmentQueryService.getShipmentPriceGuide(shipperId, request);
 
         assertEquals(35.2, response.getEstimatedDistanceKm(), 0.0001);
         assertEquals(87240, response.getRecommendedPrice());
+        assertFalse(response.isApproximate());
         verify(support).validateShipperAccess(shipperId);
     }
 
@@ -252,16 +275,16 @@ class ShipmentQueryServiceTests {
     void getShipmentPriceGuide_appliesTieredPriceTable() {
         Long shipperId = 22L;
 
-        when(naverDirectionsApiClient.getDirections(any(), any(), anyList()))
-                .thenReturn(Optional.of(createDirectionsResponse(19900, 1)));
+        when(routeLookupService.lookup(any(), any(), anyList()))
+                .thenReturn(new RouteSummary(19.9, 1, null, false));
         ShipmentPriceGuideResponse shortResponse = shipmentQueryService.getShipmentPriceGuide(shipperId, basePriceGuideRequest());
 
-        when(naverDirectionsApiClient.getDirections(any(), any(), anyList()))
-                .thenReturn(Optional.of(createDirectionsResponse(50000, 1)));
+        when(routeLookupService.lookup(any(), any(), anyList()))
+                .thenReturn(new RouteSummary(50.0, 1, null, false));
         ShipmentPriceGuideResponse longResponse = shipmentQueryService.getShipmentPriceGuide(shipperId, basePriceGuideRequest());
 
-        when(naverDirectionsApiClient.getDirections(any(), any(), anyList()))
-                .thenReturn(Optional.of(createDirectionsResponse(100000, 1)));
+        when(routeLookupService.lookup(any(), any(), anyList()))
+                .thenReturn(new RouteSummary(100.0, 1, null, false));
         ShipmentPriceGuideResponse extraLongResponse = shipmentQueryService.getShipmentPriceGuide(shipperId, basePriceGuideRequest());
 
         assertEquals(45000, shortResponse.getRecommendedPrice());
@@ -270,20 +293,41 @@ class ShipmentQueryServiceTests {
     }
 
     @Test
-    @DisplayName("운임 가이드 조회 시 길찾기 응답이 없으면 예외를 던진다")
-    void getShipmentPriceGuide_throwsWhenDirectionsUnavailable() {
+    @DisplayName("운임 가이드 조회 시 길찾기 대신 추정 거리가 오면 보정된 로컬 추정으로 대체하고 근사값임을 표시한다")
+    void getShipmentPriceGuide_usesCalibratedEstimateWhenRouteEstimated() {
         Long shipperId = 23L;
 
-        when(naverDirectionsApiClient.getDirections(any(), any(), anyList()))
-                .thenReturn(Optional.empty());
+        when(routeLookupService.lookup(any(), any(), anyList()))
+                .thenReturn(RouteSummary.estimate(40.0, 2400));
+        when(distanceEstimator.estimate(any(), any(), anyList()))
+                .thenReturn(RouteSummary.estimate(50.0, 3000));
+
+        ShipmentPriceGuideResponse response = shipmentQueryService.getShipmentPriceGuide(shipperId, basePriceGuideRequest());
+
+        assertTrue(response.isApproximate());
+        assertEquals(50.0, response.getEstimatedDistanceKm(), 0.0001);
+        assertEquals(131000, response.getRecommendedPrice());
+    }
 
-        assertThrows(ExternalServiceException.class,
-                () -> shipmentQueryService.getShipmentPriceGuide(shipperId, basePriceGuideRequest()));
+    @Test
+    @DisplayName("운임 가이드 fast path 설정 시 길찾기 API를 호출하지 않는다")
+    void getShipmentPriceGuide_skipsRouteLookupOnFastPath() {
+        Long shipperId = 25L;
+
+        when(distanceEstimator.usePriceGuideFastPath()).thenReturn(true);
+        when(distanceEstimator.estimate(any(), any(), anyList()))
+                .thenReturn(RouteSummary.estimate(19.9, 1200));
+
+        ShipmentPriceGuideResponse response = shipmentQueryService.getShipmentPriceGuide(shipperId, basePriceGuideRequest());
+
+        assertTrue(response.isApproximate());
+        assertEquals(45000, response.getRecommendedPrice());
+        org.mockito.Mockito.verifyNoInteractions(routeLookupService);
     }
 
     @Test
-    @DisplayName("운임 가이드 조회 시 경유지 좌표를 길찾기 API에 전달한다")
-    void getShipmentPriceGuide_passesWaypointsToDirectionsApi() {
+    @DisplayName("운임 가이드 조회 시 경유지 좌표를 경로 조회에 전달한다")
+    void getShipmentPriceGuide_passesWaypointsToRouteLookup() {
         Long shipperId = 24L;
         ShipmentPriceGuideRequest request = ShipmentPriceGuideRequest.builder()
                 .pickupPoint(new Point(127.1000, 37.5000))
@@ -291,18 +335,112 @@ class ShipmentQueryServiceTests {
                 .waypoint1Point(new Point(127.5000, 37.5500))
                 .waypoint2Point(new Point(127.8000, 37.5800))
                 .build();
-        ArgumentCaptor<List<String>> waypointsCaptor = ArgumentCaptor.forClass(List.class);
+        org.locationtech.jts.geom.Point waypoint1 = GEOMETRY_FACTORY.createPoint(new Coordinate(127.5, 37.55));
+        org.locationtech.jts.geom.Point waypoint2 = GEOMETRY_FACTORY.createPoint(new Coordinate(127.8, 37.58));
+        ArgumentCaptor<List<org.locationtech.jts.geom.Point>> waypointsCaptor = ArgumentCaptor.forClass(List.class);
 
-        when(naverDirectionsApiClient.getDirections(any(), any(), anyList()))
-                .thenReturn(Optional.of(createDirectionsResponse(1000, 600000)));
+        when(support.convertToJtsPoint(request.getWaypoint1Point())).thenReturn(waypoint1);
+        when(support.convertToJtsPoint(request.getWaypoint2Point())).thenReturn(waypoint2);
+        when(routeLookupService.lookup(any(), any(), anyList()))
+                .thenReturn(new RouteSummary(1.0, 600, null, false));
 
         shipmentQueryService.getShipmentPriceGuide(shipperId, request);
 
-        verify(naverDirectionsApiClient).getDirections(
-                org.mockito.ArgumentMatchers.eq("127.1,37.5"),
-                org.mockito.ArgumentMatchers.eq("128.1,37.6"),
-                waypointsCaptor.capture());
-        assertEquals(List.of("127.5,37.55", "127.8,37.58"), waypointsCaptor.getValue());
+        verify(routeLookupService).lookup(any(), any(), waypointsCaptor.capture());
+        assertEquals(List.of(waypoint1, waypoint2), waypointsCaptor.getValue());
+    }
+
+    @Test
+    @DisplayName("주변 미배차 조회 시 size + 1건이 조회되면 다음 페이지 커서를 (거리, ID)로 만든다")
+    void getNearbyUnassignedShipments_returnsNextCursorWhenMoreRows() {
+        Long driverId = 30L;
+        NearbyShipmentSearchRequest request = new NearbyShipmentSearchRequest();
+        request.setLat(37.5);
+        request.setLng(127.0);
+        request.setSize(2);
+
+        NearbyShipmentProjection first = mock(NearbyShipmentProjection.class);
+        NearbyShipmentProjection second = mock(NearbyShipmentProjection.class);
+        NearbyShipmentProjection third = mock(NearbyShipmentProjection.class);
+        when(second.getDistanceMeters()).thenReturn(1520.5);
+        when(second.getShipmentId()).thenReturn(12L);
+
+        when(support.resolvePageSize(2)).thenReturn(2);
+        when(shipmentRepository.findNearbyRequestedShipments(
+                anyString(), anyString(), anyDouble(), isNull(), anyBoolean(), anyBoolean(),
+                isNull(), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of(first, second, third));
+        when(shipmentMapper.toNearbyShipmentResponse(any(NearbyShipmentProjection.class)))
+                .thenReturn(NearbyShipmentResponse.builder().build());
+
+        CursorPageResponse<NearbyShipmentResponse> response =
+                shipmentQueryService.getNearbyUnassignedShipments(driverId, request);
+
+        assertEquals(2, response.getItems().size());
+        assertTrue(response.isHasNext());
+        assertArrayEquals(new String[]{"1520.5", "12"}, CursorCodec.decode(response.getNextCursor(), 2));
+        verify(support).validateDriverAccess(driverId);
+    }
+
+    @Test
+    @DisplayName("주변 미배차 조회 시 기본 반경 30km와 커서 값을 쿼리에 전달한다")
+    void getNearbyUnassignedShipments_passesDefaultRadiusAndCursor() {
+        NearbyShipmentSearchRequest request = new NearbyShipmentSearchRequest();
+        request.setLat(37.5);
+        request.setLng(127.0);
+        request.setCursor(CursorCodec.encode(800.0, 5L));
+
+        when(support.resolvePageSize(null)).thenReturn(20);
+        when(shipmentRepository.findNearbyRequestedShipments(
+                anyString(), anyString(), anyDouble(), isNull(), anyBoolean(), anyBoolean(),
+                isNull(), any(), any(), anyInt()))
+                .thenReturn(List.of());
+
+        CursorPageResponse<NearbyShipmentResponse> response =
+                shipmentQueryService.getNearbyUnassignedShipments(31L, request);
+
+        verify(shipmentRepository).findNearbyRequestedShipments(
+                org.mockito.ArgumentMatchers.eq("POINT(127.0000000 37.5000000)"),
+                anyString(),
+                org.mockito.ArgumentMatchers.eq(30000.0),
+                isNull(),
+                org.mockito.ArgumentMatchers.eq(false),
+                org.mockito.ArgumentMatchers.eq(false),
+                isNull(),
+                org.mockito.ArgumentMatchers.eq(800.0),
+                org.mockito.ArgumentMatchers.eq(5L),
+                org.mockito.ArgumentMatchers.eq(21));
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("미배차 목록 조회 시 커서의 (생성일시, ID)를 넘기고 size + 1건으로 다음 페이지 여부를 판단한다")
+    void getUnassignedShipments_usesKeysetCursor() {
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2026, 3, 1, 9, 0);
+        String cursor = ShipmentListCursor.encode(Shipment.builder().shipmentId(50L).createdAt(cursorCreatedAt).build());
+        LocalDateTime lastCreatedAt = LocalDateTime.of(2026, 2, 28, 18, 30);
+        Shipment newer = Shipment.builder().shipmentId(49L).createdAt(cursorCreatedAt).build();
+        Shipment last = Shipment.builder().shipmentId(40L).createdAt(lastCreatedAt).build();
+        Shipment extra = Shipment.builder().shipmentId(39L).createdAt(lastCreatedAt).build();
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+
+        when(support.resolvePageSize(2)).thenReturn(2);
+        when(shipmentRepository.findPageByShipmentStatus(
+                org.mockito.ArgumentMatchers.eq(ShipmentStatus.REQUESTED),
+                org.mockito.ArgumentMatchers.eq(cursorCreatedAt),
+                org.mockito.ArgumentMatchers.eq(50L),
+                pageableCaptor.capture()))
+                .thenReturn(List.of(newer, last, extra));
+        when(shipmentMapper.toUnassignedShipmentResponse(any(Shipment.class)))
+                .thenReturn(UnassignedShipmentResponse.builder().build());
+
+        CursorPageResponse<UnassignedShipmentResponse> response = shipmentQueryService.getUnassignedShipments(cursor, 2);
+
+        assertEquals(3, pageableCaptor.getValue().getPageSize());
+        assertEquals(2, response.getItems().size());
+        assertTrue(response.isHasNext());
+        assertEquals(new ShipmentListCursor(lastCreatedAt, 40L), ShipmentListCursor.from(response.getNextCursor()));
     }
 
     private ShipmentPriceGuideRequest basePriceGuideRequest() {
@@ -311,20 +449,4 @@ class ShipmentQueryServiceTests {
                 .dropoffPoint(new Point(128.1000, 37.6000))
                 .build();
     }
-
-    private NaverDirectionsResponse createDirectionsResponse(double distance, int duration) {
-        NaverDirectionsResponse.Summary summary = new NaverDirectionsResponse.Summary();
-        summary.setDistance(distance);
-        summary.setDuration(duration);
-
-        NaverDirectionsResponse.TrafficGuide trafast = new NaverDirectionsResponse.TrafficGuide();
-        trafast.setSummary(summary);
-
-        NaverDirectionsResponse.Route route = new NaverDirectionsResponse.Route();
-        route.setTrafast(List.of(trafast));
-
-        NaverDirectionsResponse response = new NaverDirectionsResponse();
-        response.setRoute(route);
-        return response;
-    }
 }
@@ -0,0 +1,39 @@
+package com.tjoeun.boxmon.global.naver.api;
+
+import com.tjoeun.boxmon.global.naver.dto.NaverDirectionsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NaverDirectionsRouteCacheTests {
+
+    private final NaverDirectionsRouteCache routeCache =
+            new NaverDirectionsRouteCache(Duration.ofMinutes(10), 100, 0.001, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("격자 안의 근접 좌표는 같은 캐시 키로 스냅된다")
+    void keyOf_snapsNearbyCoordinatesToSameKey() {
+        String key1 = routeCache.keyOf("127.10012,37.50004", "128.1,37.6", List.of("127.5,37.55"));
+        String key2 = routeCache.keyOf("127.10041,37.49981", "128.1,37.6", List.of("127.5,37.55"));
+        String otherWaypoint = routeCache.keyOf("127.10012,37.50004", "128.1,37.6", List.of("127.6,37.55"));
+
+        assertEquals(key1, key2);
+        assertNotEquals(key1, otherWaypoint);
+    }
+
+    @Test
+    @DisplayName("경로 요약이 없는 응답은 캐시하지 않는다")
+    void put_skipsResponsesWithoutRoute() {
+        String key = routeCache.keyOf("127.1,37.5", "128.1,37.6", List.of());
+        routeCache.put(key, new NaverDirectionsResponse());
+
+        assertTrue(routeCache.get(key).isEmpty());
+    }
+}
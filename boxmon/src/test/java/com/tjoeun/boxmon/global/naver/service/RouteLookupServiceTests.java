@@ -0,0 +1,122 @@
+package com.tjoeun.boxmon.global.naver.service;
+
+import com.tjoeun.boxmon.global.naver.api.NaverDirectionsApiClient;
+import com.tjoeun.boxmon.global.naver.dto.NaverDirectionsResponse;
+import com.tjoeun.boxmon.global.naver.dto.RouteSummary;
+import com.tjoeun.boxmon.global.util.GeoDistance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RouteLookupServiceTests {
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private final NaverDirectionsApiClient naverDirectionsApiClient = mock(NaverDirectionsApiClient.class);
+    private final RouteFallbackEstimator fallbackEstimator =
+            (start, goal, waypoints) -> RouteSummary.estimate(GeoDistance.haversineKm(start, goal) * 1.3, 0);
+    private final RouteLookupService routeLookupService = new RouteLookupService(
+            naverDirectionsApiClient, fallbackEstimator, 2, 4, Duration.ofSeconds(1), 2, Duration.ofMinutes(1));
+
+    private final Point start = GEOMETRY_FACTORY.createPoint(new Coordinate(127.1, 37.5));
+    private final Point goal = GEOMETRY_FACTORY.createPoint(new Coordinate(128.1, 37.6));
+
+    @AfterEach
+    void tearDown() {
+        routeLookupService.shutdown();
+    }
+
+    @Test
+    @DisplayName("경유지를 \"경도,위도\" 문자열로 전달하고 길찾기 요약을 반환한다")
+    void lookup_returnsDirectionsSummary() {
+        Point waypoint = GEOMETRY_FACTORY.createPoint(new Coordinate(127.5, 37.55));
+        when(naverDirectionsApiClient.fetchDirections("127.1,37.5", "128.1,37.6", List.of("127.5,37.55")))
+                .thenReturn(createDirectionsResponse(35200, 5400000));
+
+        RouteSummary summary = routeLookupService.lookup(start, goal, List.of(waypoint));
+
+        assertEquals(35.2, summary.distanceKm(), 0.0001);
+        assertEquals(5400, summary.durationSeconds());
+        assertFalse(summary.estimated());
+    }
+
+    @Test
+    @DisplayName("연속 실패 시 서킷이 열려 API를 호출하지 않고 대체 추정기 값을 반환한다")
+    void lookup_fallsBackAndOpensCircuitAfterFailures() {
+        when(naverDirectionsApiClient.fetchDirections(any(), any(), anyList()))
+                .thenThrow(new IllegalStateException("boom"));
+
+        routeLookupService.lookup(start, goal, List.of());
+        routeLookupService.lookup(start, goal, List.of());
+        RouteSummary summary = routeLookupService.lookup(start, goal, List.of());
+
+        verify(naverDirectionsApiClient, times(2)).fetchDirections(any(), any(), anyList());
+        assertTrue(summary.estimated());
+        assertEquals(GeoDistance.haversineKm(start, goal) * 1.3, summary.distanceKm(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("대기 중 인터럽트는 실패로 집계하지 않아 서킷 상태가 바뀌지 않는다")
+    void lookup_interruptDoesNotChangeCircuitState() {
+        when(naverDirectionsApiClient.fetchDirections(any(), any(), anyList()))
+                .thenReturn(createDirectionsResponse(35200, 5400000));
+
+        for (int i = 0; i < 2; i++) {
+            Thread.currentThread().interrupt();
+            assertTrue(routeLookupService.lookup(start, goal, List.of()).estimated());
+            Thread.interrupted();
+        }
+
+        // 실패 임계치(2)만큼 인터럽트돼도 서킷은 닫힌 채로 정상 응답을 반환
+        assertEquals(RouteCircuitBreaker.State.CLOSED, routeLookupService.circuitState());
+        assertFalse(routeLookupService.lookup(start, goal, List.of()).estimated());
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 인터럽트되면 슬롯만 반환해 다음 호출이 바로 다시 시험한다")
+    void circuitBreaker_ignoredTrialReleasesHalfOpenSlot() {
+        // 차단 시간 0: 실패 직후 바로 HALF_OPEN 시험 가능
+        RouteCircuitBreaker breaker = new RouteCircuitBreaker(1, Duration.ZERO, Clock.systemUTC());
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+        assertEquals(RouteCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onIgnored();
+
+        assertEquals(RouteCircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private NaverDirectionsResponse createDirectionsResponse(double distance, int duration) {
+        NaverDirectionsResponse.Summary summary = new NaverDirectionsResponse.Summary();
+        summary.setDistance(distance);
+        summary.setDuration(duration);
+
+        NaverDirectionsResponse.TrafficGuide trafast = new NaverDirectionsResponse.TrafficGuide();
+        trafast.setSummary(summary);
+
+        NaverDirectionsResponse.Route route = new NaverDirectionsResponse.Route();
+        route.setTrafast(List.of(trafast));
+
+        NaverDirectionsResponse response = new NaverDirectionsResponse();
+        response.setRoute(route);
+        return response;
+    }
+}